@@ -0,0 +1,21 @@
+package com.miempresa.redis.application.port.in;
+
+import com.miempresa.redis.domain.model.UniqueClientReport;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de entrada para consultar los clientes distintos por endpoint, para
+ * planificación de capacidad
+ */
+public interface ClientCardinalityUseCase {
+
+  /**
+   * Cuenta los clientes distintos de un endpoint en las últimas ventanas
+   *
+   * @param endpoint    Endpoint a consultar (se normaliza)
+   * @param granularity minute u hour
+   * @param windows     Ventanas a consultar, terminando en la actual
+   * @return Mono con la cantidad por ventana y la del rango completo
+   */
+  Mono<UniqueClientReport> getUniqueClients(String endpoint, String granularity, int windows);
+}
@@ -0,0 +1,28 @@
+package com.miempresa.redis.application.port.in;
+
+import com.miempresa.redis.domain.model.ConcurrencyPermit;
+import com.miempresa.redis.domain.model.RequestInfo;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de entrada para el caso de uso de límite de concurrencia distribuido
+ */
+public interface ConcurrencyLimitUseCase {
+
+  /**
+   * Intenta obtener un permiso de ejecución para la request
+   *
+   * @param requestInfo Información de la request
+   * @return Mono con el permiso; no requerido si el endpoint no tiene límite de
+   *         concurrencia
+   */
+  Mono<ConcurrencyPermit> acquirePermit(RequestInfo requestInfo);
+
+  /**
+   * Libera un permiso previamente obtenido
+   *
+   * @param permit Permiso a liberar
+   * @return Mono<Void> operación completada
+   */
+  Mono<Void> releasePermit(ConcurrencyPermit permit);
+}
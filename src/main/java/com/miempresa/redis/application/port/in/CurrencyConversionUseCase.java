@@ -1,6 +1,8 @@
 package com.miempresa.redis.application.port.in;
 
 import com.miempresa.redis.domain.model.CurrencyConversion;
+import com.miempresa.redis.domain.model.CurrencyConversionRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
@@ -50,4 +52,15 @@ public interface CurrencyConversionUseCase {
    * @return Mono con la tasa de cambio
    */
   Mono<BigDecimal> getExchangeRate(String sourceCurrency, String targetCurrency);
-}
\ No newline at end of file
+
+  /**
+   * Convierte un lote de montos en el mismo orden en que llegan
+   * La tasa de cada par distinto se obtiene una sola vez por lote. Los
+   * elementos que no se pueden convertir se emiten con el campo error en lugar
+   * de cortar el stream
+   * 
+   * @param requests Conversiones solicitadas
+   * @return Flux con una conversión por cada elemento del lote
+   */
+  Flux<CurrencyConversion> convertBatch(Flux<CurrencyConversionRequest> requests);
+}
@@ -0,0 +1,27 @@
+package com.miempresa.redis.application.port.in;
+
+import com.miempresa.redis.domain.model.DenialEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para el historial de requests rechazados
+ */
+public interface DenialAuditUseCase {
+
+  /**
+   * Registra un request rechazado
+   *
+   * @param event Rechazo a registrar
+   */
+  void recordDenial(DenialEvent event);
+
+  /**
+   * Obtiene los rechazos más recientes
+   *
+   * @param limit Cantidad máxima de eventos
+   * @return Mono con los eventos del más nuevo al más viejo
+   */
+  Mono<List<DenialEvent>> getRecentDenials(int limit);
+}
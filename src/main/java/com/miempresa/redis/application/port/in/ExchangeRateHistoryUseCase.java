@@ -0,0 +1,35 @@
+package com.miempresa.redis.application.port.in;
+
+import com.miempresa.redis.domain.model.ExchangeRatePoint;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Puerto de entrada para consultar tasas de cambio históricas
+ */
+public interface ExchangeRateHistoryUseCase {
+
+  /**
+   * Obtiene la tasa de cambio vigente en un instante
+   * 
+   * @param sourceCurrency Moneda origen (ej: PEN)
+   * @param targetCurrency Moneda destino (ej: USD)
+   * @param timestamp      Instante consultado
+   * @return Mono con la tasa vigente, vacío si no hay historial
+   */
+  Mono<ExchangeRatePoint> getExchangeRateAt(String sourceCurrency, String targetCurrency, Instant timestamp);
+
+  /**
+   * Obtiene la serie de tasas de cambio de un par en un rango de tiempo
+   * 
+   * @param sourceCurrency Moneda origen
+   * @param targetCurrency Moneda destino
+   * @param start          Inicio del rango (inclusivo)
+   * @param end            Fin del rango (inclusivo)
+   * @return Flux con la tasa al inicio del rango y cada cambio posterior
+   */
+  Flux<ExchangeRatePoint> getExchangeRateHistory(String sourceCurrency, String targetCurrency,
+      Instant start, Instant end);
+}
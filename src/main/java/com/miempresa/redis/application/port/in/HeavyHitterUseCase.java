@@ -0,0 +1,31 @@
+package com.miempresa.redis.application.port.in;
+
+import com.miempresa.redis.domain.model.HeavyHitter;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para detectar los clientes que más cuota consumen por
+ * endpoint
+ */
+public interface HeavyHitterUseCase {
+
+  /**
+   * Registra un request evaluado por el rate limiting
+   *
+   * @param endpoint Endpoint del request (se normaliza)
+   * @param clientIp IP del cliente
+   */
+  void recordRequest(String endpoint, String clientIp);
+
+  /**
+   * Obtiene los clientes con más requests de un endpoint
+   *
+   * @param endpoint Endpoint a consultar (se normaliza)
+   * @param limit    Cantidad máxima de clientes
+   * @param windows  Ventanas recientes a combinar
+   * @return Mono con los clientes de mayor a menor cantidad estimada
+   */
+  Mono<List<HeavyHitter>> getHeavyHitters(String endpoint, int limit, int windows);
+}
@@ -2,8 +2,12 @@ package com.miempresa.redis.application.port.in;
 
 import com.miempresa.redis.domain.model.RequestInfo;
 import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RateLimitDecision;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Puerto de entrada reactivo para el caso de uso de rate limiting
  */
@@ -15,7 +19,18 @@ public interface RateLimitUseCase {
    * @param requestInfo Información de la request
    * @return Mono<Boolean> true si está permitida, false si se excede el límite
    */
-  Mono<Boolean> isRequestAllowed(RequestInfo requestInfo);
+  default Mono<Boolean> isRequestAllowed(RequestInfo requestInfo) {
+    return checkRequest(requestInfo).map(RateLimitDecision::isAllowed);
+  }
+
+  /**
+   * Evalúa una request según el rate limiting
+   * 
+   * @param requestInfo Información de la request
+   * @return Mono<RateLimitDecision> permitir, rechazar o retener la request el
+   *         tiempo indicado
+   */
+  Mono<RateLimitDecision> checkRequest(RequestInfo requestInfo);
 
   /**
    * Actualiza la configuración de rate limiting para un endpoint
@@ -28,6 +43,22 @@ public interface RateLimitUseCase {
    */
   Mono<Void> updateConfiguration(String endpoint, int maxRequests, int timeWindowSeconds, boolean enabled);
 
+  /**
+   * Actualiza la configuración completa de rate limiting para un endpoint
+   * 
+   * @param config Configuración a guardar
+   * @return Mono<Void> operación completada
+   */
+  Mono<Void> updateConfiguration(RateLimitConfig config);
+
+  /**
+   * Actualiza varias configuraciones en un único batch
+   * 
+   * @param configs Configuraciones a guardar (ya validadas)
+   * @return Mono<Integer> número de configuraciones aplicadas
+   */
+  Mono<Integer> updateConfigurations(List<RateLimitConfig> configs);
+
   /**
    * Obtiene la configuración de rate limiting para un endpoint
    * 
@@ -36,4 +67,11 @@ public interface RateLimitUseCase {
    *         existe
    */
   Mono<RateLimitConfig> getConfiguration(String endpoint);
-}
\ No newline at end of file
+
+  /**
+   * Obtiene todas las configuraciones de rate limiting como un stream
+   * 
+   * @return Flux<RateLimitConfig> configuraciones existentes
+   */
+  Flux<RateLimitConfig> getAllConfigurations();
+}
@@ -0,0 +1,22 @@
+package com.miempresa.redis.application.port.out;
+
+import com.miempresa.redis.domain.model.TimeGranularity;
+import com.miempresa.redis.domain.model.UniqueClientReport;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida para consultar la cantidad de clientes distintos por
+ * endpoint
+ */
+public interface ClientCardinalityPort {
+
+  /**
+   * Cuenta los clientes distintos de un endpoint en las últimas ventanas
+   *
+   * @param endpoint    Endpoint normalizado
+   * @param granularity Tamaño de cada ventana
+   * @param windows     Ventanas a consultar, terminando en la actual
+   * @return Mono con la cantidad por ventana y la del rango completo
+   */
+  Mono<UniqueClientReport> countUniqueClients(String endpoint, TimeGranularity granularity, int windows);
+}
@@ -0,0 +1,29 @@
+package com.miempresa.redis.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida para límites de concurrencia distribuidos
+ * Define cómo el sistema reserva y libera permisos de ejecución simultánea
+ */
+public interface ConcurrencyLimitPort {
+
+  /**
+   * Intenta obtener un permiso de concurrencia sin esperar
+   *
+   * @param endpoint     Endpoint protegido
+   * @param maxPermits   Número máximo de permisos del endpoint
+   * @param leaseSeconds Tiempo tras el cual el permiso expira automáticamente
+   * @return Mono con el id del permiso o empty si no hay permisos disponibles
+   */
+  Mono<String> tryAcquire(String endpoint, int maxPermits, int leaseSeconds);
+
+  /**
+   * Libera un permiso de concurrencia
+   *
+   * @param endpoint Endpoint protegido
+   * @param permitId Id del permiso obtenido
+   * @return Mono que se completa cuando se libera el permiso
+   */
+  Mono<Void> release(String endpoint, String permitId);
+}
@@ -0,0 +1,29 @@
+package com.miempresa.redis.application.port.out;
+
+import com.miempresa.redis.domain.model.DenialEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para la auditoría de requests rechazados
+ */
+public interface DenialAuditPort {
+
+  /**
+   * Encola el rechazo para escribirlo en segundo plano, sin esperar a Redis
+   * Si el buffer está lleno el evento se descarta
+   *
+   * @param event Rechazo a registrar
+   * @return true si se encoló, false si se descartó
+   */
+  boolean record(DenialEvent event);
+
+  /**
+   * Obtiene los rechazos más recientes ya escritos
+   *
+   * @param limit Cantidad máxima de eventos
+   * @return Mono con los eventos del más nuevo al más viejo
+   */
+  Mono<List<DenialEvent>> findRecent(int limit);
+}
@@ -2,6 +2,7 @@ package com.miempresa.redis.application.port.out;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -30,6 +31,17 @@ public interface DistributedCachePort {
    */
   <T> Mono<Void> put(String key, T value);
 
+  /**
+   * Guarda un valor solo si la clave no existe, para que un valor leído antes
+   * de una escritura no sobrescriba al valor nuevo
+   * 
+   * @param key   Clave del cache
+   * @param value Valor a guardar
+   * @param <T>   Tipo genérico del valor
+   * @return Mono que se completa cuando se guarda el valor
+   */
+  <T> Mono<Void> putIfAbsent(String key, T value);
+
   /**
    * Guarda un valor en el cache distribuido con TTL
    * 
@@ -49,6 +61,14 @@ public interface DistributedCachePort {
    */
   Mono<Void> remove(String key);
 
+  /**
+   * Elimina varios valores del cache distribuido en una sola operación
+   * 
+   * @param keys Claves del cache
+   * @return Mono que se completa cuando se eliminan los valores
+   */
+  Mono<Void> removeAll(Collection<String> keys);
+
   /**
    * Verifica si existe una clave en el cache
    * 
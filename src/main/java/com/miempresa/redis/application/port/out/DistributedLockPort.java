@@ -1,38 +1,64 @@
 package com.miempresa.redis.application.port.out;
 
+import com.miempresa.redis.domain.model.LockLease;
 import reactor.core.publisher.Mono;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * Puerto de salida para funcionalidades de locks distribuidos
  * Define cómo el sistema obtiene y maneja locks distribuidos
+ * Los locks se identifican por un token de holder (no por hilo) y la espera
+ * no bloquea hilos
  */
 public interface DistributedLockPort {
 
   /**
-   * Intenta obtener un lock distribuido
+   * Intenta obtener un lock distribuido esperando sin bloquear
    * 
-   * @param lockKey  Clave del lock
-   * @param timeout  Timeout en milisegundos
-   * @param timeUnit Unidad de tiempo del timeout
-   * @return Mono con true si se obtuvo el lock, false en caso contrario
+   * @param lockKey   Clave del lock
+   * @param waitTime  Tiempo máximo de espera si el lock está tomado
+   * @param leaseTime Tiempo tras el cual el lock expira si no se libera
+   * @return Mono con el lock obtenido, empty si no se obtuvo a tiempo o error
+   *         si Redis falla
    */
-  Mono<Boolean> tryLock(String lockKey, long timeout, TimeUnit timeUnit);
+  Mono<LockLease> tryLock(String lockKey, Duration waitTime, Duration leaseTime);
 
   /**
-   * Libera un lock distribuido
+   * Libera un lock distribuido si sigue perteneciendo al holder
    * 
-   * @param lockKey Clave del lock
-   * @return Mono que se completa cuando se libera el lock
+   * @param lease Lock obtenido
+   * @return Mono con true si se liberó, false si ya había expirado, pertenece
+   *         a otro holder o Redis falló (el lock expira igual con su lease)
+   */
+  Mono<Boolean> unlock(LockLease lease);
+
+  /**
+   * Extiende la expiración de un lock que sigue perteneciendo al holder
+   * 
+   * @param lease     Lock obtenido
+   * @param leaseTime Nueva duración desde ahora
+   * @return Mono con true si se extendió o error si Redis falla
+   */
+  Mono<Boolean> extend(LockLease lease, Duration leaseTime);
+
+  /**
+   * Registra el fencing token en un recurso protegido antes de escribirlo
+   * 
+   * @param resourceKey  Clave del recurso protegido
+   * @param fencingToken Token del lock con el que se escribe
+   * @return Mono con true si el token es el mayor visto por el recurso, false
+   *         si un holder más reciente ya escribió (el holder actual está
+   *         obsoleto y no debe escribir)
    */
-  Mono<Void> unlock(String lockKey);
+  Mono<Boolean> fence(String resourceKey, long fencingToken);
 
   /**
    * Verifica si un lock está activo
    * 
    * @param lockKey Clave del lock
-   * @return Mono con true si el lock está activo
+   * @return Mono con true si el lock está activo o error si Redis falla
    */
   Mono<Boolean> isLocked(String lockKey);
 
@@ -40,10 +66,30 @@ public interface DistributedLockPort {
    * Obtiene información del lock
    * 
    * @param lockKey Clave del lock
-   * @return Mono con información del lock
+   * @return Mono con información del lock o error si Redis falla
    */
   Mono<LockInfo> getLockInfo(String lockKey);
 
+  /**
+   * Ejecuta una acción con el lock tomado y lo libera al terminar, con error o
+   * cancelación
+   * 
+   * @param lockKey   Clave del lock
+   * @param waitTime  Tiempo máximo de espera
+   * @param leaseTime Expiración del lock
+   * @param action    Acción que recibe el lock (y su fencing token)
+   * @param <T>       Tipo del resultado
+   * @return Mono con el resultado de la acción, empty si no se obtuvo el lock
+   *         o error si Redis falla
+   */
+  default <T> Mono<T> withLock(String lockKey, Duration waitTime, Duration leaseTime,
+      Function<LockLease, Mono<T>> action) {
+    return Mono.usingWhen(
+        tryLock(lockKey, waitTime, leaseTime),
+        action,
+        this::unlock);
+  }
+
   /**
    * Información del lock distribuido
    */
@@ -56,4 +102,4 @@ public interface DistributedLockPort {
 
     long getRemainingTime();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.miempresa.redis.application.port.out;
+
+import com.miempresa.redis.domain.model.ExchangeRatePoint;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Puerto de salida para consultar el historial de tasas de cambio
+ */
+public interface ExchangeRateHistoryPort {
+
+  /**
+   * Obtiene la tasa vigente de un par en un instante
+   * 
+   * @param sourceCurrency Moneda origen (ej: PEN)
+   * @param targetCurrency Moneda destino (ej: USD)
+   * @param timestamp      Instante consultado
+   * @return Mono con el último cambio anterior o igual al instante, vacío si no
+   *         hay historial
+   */
+  Mono<ExchangeRatePoint> getRateAt(String sourceCurrency, String targetCurrency, Instant timestamp);
+
+  /**
+   * Obtiene los cambios de tasa de un par dentro de un rango, ordenados por
+   * tiempo
+   * El primer punto es la tasa vigente al inicio del rango (con timestamp =
+   * start)
+   * 
+   * @param sourceCurrency Moneda origen
+   * @param targetCurrency Moneda destino
+   * @param start          Inicio del rango (inclusivo)
+   * @param end            Fin del rango (inclusivo)
+   * @return Flux con los puntos del rango
+   */
+  Flux<ExchangeRatePoint> getRateHistory(String sourceCurrency, String targetCurrency, Instant start, Instant end);
+}
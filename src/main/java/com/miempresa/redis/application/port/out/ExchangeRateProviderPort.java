@@ -40,4 +40,16 @@ public interface ExchangeRateProviderPort {
    * @return true si la tasa es válida
    */
   boolean isValidExchangeRate(BigDecimal rate);
-}
\ No newline at end of file
+
+  /**
+   * Indica si el proveedor bloquea el thread que lo invoca (ej: cliente JDBC o
+   * HTTP síncrono)
+   * Los proveedores bloqueantes se invocan en Schedulers.boundedElastic; los
+   * no bloqueantes y el cálculo de la conversión se ejecutan en el event loop
+   * 
+   * @return true si getExchangeRate bloquea
+   */
+  default boolean isBlocking() {
+    return false;
+  }
+}
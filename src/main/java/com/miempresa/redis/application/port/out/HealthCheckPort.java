@@ -2,6 +2,9 @@ package com.miempresa.redis.application.port.out;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Puerto de salida para health checks
  * Define cómo el sistema verifica el estado de salud de los servicios
@@ -10,6 +13,8 @@ public interface HealthCheckPort {
 
   /**
    * Verifica el estado de salud del servicio
+   * Puede responder con el resultado del último chequeo, sin consultar el
+   * servicio en cada llamada
    * 
    * @return Mono con true si el servicio está saludable, false en caso contrario
    */
@@ -45,5 +50,12 @@ public interface HealthCheckPort {
      * Timestamp del último health check
      */
     long getTimestamp();
+
+    /**
+     * Métricas del chequeo (ej: latencia, clientes conectados)
+     */
+    default Map<String, Object> getMetrics() {
+      return Collections.emptyMap();
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.miempresa.redis.application.port.out;
+
+import com.miempresa.redis.domain.model.HeavyHitter;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para el seguimiento de los clientes con más requests por
+ * endpoint
+ */
+public interface HeavyHitterPort {
+
+  /**
+   * Registra un request del cliente en memoria, sin esperar a Redis
+   *
+   * @param endpoint Endpoint normalizado
+   * @param clientIp IP del cliente
+   */
+  void record(String endpoint, String clientIp);
+
+  /**
+   * Obtiene los clientes con más requests combinando los sketches de todos los
+   * nodos en las últimas ventanas
+   *
+   * @param endpoint Endpoint normalizado
+   * @param limit    Cantidad máxima de clientes
+   * @param windows  Ventanas a combinar, empezando por la actual
+   * @return Mono con los clientes de mayor a menor cantidad estimada
+   */
+  Mono<List<HeavyHitter>> findTopClients(String endpoint, int limit, int windows);
+}
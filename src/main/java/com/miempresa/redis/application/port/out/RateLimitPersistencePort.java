@@ -2,9 +2,11 @@ package com.miempresa.redis.application.port.out;
 
 import com.miempresa.redis.domain.model.RateLimitConfig;
 import com.miempresa.redis.domain.model.RequestInfo;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Puerto de salida reactivo para la persistencia del rate limiting
@@ -28,6 +30,33 @@ public interface RateLimitPersistencePort {
    */
   Mono<Void> incrementRequestCount(RequestInfo requestInfo, int timeWindowSeconds);
 
+  /**
+   * Consume de forma atómica N unidades de la cuota si caben en el límite
+   * 
+   * @param requestInfo       Información de la request
+   * @param maxRequests       Límite de unidades en la ventana
+   * @param timeWindowSeconds Ventana de tiempo para el TTL
+   * @param cost              Unidades que consume la request
+   * @return Mono<Boolean> true si se consumió la cuota, false si se excede el
+   *         límite
+   */
+  Mono<Boolean> tryConsume(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost);
+
+  /**
+   * Reserva N unidades según GCRA y calcula la espera exacta hasta que la
+   * request entra en el límite
+   * 
+   * @param requestInfo       Información de la request
+   * @param maxRequests       Límite de unidades en la ventana
+   * @param timeWindowSeconds Ventana de tiempo
+   * @param cost              Unidades que consume la request
+   * @param maxDelayMillis    Espera máxima aceptable
+   * @return Mono<Long> milisegundos de espera (0 = inmediato) o -1 si la espera
+   *         supera maxDelayMillis y no se reservó nada
+   */
+  Mono<Long> reserve(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost,
+      long maxDelayMillis);
+
   /**
    * Obtiene la configuración de rate limiting para un endpoint
    * 
@@ -37,12 +66,41 @@ public interface RateLimitPersistencePort {
   Mono<RateLimitConfig> getConfiguration(String endpoint);
 
   /**
-   * Guarda la configuración de rate limiting para un endpoint
+   * Guarda la configuración de rate limiting para un endpoint, incrementando
+   * su versión de forma atómica
    * 
    * @param config Configuración a guardar
-   * @return Mono<Void> operación completada
+   * @return Mono<RateLimitConfig> configuración guardada con su nueva versión
+   */
+  Mono<RateLimitConfig> saveConfiguration(RateLimitConfig config);
+
+  /**
+   * Guarda la configuración solo si la versión actual coincide con la
+   * esperada (compare-and-set atómico en Redis, sin locks)
+   * 
+   * @param config          Configuración a guardar
+   * @param expectedVersion Versión sobre la que se hizo el cambio
+   * @return Mono<RateLimitConfig> configuración guardada con su nueva versión o
+   *         empty si otra escritura cambió la versión
+   */
+  Mono<RateLimitConfig> compareAndSetConfiguration(RateLimitConfig config, long expectedVersion);
+
+  /**
+   * Guarda varias configuraciones en un único batch (pipeline), incrementando
+   * la versión de cada una
+   * 
+   * @param configs Configuraciones a guardar
+   * @return Mono<List<RateLimitConfig>> configuraciones guardadas con sus
+   *         nuevas versiones, en el mismo orden
+   */
+  Mono<List<RateLimitConfig>> saveConfigurations(List<RateLimitConfig> configs);
+
+  /**
+   * Recorre todas las configuraciones guardadas usando cursores (SCAN)
+   * 
+   * @return Flux<RateLimitConfig> configuraciones a medida que se leen
    */
-  Mono<Void> saveConfiguration(RateLimitConfig config);
+  Flux<RateLimitConfig> findAllConfigurations();
 
   /**
    * Limpia los datos de rate limiting para un endpoint
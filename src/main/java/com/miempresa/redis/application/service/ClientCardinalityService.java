@@ -0,0 +1,43 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.application.port.in.ClientCardinalityUseCase;
+import com.miempresa.redis.application.port.out.ClientCardinalityPort;
+import com.miempresa.redis.domain.model.TimeGranularity;
+import com.miempresa.redis.domain.model.UniqueClientReport;
+import com.miempresa.redis.domain.service.UrlNormalizationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Servicio de aplicación para la cantidad de clientes distintos por endpoint
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClientCardinalityService implements ClientCardinalityUseCase {
+
+  private final ClientCardinalityPort clientCardinalityPort;
+  private final UrlNormalizationService urlNormalizationService;
+
+  @Value("${rate-limit.cardinality.max-query-windows:1440}")
+  private int maxQueryWindows;
+
+  @Override
+  public Mono<UniqueClientReport> getUniqueClients(String endpoint, String granularity, int windows) {
+    return Mono.defer(() -> {
+      TimeGranularity timeGranularity = TimeGranularity.fromName(granularity);
+      if (windows <= 0 || windows > maxQueryWindows) {
+        return Mono.error(new IllegalArgumentException("Las ventanas deben estar entre 1 y " + maxQueryWindows));
+      }
+
+      String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(endpoint);
+      log.debug("Counting unique clients for endpoint: {} over {} {} windows", normalizedEndpoint, windows,
+          timeGranularity);
+      return clientCardinalityPort.countUniqueClients(normalizedEndpoint, timeGranularity, windows);
+    })
+        .doOnError(error -> log.error("Error counting unique clients for endpoint: {}", endpoint, error));
+  }
+}
@@ -0,0 +1,63 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.application.port.in.ConcurrencyLimitUseCase;
+import com.miempresa.redis.application.port.out.ConcurrencyLimitPort;
+import com.miempresa.redis.domain.model.ConcurrencyPermit;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RequestInfo;
+import com.miempresa.redis.domain.service.UrlNormalizationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Servicio de aplicación que limita las ejecuciones simultáneas de un endpoint
+ * en todo el cluster
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcurrencyLimitService implements ConcurrencyLimitUseCase {
+
+  private final RateLimitServiceFactory rateLimitServiceFactory;
+  private final ConcurrencyLimitPort concurrencyLimitPort;
+  private final UrlNormalizationService urlNormalizationService;
+
+  @Override
+  public Mono<ConcurrencyPermit> acquirePermit(RequestInfo requestInfo) {
+    String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(requestInfo.getEndpoint());
+
+    return rateLimitServiceFactory.getRateLimitService()
+        .flatMap(rateLimitService -> rateLimitService.getConfiguration(normalizedEndpoint))
+        .filter(RateLimitConfig::hasConcurrencyLimit)
+        .flatMap(config -> concurrencyLimitPort
+            .tryAcquire(normalizedEndpoint, config.getMaxConcurrentRequests(), config.getConcurrencyLeaseSeconds())
+            .map(permitId -> ConcurrencyPermit.granted(normalizedEndpoint, permitId))
+            .defaultIfEmpty(ConcurrencyPermit.rejected(normalizedEndpoint))
+            .doOnNext(permit -> {
+              if (!permit.isGranted()) {
+                log.warn("Concurrency limit reached for endpoint: {} ({} in flight)",
+                    normalizedEndpoint, config.getMaxConcurrentRequests());
+              }
+            }))
+        .defaultIfEmpty(ConcurrencyPermit.notRequired())
+        .doOnError(error -> log.error("Error acquiring concurrency permit for endpoint: {}",
+            normalizedEndpoint, error))
+        .onErrorReturn(ConcurrencyPermit.notRequired()); // En caso de error, permitir el request (fail-safe)
+  }
+
+  @Override
+  public Mono<Void> releasePermit(ConcurrencyPermit permit) {
+    if (!permit.isHeld()) {
+      return Mono.empty();
+    }
+
+    return concurrencyLimitPort.release(permit.getEndpoint(), permit.getPermitId())
+        .onErrorResume(error -> {
+          // El permiso expirará por su lease si no se puede liberar
+          log.warn("Failed to release concurrency permit for endpoint: {}", permit.getEndpoint(), error);
+          return Mono.empty();
+        });
+  }
+}
@@ -3,15 +3,20 @@ package com.miempresa.redis.application.service;
 import com.miempresa.redis.application.port.in.CurrencyConversionUseCase;
 import com.miempresa.redis.application.port.out.ExchangeRateProviderPort;
 import com.miempresa.redis.domain.model.CurrencyConversion;
+import com.miempresa.redis.domain.model.CurrencyConversionRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Servicio de aplicación para conversiones de moneda
@@ -45,7 +50,6 @@ public class CurrencyConversionService implements CurrencyConversionUseCase {
             return getExchangeRateAndConvert(validAmount, sourceCurrency, targetCurrency);
           }
         })
-        .subscribeOn(Schedulers.boundedElastic())
         .doOnSuccess(conversion -> log.debug("Currency conversion successful: {} {} = {} {}",
             conversion.getOriginalAmount(), conversion.getSourceCurrency(),
             conversion.getConvertedAmount(), conversion.getTargetCurrency()))
@@ -68,13 +72,65 @@ public class CurrencyConversionService implements CurrencyConversionUseCase {
   @Override
   public Mono<BigDecimal> getExchangeRate(String sourceCurrency, String targetCurrency) {
     log.debug("Getting exchange rate from {} to {}", sourceCurrency, targetCurrency);
-    return exchangeRateProvider.getExchangeRate(sourceCurrency, targetCurrency)
+    return lookupRate(sourceCurrency, targetCurrency)
         .doOnSuccess(rate -> log.debug("Exchange rate obtained: {} {} = {} {}",
             sourceCurrency, targetCurrency, BigDecimal.ONE, rate))
         .doOnError(error -> log.error("Error getting exchange rate from {} to {}",
             sourceCurrency, targetCurrency, error));
   }
 
+  @Override
+  public Flux<CurrencyConversion> convertBatch(Flux<CurrencyConversionRequest> requests) {
+    return Flux.defer(() -> {
+      // Tasas resueltas en este lote; concatMap procesa un elemento a la vez,
+      // así que el mapa no se accede en paralelo
+      Map<String, Mono<BigDecimal>> batchRates = new HashMap<>();
+
+      return requests.concatMap(request -> convertBatchItem(request, batchRates))
+          .doOnComplete(() -> log.debug("Batch conversion completed using {} distinct pairs", batchRates.size()));
+    });
+  }
+
+  /**
+   * Convierte un elemento del lote; los errores se devuelven en el resultado
+   */
+  private Mono<CurrencyConversion> convertBatchItem(CurrencyConversionRequest request,
+      Map<String, Mono<BigDecimal>> batchRates) {
+    BigDecimal amount = request.getAmount();
+    String sourceCurrency = normalizeCurrency(request.getSourceCurrency());
+    String targetCurrency = normalizeCurrency(request.getTargetCurrency());
+
+    if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+      return Mono.just(failedConversion(request, "El monto debe ser mayor a 0"));
+    }
+    if (sourceCurrency == null || targetCurrency == null) {
+      return Mono.just(failedConversion(request, "Las monedas origen y destino son obligatorias"));
+    }
+
+    return batchRates
+        .computeIfAbsent(sourceCurrency + ":" + targetCurrency,
+            pair -> lookupRate(sourceCurrency, targetCurrency).cache())
+        .map(rate -> performConversion(amount, sourceCurrency, targetCurrency, rate))
+        .onErrorResume(error -> Mono.just(failedConversion(request, error.getMessage())));
+  }
+
+  private String normalizeCurrency(String currency) {
+    if (currency == null || currency.trim().isEmpty()) {
+      return null;
+    }
+    return currency.trim().toUpperCase(Locale.ROOT);
+  }
+
+  private CurrencyConversion failedConversion(CurrencyConversionRequest request, String error) {
+    return CurrencyConversion.builder()
+        .originalAmount(request.getAmount())
+        .sourceCurrency(request.getSourceCurrency())
+        .targetCurrency(request.getTargetCurrency())
+        .timestamp(LocalDateTime.now())
+        .error(error)
+        .build();
+  }
+
   /**
    * Valida y usa una tasa de cambio personalizada
    */
@@ -88,8 +144,7 @@ public class CurrencyConversionService implements CurrencyConversionUseCase {
       return Mono.error(new IllegalArgumentException("La tasa de cambio personalizada no es válida"));
     }
 
-    return Mono.fromCallable(() -> performConversion(amount, sourceCurrency, targetCurrency, customRate))
-        .subscribeOn(Schedulers.boundedElastic());
+    return Mono.fromCallable(() -> performConversion(amount, sourceCurrency, targetCurrency, customRate));
   }
 
   /**
@@ -100,9 +155,23 @@ public class CurrencyConversionService implements CurrencyConversionUseCase {
       String sourceCurrency,
       String targetCurrency) {
 
-    return exchangeRateProvider.getExchangeRate(sourceCurrency, targetCurrency)
-        .flatMap(rate -> Mono.fromCallable(() -> performConversion(amount, sourceCurrency, targetCurrency, rate))
-            .subscribeOn(Schedulers.boundedElastic()));
+    // La división es cálculo puro en memoria: se hace en el thread que entrega
+    // la tasa, sin cambiar de scheduler
+    return lookupRate(sourceCurrency, targetCurrency)
+        .map(rate -> performConversion(amount, sourceCurrency, targetCurrency, rate));
+  }
+
+  /**
+   * Obtiene la tasa del proveedor; solo los proveedores bloqueantes se
+   * ejecutan en boundedElastic para no bloquear el event loop, incluida la
+   * llamada que arma el Mono (puede hacer el trabajo bloqueante ahí mismo)
+   */
+  private Mono<BigDecimal> lookupRate(String sourceCurrency, String targetCurrency) {
+    if (!exchangeRateProvider.isBlocking()) {
+      return exchangeRateProvider.getExchangeRate(sourceCurrency, targetCurrency);
+    }
+    return Mono.defer(() -> exchangeRateProvider.getExchangeRate(sourceCurrency, targetCurrency))
+        .subscribeOn(Schedulers.boundedElastic());
   }
 
   /**
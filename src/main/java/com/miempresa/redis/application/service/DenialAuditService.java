@@ -0,0 +1,44 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.application.port.in.DenialAuditUseCase;
+import com.miempresa.redis.application.port.out.DenialAuditPort;
+import com.miempresa.redis.domain.model.DenialEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Servicio de aplicación para la auditoría de requests rechazados
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DenialAuditService implements DenialAuditUseCase {
+
+  private final DenialAuditPort denialAuditPort;
+
+  @Value("${rate-limit.audit.max-query:1000}")
+  private int maxQuery;
+
+  @Override
+  public void recordDenial(DenialEvent event) {
+    denialAuditPort.record(event);
+  }
+
+  @Override
+  public Mono<List<DenialEvent>> getRecentDenials(int limit) {
+    return Mono.defer(() -> {
+      if (limit <= 0 || limit > maxQuery) {
+        return Mono.error(new IllegalArgumentException("El límite debe estar entre 1 y " + maxQuery));
+      }
+
+      log.debug("Getting last {} denial events", limit);
+      return denialAuditPort.findRecent(limit);
+    })
+        .doOnError(error -> log.error("Error getting denial events", error));
+  }
+}
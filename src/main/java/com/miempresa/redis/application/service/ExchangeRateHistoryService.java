@@ -0,0 +1,57 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.application.port.in.ExchangeRateHistoryUseCase;
+import com.miempresa.redis.application.port.out.ExchangeRateHistoryPort;
+import com.miempresa.redis.domain.model.ExchangeRatePoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Servicio de aplicación para consultas de tasas de cambio históricas
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExchangeRateHistoryService implements ExchangeRateHistoryUseCase {
+
+  private final ExchangeRateHistoryPort exchangeRateHistory;
+
+  @Override
+  public Mono<ExchangeRatePoint> getExchangeRateAt(String sourceCurrency, String targetCurrency, Instant timestamp) {
+    log.debug("Getting exchange rate for {}:{} at {}", sourceCurrency, targetCurrency, timestamp);
+
+    return Mono.defer(() -> {
+      validatePair(sourceCurrency, targetCurrency);
+      return exchangeRateHistory.getRateAt(sourceCurrency, targetCurrency, timestamp);
+    })
+        .doOnError(error -> log.error("Error getting exchange rate for {}:{} at {}",
+            sourceCurrency, targetCurrency, timestamp, error));
+  }
+
+  @Override
+  public Flux<ExchangeRatePoint> getExchangeRateHistory(String sourceCurrency, String targetCurrency,
+      Instant start, Instant end) {
+    log.debug("Getting exchange rate history for {}:{} from {} to {}", sourceCurrency, targetCurrency, start, end);
+
+    return Flux.defer(() -> {
+      validatePair(sourceCurrency, targetCurrency);
+      if (start.isAfter(end)) {
+        return Flux.error(new IllegalArgumentException("El inicio del rango debe ser anterior al fin"));
+      }
+      return exchangeRateHistory.getRateHistory(sourceCurrency, targetCurrency, start, end);
+    })
+        .doOnError(error -> log.error("Error getting exchange rate history for {}:{}",
+            sourceCurrency, targetCurrency, error));
+  }
+
+  private void validatePair(String sourceCurrency, String targetCurrency) {
+    if (sourceCurrency == null || targetCurrency == null || sourceCurrency.equalsIgnoreCase(targetCurrency)) {
+      throw new IllegalArgumentException("Las monedas origen y destino deben ser distintas");
+    }
+  }
+}
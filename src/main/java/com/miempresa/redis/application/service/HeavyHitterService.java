@@ -0,0 +1,56 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.application.port.in.HeavyHitterUseCase;
+import com.miempresa.redis.application.port.out.HeavyHitterPort;
+import com.miempresa.redis.domain.model.HeavyHitter;
+import com.miempresa.redis.domain.service.UrlNormalizationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Servicio de aplicación para los clientes con más requests por endpoint
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeavyHitterService implements HeavyHitterUseCase {
+
+  private final HeavyHitterPort heavyHitterPort;
+  private final UrlNormalizationService urlNormalizationService;
+
+  @Value("${rate-limit.heavy-hitters.top-k:20}")
+  private int topK;
+
+  @Value("${rate-limit.heavy-hitters.retention-windows:60}")
+  private int retentionWindows;
+
+  @Override
+  public void recordRequest(String endpoint, String clientIp) {
+    if (clientIp == null) {
+      return;
+    }
+    heavyHitterPort.record(urlNormalizationService.normalizeEndpoint(endpoint), clientIp);
+  }
+
+  @Override
+  public Mono<List<HeavyHitter>> getHeavyHitters(String endpoint, int limit, int windows) {
+    return Mono.defer(() -> {
+      if (limit <= 0 || limit > topK) {
+        return Mono.error(new IllegalArgumentException("El límite debe estar entre 1 y " + topK));
+      }
+      if (windows <= 0 || windows > retentionWindows) {
+        return Mono.error(new IllegalArgumentException("Las ventanas deben estar entre 1 y " + retentionWindows));
+      }
+
+      String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(endpoint);
+      log.debug("Getting top {} clients for endpoint: {} over {} windows", limit, normalizedEndpoint, windows);
+      return heavyHitterPort.findTopClients(normalizedEndpoint, limit, windows);
+    })
+        .doOnError(error -> log.error("Error getting heavy hitters for endpoint: {}", endpoint, error));
+  }
+}
@@ -0,0 +1,121 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RateLimitDecision;
+import com.miempresa.redis.domain.model.RequestInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador en memoria del nodo con ventana fija por endpoint e IP
+ * Decide cuando no se puede consultar Redis (ej: bulkhead lleno), en lugar de
+ * dejar pasar todo; cada nodo admite limit-ratio del límite configurado, que
+ * por defecto es 1/expected-nodes para que entre todos los nodos no superen
+ * el límite. Las ventanas vencidas se eliminan cuando hay más de maxKeys
+ * claves
+ */
+@Slf4j
+@Component
+public class LocalRateLimiter {
+
+  private static final long SWEEP_INTERVAL_MILLIS = 1_000;
+
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+  private final AtomicLong lastSweepMillis = new AtomicLong();
+
+  @Value("${rate-limit.local.expected-nodes:1}")
+  private int expectedNodes = 1;
+
+  // 0 = 1/expected-nodes
+  @Value("${rate-limit.local.limit-ratio:0}")
+  private double limitRatio;
+
+  @Value("${rate-limit.local.max-keys:10000}")
+  private int maxKeys = 10_000;
+
+  /**
+   * Consume el costo de la request en la ventana actual si cabe en el límite
+   *
+   * @param requestInfo Información de la request (endpoint normalizado)
+   * @param config      Configuración habilitada del endpoint
+   * @param cost        Unidades que consume la request
+   * @return decisión de rate limiting (sin espera)
+   */
+  public RateLimitDecision tryConsume(RequestInfo requestInfo, RateLimitConfig config, int cost) {
+    long now = System.currentTimeMillis();
+    long windowMillis = Math.max(1, config.getTimeWindowSeconds()) * 1_000L;
+    long windowStart = now - now % windowMillis;
+    long limit = Math.max(1, (long) Math.ceil(config.getMaxRequests() * getLimitRatio()));
+
+    String key = requestInfo.getRateLimitKey();
+    Window window = windows.get(key);
+    if (window == null || window.start != windowStart) {
+      window = windows.compute(key, (k, current) -> current != null && current.start == windowStart
+          ? current
+          : new Window(windowStart, windowStart + windowMillis));
+      sweep(now);
+    }
+
+    long used;
+    do {
+      used = window.used.get();
+      if (used + cost > limit) {
+        log.debug("Local rate limit exceeded for key: {} (cost {}, local limit {})", key, cost, limit);
+        return RateLimitDecision.reject();
+      }
+    } while (!window.used.compareAndSet(used, used + cost));
+    return RateLimitDecision.allow();
+  }
+
+  /**
+   * Devuelve unidades consumidas en la ventana actual, por ejemplo cuando
+   * Redis terminó contando una request que ya se había decidido localmente
+   * Si la ventana ya cambió no hace nada
+   */
+  public void release(RequestInfo requestInfo, RateLimitConfig config, int cost) {
+    long now = System.currentTimeMillis();
+    long windowMillis = Math.max(1, config.getTimeWindowSeconds()) * 1_000L;
+    Window window = windows.get(requestInfo.getRateLimitKey());
+    if (window == null || window.start != now - now % windowMillis) {
+      return;
+    }
+    window.used.accumulateAndGet(cost, (used, released) -> Math.max(0, used - released));
+  }
+
+  /**
+   * Fracción del límite configurado que admite este nodo
+   */
+  public double getLimitRatio() {
+    return limitRatio > 0 ? limitRatio : 1.0 / Math.max(1, expectedNodes);
+  }
+
+  public int size() {
+    return windows.size();
+  }
+
+  private void sweep(long now) {
+    long last = lastSweepMillis.get();
+    if (windows.size() <= maxKeys || now - last < SWEEP_INTERVAL_MILLIS
+        || !lastSweepMillis.compareAndSet(last, now)) {
+      return;
+    }
+    windows.values().removeIf(window -> window.end <= now);
+    log.debug("Local rate limiter swept expired windows - {} keys remaining", windows.size());
+  }
+
+  private static final class Window {
+    private final long start;
+    private final long end;
+    private final AtomicLong used = new AtomicLong();
+
+    private Window(long start, long end) {
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
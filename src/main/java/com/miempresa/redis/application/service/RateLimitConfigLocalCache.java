@@ -0,0 +1,100 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache en memoria del proceso para configuraciones de rate limiting
+ * Evita un round trip a Redis por request; cada entrada se considera vigente
+ * durante refreshMillis y luego se vuelve a leer del cache distribuido para
+ * recoger cambios hechos desde otros nodos. Una entrada solo se reemplaza por
+ * una configuración con versión mayor o igual, de modo que un valor antiguo
+ * leído del cache distribuido no pisa a uno más reciente
+ */
+@Slf4j
+@Component
+public class RateLimitConfigLocalCache {
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  @Value("${rate-limit.local-cache.refresh-millis:5000}")
+  private long refreshMillis;
+
+  /**
+   * Obtiene una configuración vigente
+   *
+   * @param endpoint Endpoint normalizado
+   * @return configuración o null si no está en cache o debe refrescarse
+   */
+  public RateLimitConfig get(String endpoint) {
+    Entry entry = entries.get(endpoint);
+    if (entry == null || System.currentTimeMillis() - entry.loadedAtMillis > refreshMillis) {
+      return null;
+    }
+    return entry.config;
+  }
+
+  /**
+   * Obtiene una configuración aunque deba refrescarse, para cuando no se
+   * puede consultar el cache distribuido
+   *
+   * @param endpoint Endpoint normalizado
+   * @return configuración o null si no está en cache
+   */
+  public RateLimitConfig getStale(String endpoint) {
+    Entry entry = entries.get(endpoint);
+    return entry == null ? null : entry.config;
+  }
+
+  /**
+   * Guarda una configuración salvo que la entrada actual tenga una versión
+   * mayor; en ese caso la entrada actual se da por refrescada
+   *
+   * @param config Configuración leída o escrita
+   * @return configuración vigente tras la operación
+   */
+  public RateLimitConfig put(RateLimitConfig config) {
+    return merge(config, System.currentTimeMillis()).config;
+  }
+
+  public void putAll(Collection<RateLimitConfig> configs) {
+    long now = System.currentTimeMillis();
+    configs.forEach(config -> merge(config, now));
+    log.debug("{} configurations preloaded into local cache", configs.size());
+  }
+
+  private Entry merge(RateLimitConfig config, long now) {
+    return entries.merge(config.getEndpoint(), new Entry(config, now), (current, candidate) -> {
+      if (current.config.isNewerThan(candidate.config)) {
+        log.debug("Ignoring stale configuration for endpoint: {} (version {} < {})", config.getEndpoint(),
+            candidate.config.getVersion(), current.config.getVersion());
+        return new Entry(current.config, now);
+      }
+      return candidate;
+    });
+  }
+
+  public void invalidate(String endpoint) {
+    entries.remove(endpoint);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private static final class Entry {
+    private final RateLimitConfig config;
+    private final long loadedAtMillis;
+
+    private Entry(RateLimitConfig config, long loadedAtMillis) {
+      this.config = config;
+      this.loadedAtMillis = loadedAtMillis;
+    }
+  }
+}
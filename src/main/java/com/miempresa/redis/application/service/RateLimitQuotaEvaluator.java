@@ -0,0 +1,123 @@
+package com.miempresa.redis.application.service;
+
+import com.miempresa.redis.application.port.out.RateLimitPersistencePort;
+import com.miempresa.redis.domain.exception.BulkheadFullException;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RateLimitDecision;
+import com.miempresa.redis.domain.model.RequestInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consume la cuota de una request según la configuración del endpoint
+ * Compartido por las implementaciones de rate limiting para que ambas apliquen
+ * el mismo algoritmo: contador atómico o reserva GCRA con espera acotada
+ * Cada decisión tiene un presupuesto de latencia (rate-limit.decision.timeout);
+ * si Redis no responde a tiempo, falla o el bulkhead rechaza la operación se
+ * decide con el limitador local del nodo en lugar de dejar pasar la request
+ * La operación en Redis no se cancela al agotarse el presupuesto: sigue hasta
+ * su respuesta (con su permiso del bulkhead) y, si Redis llega a contar la
+ * request, se devuelven las unidades cobradas en el limitador local
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitQuotaEvaluator {
+
+  private static final int PENDING = 0;
+  private static final int REDIS_COUNTED = 1;
+  private static final int LOCAL_CHARGED = 2;
+
+  private final RateLimitPersistencePort persistencePort;
+  private final LocalRateLimiter localRateLimiter;
+
+  @Value("${rate-limit.decision.timeout:50ms}")
+  private Duration decisionTimeout;
+
+  /**
+   * Consume el costo de la request de forma atómica
+   *
+   * @param requestInfo Información de la request (endpoint normalizado)
+   * @param config      Configuración habilitada del endpoint
+   * @return Mono con la decisión de rate limiting
+   */
+  public Mono<RateLimitDecision> consume(RequestInfo requestInfo, RateLimitConfig config) {
+    int cost = config.resolveCost(requestInfo);
+    // Sin lugar en la cola de espera no se reserva una espera que luego se
+    // rechazaría: GCRA solo reserva si la request entra de inmediato
+    long maxDelayMillis = requestInfo.isDelayAllowed() ? config.getMaxDelayMillis() : 0;
+
+    Mono<RateLimitDecision> decision = config.isDelayModeEnabled()
+        ? persistencePort.reserve(requestInfo, config.getMaxRequests(), config.getTimeWindowSeconds(), cost,
+            maxDelayMillis)
+            .map(waitMillis -> waitMillis < 0 ? RateLimitDecision.reject() : RateLimitDecision.delay(waitMillis))
+        : persistencePort.tryConsume(requestInfo, config.getMaxRequests(), config.getTimeWindowSeconds(), cost)
+            .map(allowed -> allowed ? RateLimitDecision.allow() : RateLimitDecision.reject());
+
+    return Mono.defer(() -> {
+      AtomicInteger state = new AtomicInteger(PENDING);
+      Mono<RateLimitDecision> redisDecision = decision.cache();
+      // Suscripción propia: el timeout de quien espera no cancela el script
+      redisDecision.subscribe(
+          result -> {
+            // Un rechazo de Redis no consumió cuota
+            if (result.isAllowed() && !state.compareAndSet(PENDING, REDIS_COUNTED)) {
+              localRateLimiter.release(requestInfo, config, cost);
+              log.debug("Late Redis decision for endpoint: {} and IP: {} - released {} local units",
+                  requestInfo.getEndpoint(), requestInfo.getClientIp(), cost);
+            }
+          },
+          error -> log.debug("Rate limit quota operation failed for endpoint: {}: {}",
+              requestInfo.getEndpoint(), error.toString()));
+
+      return redisDecision
+          .timeout(decisionTimeout)
+          .onErrorResume(error -> decideLocally(requestInfo, config, cost, error, state));
+    })
+        .doOnNext(result -> logDecision(requestInfo, config, cost, result));
+  }
+
+  /**
+   * Decide con el limitador local. Si Redis ya contó la request mientras
+   * tanto, o la cuenta después, no quedan unidades cobradas localmente
+   */
+  private Mono<RateLimitDecision> decideLocally(RequestInfo requestInfo, RateLimitConfig config, int cost,
+      Throwable error, AtomicInteger state) {
+    if (error instanceof TimeoutException) {
+      log.debug("Rate limit decision exceeded {} budget - deciding locally for endpoint: {} and IP: {}",
+          decisionTimeout, requestInfo.getEndpoint(), requestInfo.getClientIp());
+    } else if (error instanceof BulkheadFullException) {
+      log.debug("Redis bulkhead full - deciding locally for endpoint: {} and IP: {}",
+          requestInfo.getEndpoint(), requestInfo.getClientIp());
+    } else {
+      log.warn("Error consuming rate limit quota - deciding locally for endpoint: {} and IP: {}: {}",
+          requestInfo.getEndpoint(), requestInfo.getClientIp(), error.toString());
+    }
+    RateLimitDecision local = localRateLimiter.tryConsume(requestInfo, config, cost);
+    if (local.isAllowed() && !state.compareAndSet(PENDING, LOCAL_CHARGED)) {
+      localRateLimiter.release(requestInfo, config, cost);
+    }
+    return Mono.just(local);
+  }
+
+  private void logDecision(RequestInfo requestInfo, RateLimitConfig config, int cost, RateLimitDecision decision) {
+    if (!decision.isAllowed()) {
+      // El rechazo queda en la auditoría de denegaciones, no en el log
+      log.debug("Rate limit exceeded for endpoint: {} and IP: {} (cost {}, limit {})",
+          requestInfo.getEndpoint(), requestInfo.getClientIp(), cost, config.getMaxRequests());
+    } else if (decision.isDelayed()) {
+      log.debug("Request delayed {} ms for endpoint: {} and IP: {} - {} units reserved",
+          decision.getDelayMillis(), requestInfo.getEndpoint(), requestInfo.getClientIp(), cost);
+    } else {
+      log.debug("Request allowed for endpoint: {} and IP: {} - {} units consumed",
+          requestInfo.getEndpoint(), requestInfo.getClientIp(), cost);
+    }
+  }
+}
@@ -2,14 +2,20 @@ package com.miempresa.redis.application.service;
 
 import com.miempresa.redis.application.port.in.RateLimitUseCase;
 import com.miempresa.redis.application.port.out.RateLimitPersistencePort;
+import com.miempresa.redis.domain.exception.ConfigurationVersionConflictException;
 import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RateLimitDecision;
 import com.miempresa.redis.domain.model.RequestInfo;
 import com.miempresa.redis.domain.service.UrlNormalizationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Servicio de aplicación reactivo que implementa el caso de uso de rate
  * limiting
@@ -21,15 +27,14 @@ public class RateLimitService implements RateLimitUseCase {
 
   private final RateLimitPersistencePort persistencePort;
   private final UrlNormalizationService urlNormalizationService;
+  private final RateLimitQuotaEvaluator quotaEvaluator;
 
   @Override
-  public Mono<Boolean> isRequestAllowed(RequestInfo requestInfo) {
+  public Mono<RateLimitDecision> checkRequest(RequestInfo requestInfo) {
     // Normalizar el endpoint
     String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(requestInfo.getEndpoint());
-    RequestInfo normalizedRequestInfo = RequestInfo.builder()
+    RequestInfo normalizedRequestInfo = requestInfo.toBuilder()
         .endpoint(normalizedEndpoint)
-        .clientIp(requestInfo.getClientIp())
-        .requestId(requestInfo.getRequestId())
         .build();
 
     log.debug("Checking rate limit for endpoint: {} and IP: {}", normalizedEndpoint, requestInfo.getClientIp());
@@ -39,50 +44,47 @@ public class RateLimitService implements RateLimitUseCase {
         .flatMap(config -> {
           if (!config.isRateLimitEnabled()) {
             log.debug("No rate limiting applied for endpoint: {} - returning true", normalizedEndpoint);
-            return Mono.just(true);
+            return Mono.just(RateLimitDecision.allow());
           }
 
-          // Obtener contador actual de forma reactiva
-          return persistencePort.getCurrentRequestCount(normalizedRequestInfo)
-              .flatMap(currentCount -> {
-                log.debug("Current count for endpoint {} and IP {}: {}", normalizedEndpoint, requestInfo.getClientIp(),
-                    currentCount);
-
-                if (config.hasReachedLimit(currentCount)) {
-                  log.warn("Rate limit exceeded for endpoint: {} and IP: {} ({} >= {})",
-                      normalizedEndpoint, requestInfo.getClientIp(), currentCount, config.getMaxRequests());
-                  return Mono.just(false);
-                }
-
-                // Incrementar contador de forma reactiva
-                return persistencePort.incrementRequestCount(normalizedRequestInfo, config.getTimeWindowSeconds())
-                    .then(Mono.just(true))
-                    .doOnSuccess(result -> log.debug("Request allowed for endpoint: {} and IP: {} - count incremented",
-                        normalizedEndpoint, requestInfo.getClientIp()));
-              });
+          // Consumir de forma atómica el costo del request
+          return quotaEvaluator.consume(normalizedRequestInfo, config);
         })
-        .defaultIfEmpty(true) // Si no hay configuración, permitir el request
+        .defaultIfEmpty(RateLimitDecision.allow()) // Si no hay configuración, permitir el request
         .doOnError(error -> log.error("Error during rate limiting for endpoint: {} and IP: {}",
             normalizedEndpoint, requestInfo.getClientIp(), error));
   }
 
   @Override
   public Mono<Void> updateConfiguration(String endpoint, int maxRequests, int timeWindowSeconds, boolean enabled) {
-    String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(endpoint);
+    return updateConfiguration(RateLimitConfig.builder()
+        .endpoint(endpoint)
+        .maxRequests(maxRequests)
+        .timeWindowSeconds(timeWindowSeconds)
+        .enabled(enabled)
+        .build());
+  }
+
+  @Override
+  public Mono<Void> updateConfiguration(RateLimitConfig newConfig) {
+    String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(newConfig.getEndpoint());
 
     log.info("Updating rate limit configuration for endpoint: {} - maxRequests: {}, timeWindow: {}s, enabled: {}",
-        normalizedEndpoint, maxRequests, timeWindowSeconds, enabled);
+        normalizedEndpoint, newConfig.getMaxRequests(), newConfig.getTimeWindowSeconds(), newConfig.isEnabled());
 
-    RateLimitConfig config = RateLimitConfig.builder()
+    RateLimitConfig config = newConfig.toBuilder()
         .endpoint(normalizedEndpoint)
-        .maxRequests(maxRequests)
-        .timeWindowSeconds(timeWindowSeconds)
-        .enabled(enabled)
         .build();
 
-    return persistencePort.saveConfiguration(config)
+    Mono<RateLimitConfig> write = config.getVersion() > 0
+        ? persistencePort.compareAndSetConfiguration(config, config.getVersion())
+            .switchIfEmpty(Mono.error(() -> new ConfigurationVersionConflictException(normalizedEndpoint,
+                config.getVersion())))
+        : persistencePort.saveConfiguration(config);
+
+    return write
         .then(Mono.defer(() -> {
-          if (!enabled) {
+          if (!config.isEnabled()) {
             // Limpiar datos existentes si se deshabilita
             log.info("Clearing rate limit data for disabled endpoint: {}", normalizedEndpoint);
             return persistencePort.clearRateLimitData(normalizedEndpoint);
@@ -95,6 +97,25 @@ public class RateLimitService implements RateLimitUseCase {
             error -> log.error("Error updating rate limit configuration for endpoint: {}", normalizedEndpoint, error));
   }
 
+  @Override
+  public Mono<Integer> updateConfigurations(List<RateLimitConfig> configs) {
+    List<RateLimitConfig> normalizedConfigs = configs.stream()
+        .map(config -> config.toBuilder()
+            .endpoint(urlNormalizationService.normalizeEndpoint(config.getEndpoint()))
+            .build())
+        .collect(Collectors.toList());
+
+    log.info("Updating {} rate limit configurations in bulk", normalizedConfigs.size());
+
+    return persistencePort.saveConfigurations(normalizedConfigs)
+        .thenMany(Flux.fromIterable(normalizedConfigs))
+        .filter(config -> !config.isEnabled())
+        .concatMap(config -> persistencePort.clearRateLimitData(config.getEndpoint()))
+        .then(Mono.just(normalizedConfigs.size()))
+        .doOnSuccess(count -> log.info("{} rate limit configurations updated successfully", count))
+        .doOnError(error -> log.error("Error updating rate limit configurations in bulk", error));
+  }
+
   @Override
   public Mono<RateLimitConfig> getConfiguration(String endpoint) {
     String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(endpoint);
@@ -111,4 +132,11 @@ public class RateLimitService implements RateLimitUseCase {
         .doOnError(
             error -> log.error("Error getting rate limit configuration for endpoint: {}", normalizedEndpoint, error));
   }
-}
\ No newline at end of file
+
+  @Override
+  public Flux<RateLimitConfig> getAllConfigurations() {
+    log.debug("Getting all rate limit configurations");
+    return persistencePort.findAllConfigurations()
+        .doOnError(error -> log.error("Error getting all rate limit configurations", error));
+  }
+}
@@ -2,18 +2,26 @@ package com.miempresa.redis.application.service;
 
 import com.miempresa.redis.application.port.in.RateLimitUseCase;
 import com.miempresa.redis.application.port.out.DistributedCachePort;
-import com.miempresa.redis.application.port.out.DistributedLockPort;
 import com.miempresa.redis.application.port.out.RateLimitPersistencePort;
+import com.miempresa.redis.domain.exception.BulkheadFullException;
+import com.miempresa.redis.domain.exception.ConfigurationVersionConflictException;
 import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RateLimitDecision;
 import com.miempresa.redis.domain.model.RequestInfo;
 import com.miempresa.redis.domain.service.UrlNormalizationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * Servicio de rate limiting mejorado usando funcionalidades distribuidas
@@ -28,51 +36,89 @@ public class RedissonRateLimitService implements RateLimitUseCase {
 
   private final RateLimitPersistencePort persistencePort;
   private final UrlNormalizationService urlNormalizationService;
-  private final DistributedLockPort distributedLockPort;
   private final DistributedCachePort distributedCachePort;
+  private final RateLimitQuotaEvaluator quotaEvaluator;
+  private final RateLimitConfigLocalCache localCache;
+
+  // Lecturas de configuración en curso por endpoint, compartidas entre requests
+  private final Map<String, Mono<RateLimitConfig>> configLoads = new ConcurrentHashMap<>();
+
+  @Value("${rate-limit.decision.timeout:50ms}")
+  private Duration decisionTimeout;
 
   @Override
-  public Mono<Boolean> isRequestAllowed(RequestInfo requestInfo) {
+  public Mono<RateLimitDecision> checkRequest(RequestInfo requestInfo) {
     String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(requestInfo.getEndpoint());
-    RequestInfo normalizedRequestInfo = RequestInfo.builder()
+    RequestInfo normalizedRequestInfo = requestInfo.toBuilder()
         .endpoint(normalizedEndpoint)
-        .clientIp(requestInfo.getClientIp())
-        .requestId(requestInfo.getRequestId())
         .build();
 
     log.debug("Checking rate limit for endpoint: {} and IP: {}", normalizedEndpoint, requestInfo.getClientIp());
 
-    return getConfigurationWithCache(normalizedEndpoint)
+    return getConfigurationForDecision(normalizedEndpoint)
         .flatMap(config -> {
           if (!config.isRateLimitEnabled()) {
             log.debug("No rate limiting applied for endpoint: {} - returning true", normalizedEndpoint);
-            return Mono.just(true);
+            return Mono.just(RateLimitDecision.allow());
           }
 
           return processRateLimitRequest(normalizedRequestInfo, config);
         })
-        .defaultIfEmpty(true) // Si no hay configuración, permitir el request
+        .defaultIfEmpty(RateLimitDecision.allow()) // Si no hay configuración, permitir el request
         .doOnError(error -> log.error("Error during rate limiting for endpoint: {} and IP: {}",
             normalizedEndpoint, requestInfo.getClientIp(), error))
-        .onErrorReturn(true); // En caso de error, permitir el request (fail-safe)
+        .onErrorReturn(RateLimitDecision.allow()); // En caso de error, permitir el request (fail-safe)
   }
 
   @Override
   public Mono<Void> updateConfiguration(String endpoint, int maxRequests, int timeWindowSeconds, boolean enabled) {
-    String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(endpoint);
+    return updateConfiguration(RateLimitConfig.builder()
+        .endpoint(endpoint)
+        .maxRequests(maxRequests)
+        .timeWindowSeconds(timeWindowSeconds)
+        .enabled(enabled)
+        .build());
+  }
+
+  @Override
+  public Mono<Void> updateConfiguration(RateLimitConfig config) {
+    String normalizedEndpoint = urlNormalizationService.normalizeEndpoint(config.getEndpoint());
 
     log.info("Updating rate limit configuration for endpoint: {} - maxRequests: {}, timeWindow: {}s, enabled: {}",
-        normalizedEndpoint, maxRequests, timeWindowSeconds, enabled);
+        normalizedEndpoint, config.getMaxRequests(), config.getTimeWindowSeconds(), config.isEnabled());
 
-    RateLimitConfig newConfig = RateLimitConfig.builder()
+    RateLimitConfig newConfig = config.toBuilder()
         .endpoint(normalizedEndpoint)
-        .maxRequests(maxRequests)
-        .timeWindowSeconds(timeWindowSeconds)
-        .enabled(enabled)
         .build();
 
-    // Usar lock distribuido para evitar condiciones de carrera
-    return updateConfigurationWithLock(normalizedEndpoint, newConfig);
+    // Escritura versionada con compare-and-set en Redis, sin lock distribuido
+    return writeConfiguration(newConfig)
+        .flatMap(savedConfig -> updateConfigurationAtomically(normalizedEndpoint, savedConfig));
+  }
+
+  @Override
+  public Mono<Integer> updateConfigurations(List<RateLimitConfig> configs) {
+    List<RateLimitConfig> normalizedConfigs = configs.stream()
+        .map(config -> config.toBuilder()
+            .endpoint(urlNormalizationService.normalizeEndpoint(config.getEndpoint()))
+            .build())
+        .collect(Collectors.toList());
+    List<String> endpoints = normalizedConfigs.stream()
+        .map(RateLimitConfig::getEndpoint)
+        .collect(Collectors.toList());
+
+    log.info("Updating {} rate limit configurations in bulk", normalizedConfigs.size());
+
+    // Un único pipeline de escritura y una única invalidación del cache
+    return persistencePort.saveConfigurations(normalizedConfigs)
+        .flatMap(savedConfigs -> distributedCachePort.removeAll(endpoints)
+            .then(Mono.fromRunnable(() -> localCache.putAll(savedConfigs))))
+        .thenMany(Flux.fromIterable(normalizedConfigs))
+        .filter(config -> !config.isEnabled())
+        .concatMap(config -> persistencePort.clearRateLimitData(config.getEndpoint()))
+        .then(Mono.just(normalizedConfigs.size()))
+        .doOnSuccess(count -> log.info("{} rate limit configurations updated successfully", count))
+        .doOnError(error -> log.error("Error updating rate limit configurations in bulk", error));
   }
 
   @Override
@@ -92,110 +138,140 @@ public class RedissonRateLimitService implements RateLimitUseCase {
             error -> log.error("Error getting rate limit configuration for endpoint: {}", normalizedEndpoint, error));
   }
 
-  /**
-   * Procesa el rate limiting con lock distribuido para evitar condiciones de
-   * carrera
-   */
-  private Mono<Boolean> processRateLimitRequest(RequestInfo requestInfo, RateLimitConfig config) {
-    String lockKey = "rate-limit:request:" + requestInfo.getRateLimitKey();
-
-    return distributedLockPort.tryLock(lockKey, config.getLockTimeout(), TimeUnit.MILLISECONDS)
-        .flatMap(lockAcquired -> {
-          if (lockAcquired) {
-            return processRateLimitRequestAtomically(requestInfo, config)
-                .doFinally(signalType -> distributedLockPort.unlock(lockKey).subscribe());
-          } else {
-            log.warn("Could not acquire lock for rate limiting request: {} - allowing request as fallback", lockKey);
-            return Mono.just(true); // Fallback: permitir request si no se puede obtener lock
-          }
-        })
-        .onErrorReturn(true); // Fallback: permitir request en caso de error
+  @Override
+  public Flux<RateLimitConfig> getAllConfigurations() {
+    log.debug("Getting all rate limit configurations");
+    return persistencePort.findAllConfigurations()
+        .doOnError(error -> log.error("Error getting all rate limit configurations", error));
   }
 
   /**
-   * Procesa el rate limiting de forma atómica
+   * Procesa el rate limiting consumiendo el costo del request de forma atómica
+   * en Redis, sin necesidad de un lock distribuido por request
    */
-  private Mono<Boolean> processRateLimitRequestAtomically(RequestInfo requestInfo, RateLimitConfig config) {
-    return persistencePort.getCurrentRequestCount(requestInfo)
-        .defaultIfEmpty(0)
-        .flatMap(currentCount -> {
-          log.debug("Current count for endpoint {} and IP {}: {}",
-              requestInfo.getEndpoint(), requestInfo.getClientIp(), currentCount);
-
-          if (config.hasReachedLimit(currentCount)) {
-            log.warn("Rate limit exceeded for endpoint: {} and IP: {} ({} >= {})",
-                requestInfo.getEndpoint(), requestInfo.getClientIp(), currentCount, config.getMaxRequests());
-            return Mono.just(false);
-          }
-
-          // Incrementar contador
-          return persistencePort.incrementRequestCount(requestInfo, config.getTimeWindowSeconds())
-              .then(Mono.just(true))
-              .doOnSuccess(result -> log.debug("Request allowed for endpoint: {} and IP: {} - count incremented",
-                  requestInfo.getEndpoint(), requestInfo.getClientIp()));
-        });
+  private Mono<RateLimitDecision> processRateLimitRequest(RequestInfo requestInfo, RateLimitConfig config) {
+    // Los errores y timeouts de Redis ya los resuelve el limitador local
+    return quotaEvaluator.consume(requestInfo, config);
   }
 
   /**
-   * Actualiza configuración con lock distribuido para evitar condiciones de
-   * carrera
+   * Escribe la configuración incrementando su versión. Si la configuración
+   * trae una versión, solo se aplica cuando sigue siendo la actual
+   * (compare-and-set)
    */
-  private Mono<Void> updateConfigurationWithLock(String endpoint, RateLimitConfig newConfig) {
-    String lockKey = "rate-limit:config:lock:" + endpoint;
-
-    return distributedLockPort.tryLock(lockKey, newConfig.getLockTimeout(), TimeUnit.MILLISECONDS)
-        .flatMap(lockAcquired -> {
-          if (lockAcquired) {
-            return updateConfigurationAtomically(endpoint, newConfig)
-                .doFinally(signalType -> distributedLockPort.unlock(lockKey).subscribe());
-          } else {
-            return Mono.error(new RuntimeException("Could not acquire lock for configuration update: " + endpoint));
-          }
-        });
+  private Mono<RateLimitConfig> writeConfiguration(RateLimitConfig newConfig) {
+    if (newConfig.getVersion() <= 0) {
+      return persistencePort.saveConfiguration(newConfig);
+    }
+
+    return persistencePort.compareAndSetConfiguration(newConfig, newConfig.getVersion())
+        .switchIfEmpty(Mono.error(() -> new ConfigurationVersionConflictException(newConfig.getEndpoint(),
+            newConfig.getVersion())));
   }
 
   /**
-   * Actualiza la configuración de forma atómica
+   * Propaga la configuración guardada a los caches y limpia los contadores si
+   * se deshabilita
    */
-  private Mono<Void> updateConfigurationAtomically(String endpoint, RateLimitConfig newConfig) {
-    return persistencePort.saveConfiguration(newConfig)
-        .then(updateConfigurationCache(endpoint, newConfig))
+  private Mono<Void> updateConfigurationAtomically(String endpoint, RateLimitConfig savedConfig) {
+    return updateConfigurationCache(endpoint, savedConfig)
         .then(Mono.defer(() -> {
           // Limpiar datos si se deshabilita
-          if (!newConfig.isEnabled()) {
+          if (!savedConfig.isEnabled()) {
             log.info("Clearing rate limit data for disabled endpoint: {}", endpoint);
             return persistencePort.clearRateLimitData(endpoint);
           }
           return Mono.empty();
         }))
-        .doOnSuccess(result -> log.info("Rate limit configuration updated successfully for endpoint: {}", endpoint));
+        .doOnSuccess(result -> log.info("Rate limit configuration updated successfully for endpoint: {} - version: {}",
+            endpoint, savedConfig.getVersion()));
   }
 
   /**
-   * Obtiene configuración del cache distribuido o de la persistencia
+   * Obtiene configuración del cache local, del cache distribuido o de la
+   * persistencia, en ese orden
+   * Si el bulkhead de Redis rechaza la lectura se usa la entrada local aunque
+   * deba refrescarse
    */
   private Mono<RateLimitConfig> getConfigurationWithCache(String endpoint) {
-    return distributedCachePort.get(endpoint, RateLimitConfig.class)
+    RateLimitConfig localConfig = localCache.get(endpoint);
+    if (localConfig != null) {
+      return Mono.just(localConfig);
+    }
+
+    return loadConfiguration(endpoint)
+        .onErrorResume(BulkheadFullException.class, error -> Mono.justOrEmpty(localCache.getStale(endpoint)));
+  }
+
+  /**
+   * Igual que getConfigurationWithCache pero acotada al presupuesto de latencia
+   * de la decisión; si se agota se usa la entrada local aunque deba
+   * refrescarse y la lectura sigue en segundo plano para llenar el cache local
+   */
+  private Mono<RateLimitConfig> getConfigurationForDecision(String endpoint) {
+    RateLimitConfig localConfig = localCache.get(endpoint);
+    if (localConfig != null) {
+      return Mono.just(localConfig);
+    }
+
+    return loadConfiguration(endpoint)
+        .timeout(decisionTimeout)
+        .onErrorResume(error -> error instanceof TimeoutException || error instanceof BulkheadFullException,
+            error -> {
+              log.debug("Configuration lookup for endpoint: {} exceeded the decision budget - using local entry",
+                  endpoint);
+              return Mono.justOrEmpty(localCache.getStale(endpoint));
+            });
+  }
+
+  /**
+   * Lee la configuración del cache distribuido o de la persistencia y la guarda
+   * en el cache local. Las requests concurrentes del mismo endpoint comparten
+   * la lectura, que no se cancela si quien espera deja de hacerlo
+   */
+  private Mono<RateLimitConfig> loadConfiguration(String endpoint) {
+    Mono<RateLimitConfig> current = configLoads.get(endpoint);
+    if (current != null) {
+      return current;
+    }
+
+    Mono<RateLimitConfig> load = distributedCachePort.get(endpoint, RateLimitConfig.class)
         .switchIfEmpty(Mono.defer(() -> {
           // Si no está en cache, obtener de persistencia
           return persistencePort.getConfiguration(endpoint)
               .flatMap(persistedConfig -> {
                 if (persistedConfig != null) {
-                  // Guardar en cache distribuido
-                  return distributedCachePort.put(endpoint, persistedConfig)
+                  // Guardar en cache distribuido sin pisar una escritura
+                  // concurrente más reciente
+                  return distributedCachePort.putIfAbsent(endpoint, persistedConfig)
                       .thenReturn(persistedConfig);
                 }
                 return Mono.empty();
               });
-        }));
+        }))
+        .map(localCache::put) // Se queda con la versión más reciente
+        .cache();
+
+    Mono<RateLimitConfig> existing = configLoads.putIfAbsent(endpoint, load);
+    if (existing != null) {
+      return existing;
+    }
+
+    load.doFinally(signal -> configLoads.remove(endpoint, load))
+        .subscribe(config -> { }, error -> log.debug("Configuration lookup failed for endpoint: {}", endpoint,
+            error));
+    return load;
   }
 
   /**
-   * Actualiza el cache distribuido con nueva configuración
+   * Invalida el cache distribuido tras una escritura; no se escribe la
+   * configuración porque un writer más lento podría dejar ahí una versión
+   * anterior a la ya guardada. El cache local solo acepta versiones mayores
    */
   private Mono<Void> updateConfigurationCache(String endpoint, RateLimitConfig config) {
-    return distributedCachePort.put(endpoint, config)
-        .doOnSuccess(result -> log.debug("Configuration cache updated for endpoint: {}", endpoint))
+    localCache.put(config);
+    return distributedCachePort.remove(endpoint)
+        .doOnSuccess(result -> log.debug("Configuration cache invalidated for endpoint: {}", endpoint))
         .onErrorResume(error -> {
           log.warn("Failed to update configuration cache for endpoint: {}", endpoint, error);
           return Mono.empty(); // No fallar la operación principal por error en cache
@@ -0,0 +1,22 @@
+package com.miempresa.redis.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Excepción lanzada cuando una operación contra Redis se rechaza sin
+ * ejecutarse porque ya hay demasiadas en curso y la cola de espera está llena
+ * No captura el stack trace: se lanza justamente cuando el nodo está saturado
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+  private final int maxInFlight;
+  private final int maxQueued;
+
+  public BulkheadFullException(int maxInFlight, int maxQueued) {
+    super("Redis bulkhead is full - " + maxInFlight + " operations in flight and " + maxQueued + " queued",
+        null, false, false);
+    this.maxInFlight = maxInFlight;
+    this.maxQueued = maxQueued;
+  }
+}
@@ -0,0 +1,20 @@
+package com.miempresa.redis.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Excepción lanzada cuando una configuración cambió desde la versión sobre la
+ * que se hizo la actualización (compare-and-set fallido)
+ */
+@Getter
+public class ConfigurationVersionConflictException extends RuntimeException {
+
+  private final String endpoint;
+  private final long expectedVersion;
+
+  public ConfigurationVersionConflictException(String endpoint, long expectedVersion) {
+    super("Configuration for endpoint " + endpoint + " is no longer at version " + expectedVersion);
+    this.endpoint = endpoint;
+    this.expectedVersion = expectedVersion;
+  }
+}
@@ -0,0 +1,55 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Modelo de dominio para un permiso de concurrencia distribuido
+ */
+@Data
+@Builder
+public class ConcurrencyPermit {
+
+  private static final ConcurrencyPermit NOT_REQUIRED = ConcurrencyPermit.builder()
+      .required(false)
+      .granted(true)
+      .build();
+
+  private String endpoint;
+  private String permitId;
+
+  /**
+   * Indica si el endpoint tiene un límite de concurrencia configurado
+   */
+  private boolean required;
+
+  /**
+   * Indica si se obtuvo el permiso (siempre true si no es requerido)
+   */
+  private boolean granted;
+
+  public static ConcurrencyPermit notRequired() {
+    return NOT_REQUIRED;
+  }
+
+  public static ConcurrencyPermit granted(String endpoint, String permitId) {
+    return ConcurrencyPermit.builder()
+        .endpoint(endpoint)
+        .permitId(permitId)
+        .required(true)
+        .granted(true)
+        .build();
+  }
+
+  public static ConcurrencyPermit rejected(String endpoint) {
+    return ConcurrencyPermit.builder()
+        .endpoint(endpoint)
+        .required(true)
+        .granted(false)
+        .build();
+  }
+
+  public boolean isHeld() {
+    return required && granted && permitId != null;
+  }
+}
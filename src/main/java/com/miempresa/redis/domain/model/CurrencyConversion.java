@@ -43,6 +43,12 @@ public class CurrencyConversion {
    */
   private LocalDateTime timestamp;
 
+  /**
+   * Motivo por el que no se pudo convertir un elemento de un lote (null si la
+   * conversión fue exitosa)
+   */
+  private String error;
+
   /**
    * Valida que la conversión sea válida
    */
@@ -0,0 +1,33 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Modelo de dominio para una conversión solicitada dentro de un lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrencyConversionRequest {
+
+  /**
+   * Monto a convertir
+   */
+  private BigDecimal amount;
+
+  /**
+   * Moneda origen (ej: PEN)
+   */
+  private String sourceCurrency;
+
+  /**
+   * Moneda destino (ej: USD)
+   */
+  private String targetCurrency;
+}
@@ -0,0 +1,51 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Modelo de dominio para un request rechazado, registrado en la auditoría
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DenialEvent {
+
+  /**
+   * Id de la entrada en el stream de auditoría (solo en las consultas)
+   */
+  private String id;
+
+  /**
+   * Endpoint del request
+   */
+  private String endpoint;
+
+  /**
+   * IP del cliente
+   */
+  private String clientIp;
+
+  /**
+   * Método HTTP
+   */
+  private String method;
+
+  /**
+   * Id del request
+   */
+  private String requestId;
+
+  /**
+   * Motivo del rechazo
+   */
+  private DenialReason reason;
+
+  /**
+   * Momento del rechazo en milisegundos epoch
+   */
+  private long timestamp;
+}
@@ -0,0 +1,27 @@
+package com.miempresa.redis.domain.model;
+
+/**
+ * Motivo por el que se rechazó un request
+ */
+public enum DenialReason {
+
+  /**
+   * Se agotó la cuota del rate limiting
+   */
+  RATE_LIMIT,
+
+  /**
+   * La cola local de requests en espera estaba llena
+   */
+  DELAY_QUEUE_FULL,
+
+  /**
+   * No había permisos de concurrencia distribuidos
+   */
+  CONCURRENCY_LIMIT,
+
+  /**
+   * Se alcanzó el límite de concurrencia adaptativo del nodo
+   */
+  ADAPTIVE_LIMIT
+}
@@ -0,0 +1,29 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Modelo de dominio para la tasa de un par vigente desde un instante
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRatePoint {
+
+  /**
+   * Instante desde el que rige la tasa
+   */
+  private Instant timestamp;
+
+  /**
+   * Tasa de cambio del par en ese instante
+   */
+  private BigDecimal rate;
+}
@@ -0,0 +1,27 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Modelo de dominio para un cliente entre los que más requests hacen a un
+ * endpoint
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeavyHitter {
+
+  /**
+   * IP del cliente
+   */
+  private String clientIp;
+
+  /**
+   * Requests estimadas en el período consultado (cota superior de la real)
+   */
+  private long estimatedRequests;
+}
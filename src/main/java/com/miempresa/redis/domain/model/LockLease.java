@@ -0,0 +1,27 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Modelo de dominio para un lock distribuido obtenido
+ * El lock pertenece al ownerToken, no al hilo que lo pidió, por lo que puede
+ * liberarse desde cualquier hilo. El fencingToken crece en cada adquisición y
+ * permite que una escritura protegida rechace a un holder cuyo lock ya expiró
+ */
+@Data
+@Builder
+public class LockLease {
+
+  private String lockKey;
+
+  /**
+   * Identificador único del holder, guardado como valor del lock
+   */
+  private String ownerToken;
+
+  /**
+   * Token monótono de esta adquisición
+   */
+  private long fencingToken;
+}
@@ -1,13 +1,22 @@
 package com.miempresa.redis.domain.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Modelo de dominio para la configuración de rate limiting
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 public class RateLimitConfig {
   private String endpoint;
   private int maxRequests;
@@ -17,11 +26,157 @@ public class RateLimitConfig {
   @Builder.Default
   private int lockTimeout = 5000; // Timeout por defecto en milisegundos
 
+  /**
+   * Máximo de ejecuciones simultáneas en todo el cluster (0 = sin límite)
+   */
+  private int maxConcurrentRequests;
+
+  /**
+   * Duración máxima de un permiso de concurrencia antes de expirar, para que
+   * un nodo caído no retenga permisos
+   */
+  @Builder.Default
+  private int concurrencyLeaseSeconds = 30;
+
+  /**
+   * Costo de cada request por método HTTP (por defecto 1)
+   */
+  @Builder.Default
+  private Map<String, Integer> methodCosts = Collections.emptyMap();
+
+  /**
+   * Header opcional cuyo valor multiplica el costo del request (ej: tamaño de
+   * lote)
+   */
+  private String costHeader;
+
+  /**
+   * Query param opcional cuyo valor multiplica el costo del request
+   */
+  private String costParameter;
+
+  /**
+   * Espera máxima en milisegundos para retener un request en lugar de
+   * rechazarlo (0 = rechazar de inmediato)
+   */
+  private long maxDelayMillis;
+
+  /**
+   * Versión de la configuración, incrementada por Redis en cada escritura
+   * En una actualización indica la versión sobre la que se hizo el cambio
+   * (0 = escribir sin comprobar la versión actual)
+   */
+  private long version;
+
   public boolean isRateLimitEnabled() {
     return enabled;
   }
 
+  public boolean isDelayModeEnabled() {
+    return maxDelayMillis > 0;
+  }
+
+  public boolean hasConcurrencyLimit() {
+    return enabled && maxConcurrentRequests > 0;
+  }
+
+  public boolean isNewerThan(RateLimitConfig other) {
+    return other == null || version > other.version;
+  }
+
   public boolean hasReachedLimit(int currentCount) {
     return currentCount >= maxRequests;
   }
+
+  /**
+   * Calcula cuántas unidades de la cuota consume un request
+   * El costo del método se multiplica por el valor del header o query param de
+   * costo si está presente, y se limita a maxRequests para que un request
+   * pesado pueda pasar con la ventana vacía
+   */
+  public int resolveCost(RequestInfo requestInfo) {
+    long cost = 1;
+    if (requestInfo.getMethod() != null) {
+      cost = methodCosts.getOrDefault(requestInfo.getMethod().toUpperCase(Locale.ROOT), 1);
+    }
+
+    long multiplier = resolveCostMultiplier(requestInfo);
+    cost = cost * multiplier;
+
+    return (int) Math.max(1, Math.min(cost, Math.max(1, maxRequests)));
+  }
+
+  private long resolveCostMultiplier(RequestInfo requestInfo) {
+    String value = null;
+    if (costHeader != null && !costHeader.isEmpty() && requestInfo.getHeaders() != null) {
+      value = requestInfo.getHeaders().get(costHeader);
+    }
+    if (value == null && costParameter != null && !costParameter.isEmpty()
+        && requestInfo.getQueryParameters() != null) {
+      value = requestInfo.getQueryParameters().get(costParameter);
+    }
+    if (value == null) {
+      return 1;
+    }
+
+    try {
+      return Math.max(1, Integer.parseInt(value.trim()));
+    } catch (NumberFormatException e) {
+      return 1;
+    }
+  }
+
+  /**
+   * Convierte el texto "GET=1,POST=50" en el mapa de costos por método
+   */
+  public static Map<String, Integer> parseMethodCosts(String value) {
+    if (value == null || value.trim().isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, Integer> costs = new LinkedHashMap<>();
+    for (String entry : value.split(",")) {
+      String[] parts = entry.split("=");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid method cost entry: " + entry);
+      }
+      int cost = Integer.parseInt(parts[1].trim());
+      if (cost < 1) {
+        throw new IllegalArgumentException("Method cost must be positive: " + entry);
+      }
+      costs.put(parts[0].trim().toUpperCase(Locale.ROOT), cost);
+    }
+    return costs;
+  }
+
+  /**
+   * Normaliza los métodos HTTP del mapa de costos a mayúsculas
+   */
+  public static Map<String, Integer> normalizeMethodCosts(Map<String, Integer> costs) {
+    if (costs == null || costs.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, Integer> normalized = new LinkedHashMap<>();
+    costs.forEach((method, cost) -> normalized.put(method.trim().toUpperCase(Locale.ROOT), cost));
+    return normalized;
+  }
+
+  /**
+   * Convierte el mapa de costos por método al texto "GET=1,POST=50"
+   */
+  public static String formatMethodCosts(Map<String, Integer> costs) {
+    if (costs == null || costs.isEmpty()) {
+      return "";
+    }
+
+    StringBuilder builder = new StringBuilder();
+    costs.forEach((method, cost) -> {
+      if (builder.length() > 0) {
+        builder.append(',');
+      }
+      builder.append(method).append('=').append(cost);
+    });
+    return builder.toString();
+  }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Modelo de dominio para el resultado de evaluar una request contra el rate
+ * limiting
+ */
+@Data
+@Builder
+public class RateLimitDecision {
+
+  private static final RateLimitDecision ALLOWED = RateLimitDecision.builder().allowed(true).build();
+  private static final RateLimitDecision REJECTED = RateLimitDecision.builder().allowed(false).build();
+
+  /**
+   * Indica si la request puede continuar (de inmediato o tras la espera)
+   */
+  private boolean allowed;
+
+  /**
+   * Milisegundos que la request debe esperar antes de continuar (0 = sin
+   * espera)
+   */
+  private long delayMillis;
+
+  public static RateLimitDecision allow() {
+    return ALLOWED;
+  }
+
+  public static RateLimitDecision reject() {
+    return REJECTED;
+  }
+
+  public static RateLimitDecision delay(long delayMillis) {
+    if (delayMillis <= 0) {
+      return ALLOWED;
+    }
+    return RateLimitDecision.builder()
+        .allowed(true)
+        .delayMillis(delayMillis)
+        .build();
+  }
+
+  public boolean isDelayed() {
+    return allowed && delayMillis > 0;
+  }
+}
@@ -2,16 +2,44 @@ package com.miempresa.redis.domain.model;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Modelo de dominio para la información de una request
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class RequestInfo {
   private String endpoint;
   private String clientIp;
   private String requestId;
+  private String method;
+
+  /**
+   * Headers de la request (primer valor de cada uno, sin distinguir
+   * mayúsculas en el nombre), usados para resolver el costo
+   */
+  @ToString.Exclude
+  @Builder.Default
+  private Map<String, String> headers = Collections.emptyMap();
+
+  /**
+   * Query params de la request (primer valor de cada uno), usados para
+   * resolver el costo
+   */
+  @ToString.Exclude
+  @Builder.Default
+  private Map<String, String> queryParameters = Collections.emptyMap();
+
+  /**
+   * Si es false la request no puede esperar (cola local de espera llena): en
+   * modo espera solo se reserva cuota si entra de inmediato
+   */
+  @Builder.Default
+  private boolean delayAllowed = true;
 
   public String getRateLimitKey() {
     return "rate-limit:" + endpoint + ":" + clientIp;
@@ -0,0 +1,43 @@
+package com.miempresa.redis.domain.model;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Granularidad de las ventanas de estadísticas del rate limiting
+ */
+public enum TimeGranularity {
+
+  MINUTE(Duration.ofMinutes(1)),
+  HOUR(Duration.ofHours(1));
+
+  private final Duration duration;
+
+  TimeGranularity(Duration duration) {
+    this.duration = duration;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /**
+   * Ventana que contiene el instante, contada desde epoch
+   */
+  public long windowOf(long timestampMillis) {
+    return Math.floorDiv(timestampMillis, duration.toMillis());
+  }
+
+  /**
+   * Obtiene la granularidad por nombre sin distinguir mayúsculas
+   *
+   * @throws IllegalArgumentException si el nombre no es válido
+   */
+  public static TimeGranularity fromName(String name) {
+    try {
+      return valueOf(name.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new IllegalArgumentException("Granularidad inválida: " + name + " (minute u hour)");
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Modelo de dominio para la cantidad estimada de clientes distintos de un
+ * endpoint en una ventana de tiempo
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniqueClientCount {
+
+  /**
+   * Inicio de la ventana
+   */
+  private Instant windowStart;
+
+  /**
+   * Clientes distintos estimados (HyperLogLog, error típico de 0,81 %)
+   */
+  private long uniqueClients;
+}
@@ -0,0 +1,33 @@
+package com.miempresa.redis.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Modelo de dominio para los clientes distintos de un endpoint en un rango de
+ * ventanas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniqueClientReport {
+
+  private String endpoint;
+
+  private TimeGranularity granularity;
+
+  /**
+   * Clientes distintos por ventana, de la más antigua a la actual
+   */
+  private List<UniqueClientCount> windows;
+
+  /**
+   * Clientes distintos en todo el rango (unión de las ventanas, no la suma)
+   */
+  private long totalUniqueClients;
+}
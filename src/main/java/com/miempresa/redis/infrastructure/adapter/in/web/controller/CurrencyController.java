@@ -1,17 +1,28 @@
 package com.miempresa.redis.infrastructure.adapter.in.web.controller;
 
 import com.miempresa.redis.application.port.in.CurrencyConversionUseCase;
+import com.miempresa.redis.application.port.in.ExchangeRateHistoryUseCase;
 import com.miempresa.redis.domain.model.CurrencyConversion;
+import com.miempresa.redis.domain.model.CurrencyConversionRequest;
+import com.miempresa.redis.domain.model.ExchangeRatePoint;
+import com.miempresa.redis.infrastructure.adapter.in.web.dto.CurrencyConversionRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,7 +36,17 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CurrencyController {
 
+  /**
+   * Header con la cantidad de elementos del lote; el rate limiter lo usa como
+   * costo del request (cost-header del endpoint)
+   */
+  public static final String BATCH_SIZE_HEADER = "X-Batch-Size";
+
   private final CurrencyConversionUseCase currencyConversionUseCase;
+  private final ExchangeRateHistoryUseCase exchangeRateHistoryUseCase;
+
+  @Value("${currency.batch.max-items:100000}")
+  private int maxBatchItems;
 
   @GetMapping("/currency/convert")
   public Mono<ResponseEntity<Map<String, Object>>> convertSolesToDollars(
@@ -102,6 +123,103 @@ public class CurrencyController {
         });
   }
 
+  @GetMapping("/currency/exchange-rate/at")
+  public Mono<ResponseEntity<Map<String, Object>>> getExchangeRateAt(
+      @RequestParam("from") String sourceCurrency,
+      @RequestParam("to") String targetCurrency,
+      @RequestParam("timestamp") Instant timestamp) {
+
+    log.debug("Historical exchange rate request - from: {} to: {} at: {}", sourceCurrency, targetCurrency, timestamp);
+
+    return exchangeRateHistoryUseCase.getExchangeRateAt(sourceCurrency, targetCurrency, timestamp)
+        .map(point -> ResponseEntity.ok(buildExchangeRatePoint(sourceCurrency, targetCurrency, point)))
+        .defaultIfEmpty(buildErrorResponse("No hay historial de " + sourceCurrency + " a " + targetCurrency
+            + " en " + timestamp, 404))
+        .onErrorResume(IllegalArgumentException.class, error -> {
+          log.warn("Invalid historical exchange rate request: {} to {}", sourceCurrency, targetCurrency);
+          return Mono.just(buildErrorResponse(error.getMessage(), 400));
+        })
+        .onErrorResume(Exception.class, error -> {
+          log.error("Error getting historical exchange rate from {} to {}", sourceCurrency, targetCurrency, error);
+          return Mono.just(buildErrorResponse("Error obteniendo tasa de cambio: " + error.getMessage(), 500));
+        });
+  }
+
+  /**
+   * Serie de tasas de un par (NDJSON o array JSON): la tasa vigente al inicio
+   * del rango y cada cambio posterior hasta el fin, leídos por horas con
+   * backpressure
+   */
+  @GetMapping(value = "/currency/exchange-rate/history", produces = { MediaType.APPLICATION_NDJSON_VALUE,
+      MediaType.APPLICATION_JSON_VALUE })
+  public Flux<Map<String, Object>> getExchangeRateHistory(
+      @RequestParam("from") String sourceCurrency,
+      @RequestParam("to") String targetCurrency,
+      @RequestParam("start") Instant start,
+      @RequestParam("end") Instant end) {
+
+    log.debug("Exchange rate history request - from: {} to: {} between {} and {}",
+        sourceCurrency, targetCurrency, start, end);
+
+    return exchangeRateHistoryUseCase.getExchangeRateHistory(sourceCurrency, targetCurrency, start, end)
+        .map(point -> buildExchangeRatePoint(sourceCurrency, targetCurrency, point))
+        .onErrorResume(IllegalArgumentException.class, error -> {
+          log.warn("Invalid exchange rate history request: {}", error.getMessage());
+          return Mono.just(buildErrorBody(error.getMessage(), 400));
+        })
+        .onErrorResume(Exception.class, error -> {
+          log.error("Error getting exchange rate history from {} to {}", sourceCurrency, targetCurrency, error);
+          return Mono.just(buildErrorBody("Error obteniendo historial de tasas: " + error.getMessage(), 500));
+        });
+  }
+
+  /**
+   * Convierte un lote de montos (array JSON o NDJSON) y devuelve los
+   * resultados como stream en el mismo orden, con backpressure
+   * El lote cuenta como un único request con costo X-Batch-Size para el rate
+   * limiter, por eso el header es obligatorio y no se aceptan más elementos que
+   * los declarados
+   */
+  @PostMapping(value = "/currency/convert/batch", consumes = { MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_NDJSON_VALUE }, produces = { MediaType.APPLICATION_NDJSON_VALUE,
+          MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Flux<Map<String, Object>>> convertBatch(
+      @RequestHeader(name = BATCH_SIZE_HEADER, required = false) Integer batchSize,
+      @RequestBody Flux<CurrencyConversionRequestDto> requests) {
+
+    if (batchSize == null || batchSize < 1 || batchSize > maxBatchItems) {
+      log.warn("Invalid batch size for currency conversion: {}", batchSize);
+      return ResponseEntity.badRequest().body(Flux.just(buildErrorBody(
+          "El header " + BATCH_SIZE_HEADER + " debe estar entre 1 y " + maxBatchItems, 400)));
+    }
+
+    log.debug("Batch currency conversion request - declared size: {}", batchSize);
+
+    // Un elemento adicional al tamaño declarado corta el stream con un error
+    Flux<CurrencyConversionRequest> boundedRequests = requests
+        .take(batchSize + 1L)
+        .index()
+        .handle((indexed, sink) -> {
+          if (indexed.getT1() >= batchSize) {
+            sink.error(new IllegalArgumentException("El lote tiene más elementos que los declarados en "
+                + BATCH_SIZE_HEADER + " (" + batchSize + ")"));
+          } else {
+            sink.next(indexed.getT2().toRequest());
+          }
+        });
+
+    return ResponseEntity.ok(currencyConversionUseCase.convertBatch(boundedRequests)
+        .map(this::buildBatchItem)
+        .onErrorResume(IllegalArgumentException.class, error -> {
+          log.warn("Invalid batch currency conversion request: {}", error.getMessage());
+          return Mono.just(buildErrorBody(error.getMessage(), 400));
+        })
+        .onErrorResume(Exception.class, error -> {
+          log.error("Error during batch currency conversion", error);
+          return Mono.just(buildErrorBody("Error en el cálculo: " + error.getMessage(), 500));
+        }));
+  }
+
   /**
    * Construye la respuesta de éxito para una conversión
    */
@@ -118,20 +236,36 @@ public class CurrencyController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Construye un elemento del stream de conversión en lotes
+   */
+  private Map<String, Object> buildBatchItem(CurrencyConversion conversion) {
+    Map<String, Object> item = new HashMap<>();
+    item.put("originalAmount", conversion.getOriginalAmount());
+    item.put("originalCurrency", conversion.getSourceCurrency());
+    item.put("targetCurrency", conversion.getTargetCurrency());
+    if (conversion.getError() != null) {
+      item.put("error", conversion.getError());
+    } else {
+      item.put("convertedAmount", conversion.getConvertedAmount());
+      item.put("exchangeRate", conversion.getExchangeRate());
+    }
+    return item;
+  }
+
   /**
    * Construye la respuesta de error
    */
   private ResponseEntity<Map<String, Object>> buildErrorResponse(String errorMessage, int statusCode) {
+    return ResponseEntity.status(statusCode).body(buildErrorBody(errorMessage, statusCode));
+  }
+
+  private Map<String, Object> buildErrorBody(String errorMessage, int statusCode) {
     Map<String, Object> response = new HashMap<>();
     response.put("error", errorMessage);
     response.put("status", statusCode);
     response.put("timestamp", System.currentTimeMillis());
-
-    if (statusCode == 400) {
-      return ResponseEntity.badRequest().body(response);
-    } else {
-      return ResponseEntity.internalServerError().body(response);
-    }
+    return response;
   }
 
   /**
@@ -149,4 +283,17 @@ public class CurrencyController {
 
     return ResponseEntity.ok(response);
   }
-}
\ No newline at end of file
+
+  /**
+   * Construye un punto del historial de tasas de cambio
+   */
+  private Map<String, Object> buildExchangeRatePoint(String sourceCurrency, String targetCurrency,
+      ExchangeRatePoint point) {
+    Map<String, Object> item = new HashMap<>();
+    item.put("sourceCurrency", sourceCurrency);
+    item.put("targetCurrency", targetCurrency);
+    item.put("exchangeRate", point.getRate());
+    item.put("timestamp", point.getTimestamp().toString());
+    return item;
+  }
+}
@@ -1,6 +1,6 @@
 package com.miempresa.redis.infrastructure.adapter.in.web.controller;
 
-import com.miempresa.redis.infrastructure.health.RedissonHealthIndicator;
+import com.miempresa.redis.application.port.out.HealthCheckPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +16,8 @@ import java.util.Map;
 
 /**
  * Controlador reactivo para health checks de la aplicación
+ * Responde con el último chequeo cacheado de Redisson, sin consultar Redis en
+ * cada request
  */
 @Slf4j
 @RestController
@@ -23,31 +25,35 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class HealthController {
 
-  private final RedissonHealthIndicator redissonHealthIndicator;
+  private final HealthCheckPort healthCheckPort;
 
   @GetMapping("/health")
   public Mono<ResponseEntity<Map<String, Object>>> health() {
-    Map<String, Object> response = new HashMap<>();
-
-    // Información básica de la aplicación
-    response.put("status", "UP");
-    response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-    response.put("message", "Redis API is running successfully");
-    response.put("version", "1.0.0");
-
-    // Información de Redisson
-    boolean redissonHealthy = redissonHealthIndicator.isHealthy();
-    response.put("redisson", redissonHealthy ? "UP" : "DOWN");
-    response.put("redissonInfo", redissonHealthIndicator.getHealthInfo());
-
-    // Estado general
-    if (!redissonHealthy) {
-      response.put("status", "DEGRADED");
-      response.put("message", "Redis API is running but Redisson has issues");
-    }
-
-    log.debug("Health check completed - Redisson: {}", redissonHealthy ? "UP" : "DOWN");
-
-    return Mono.just(ResponseEntity.ok(response));
+    return healthCheckPort.getHealthInfo()
+        .map(info -> {
+          Map<String, Object> response = new HashMap<>();
+
+          // Información básica de la aplicación
+          response.put("status", "UP");
+          response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+          response.put("message", "Redis API is running successfully");
+          response.put("version", "1.0.0");
+
+          // Información de Redisson
+          boolean redissonHealthy = "UP".equals(info.getStatus());
+          response.put("redisson", info.getStatus());
+          response.put("redissonInfo", info.getMessage());
+          response.put("redissonMetrics", info.getMetrics());
+
+          // Estado general
+          if (!redissonHealthy) {
+            response.put("status", "DEGRADED");
+            response.put("message", "Redis API is running but Redisson has issues");
+          }
+
+          log.debug("Health check completed - Redisson: {}", info.getStatus());
+
+          return ResponseEntity.ok(response);
+        });
   }
-}
\ No newline at end of file
+}
@@ -2,17 +2,26 @@ package com.miempresa.redis.infrastructure.adapter.in.web.controller;
 
 import com.miempresa.redis.application.service.RateLimitServiceFactory;
 import com.miempresa.redis.application.port.in.RateLimitUseCase;
+import com.miempresa.redis.domain.exception.ConfigurationVersionConflictException;
 import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.infrastructure.adapter.in.web.dto.RateLimitConfigDto;
 import com.miempresa.redis.infrastructure.adapter.in.web.util.UrlUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Controlador reactivo para la gestión de configuración de rate limiting
@@ -26,12 +35,22 @@ public class RateLimitConfigController {
 
   private final RateLimitServiceFactory rateLimitServiceFactory;
 
+  @Value("${rate-limit.admin.max-bulk-size:5000}")
+  private int maxBulkSize;
+
   @PostMapping("/rate-limit/config")
   public Mono<ResponseEntity<Map<String, Object>>> updateRateLimitConfig(
       @RequestParam(name = "endpoint") String endpoint,
       @RequestParam(name = "maxRequests") int maxRequests,
       @RequestParam(name = "timeWindowSeconds") int timeWindowSeconds,
-      @RequestParam(name = "enabled", defaultValue = "true") boolean enabled) {
+      @RequestParam(name = "enabled", defaultValue = "true") boolean enabled,
+      @RequestParam(name = "maxConcurrentRequests", defaultValue = "0") int maxConcurrentRequests,
+      @RequestParam(name = "concurrencyLeaseSeconds", defaultValue = "30") int concurrencyLeaseSeconds,
+      @RequestParam(name = "methodCosts", required = false) String methodCosts,
+      @RequestParam(name = "costHeader", required = false) String costHeader,
+      @RequestParam(name = "costParameter", required = false) String costParameter,
+      @RequestParam(name = "maxDelayMillis", defaultValue = "0") long maxDelayMillis,
+      @RequestParam(name = "expectedVersion", defaultValue = "0") long expectedVersion) {
 
     log.info("Updating rate limit configuration - endpoint: {}, maxRequests: {}, timeWindow: {}s, enabled: {}",
         endpoint, maxRequests, timeWindowSeconds, enabled);
@@ -39,9 +58,21 @@ public class RateLimitConfigController {
     String normalizedEndpoint = UrlUtils.normalizeEndpoint(endpoint);
 
     // Obtener el servicio apropiado (distribuido o fallback) de forma reactiva
-    return rateLimitServiceFactory.getRateLimitService()
-        .flatMap(rateLimitService -> rateLimitService.updateConfiguration(normalizedEndpoint, maxRequests,
-            timeWindowSeconds, enabled))
+    return Mono.fromCallable(() -> RateLimitConfig.builder()
+        .endpoint(normalizedEndpoint)
+        .maxRequests(maxRequests)
+        .timeWindowSeconds(timeWindowSeconds)
+        .enabled(enabled)
+        .maxConcurrentRequests(maxConcurrentRequests)
+        .concurrencyLeaseSeconds(concurrencyLeaseSeconds)
+        .methodCosts(RateLimitConfig.parseMethodCosts(methodCosts))
+        .costHeader(costHeader)
+        .costParameter(costParameter)
+        .maxDelayMillis(maxDelayMillis)
+        .version(expectedVersion)
+        .build())
+        .flatMap(config -> rateLimitServiceFactory.getRateLimitService()
+            .flatMap(rateLimitService -> rateLimitService.updateConfiguration(config)))
         .then(Mono.defer(() -> {
           Map<String, Object> response = new HashMap<>();
           response.put("message", "Rate limit configuration updated successfully");
@@ -49,11 +80,24 @@ public class RateLimitConfigController {
           response.put("maxRequests", maxRequests);
           response.put("timeWindowSeconds", timeWindowSeconds);
           response.put("enabled", enabled);
+          response.put("maxConcurrentRequests", maxConcurrentRequests);
+          response.put("concurrencyLeaseSeconds", concurrencyLeaseSeconds);
+          response.put("methodCosts", methodCosts != null ? methodCosts : "");
+          response.put("maxDelayMillis", maxDelayMillis);
           response.put("service", "Dynamic Selection");
 
           log.info("Rate limit configuration updated successfully for endpoint: {}", normalizedEndpoint);
           return Mono.just(ResponseEntity.ok(response));
         }))
+        .onErrorResume(ConfigurationVersionConflictException.class, error -> {
+          log.warn("Version conflict updating rate limit configuration for endpoint: {} - expected version: {}",
+              normalizedEndpoint, expectedVersion);
+          Map<String, Object> errorResponse = new HashMap<>();
+          errorResponse.put("error", "Configuration was modified concurrently");
+          errorResponse.put("message", error.getMessage());
+          errorResponse.put("expectedVersion", expectedVersion);
+          return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
+        })
         .onErrorResume(error -> {
           log.error("Error updating rate limit configuration for endpoint: {}", normalizedEndpoint, error);
           Map<String, Object> errorResponse = new HashMap<>();
@@ -84,6 +128,13 @@ public class RateLimitConfigController {
           response.put("maxRequests", config.getMaxRequests());
           response.put("timeWindowSeconds", config.getTimeWindowSeconds());
           response.put("enabled", config.isEnabled());
+          response.put("maxConcurrentRequests", config.getMaxConcurrentRequests());
+          response.put("concurrencyLeaseSeconds", config.getConcurrencyLeaseSeconds());
+          response.put("methodCosts", config.getMethodCosts());
+          response.put("costHeader", config.getCostHeader());
+          response.put("costParameter", config.getCostParameter());
+          response.put("maxDelayMillis", config.getMaxDelayMillis());
+          response.put("version", config.getVersion());
           response.put("message", "Configuration retrieved successfully");
           response.put("service", "Dynamic Selection");
           log.debug("Configuration found for endpoint: {} - {}", normalizedEndpoint, config);
@@ -99,6 +150,73 @@ public class RateLimitConfigController {
         });
   }
 
+  /**
+   * Importa muchas configuraciones en un único batch (array JSON o NDJSON)
+   * Se validan todas antes de aplicar: si alguna es inválida no se aplica
+   * ninguna
+   */
+  @PostMapping(value = "/rate-limit/config/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_NDJSON_VALUE })
+  public Mono<ResponseEntity<Map<String, Object>>> bulkUpdateRateLimitConfig(
+      @RequestBody Flux<RateLimitConfigDto> configs) {
+
+    return configs
+        .take(maxBulkSize + 1L)
+        .collectList()
+        .flatMap(dtos -> {
+          if (dtos.size() > maxBulkSize) {
+            return Mono.just(buildBulkErrorResponse(
+                List.of("Too many configurations, maximum is " + maxBulkSize)));
+          }
+
+          List<String> errors = new ArrayList<>();
+          for (int i = 0; i < dtos.size(); i++) {
+            int index = i;
+            dtos.get(i).validate().forEach(error -> errors.add("[" + index + "] " + error));
+          }
+          if (!errors.isEmpty()) {
+            return Mono.just(buildBulkErrorResponse(errors));
+          }
+
+          List<RateLimitConfig> validConfigs = dtos.stream()
+              .map(RateLimitConfigDto::toConfig)
+              .collect(Collectors.toList());
+
+          log.info("Importing {} rate limit configurations", validConfigs.size());
+
+          return rateLimitServiceFactory.getRateLimitService()
+              .flatMap(rateLimitService -> rateLimitService.updateConfigurations(validConfigs))
+              .map(count -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("message", "Rate limit configurations imported successfully");
+                response.put("imported", count);
+                response.put("service", "Dynamic Selection");
+                return ResponseEntity.ok(response);
+              });
+        })
+        .onErrorResume(error -> {
+          log.error("Error importing rate limit configurations", error);
+          Map<String, Object> errorResponse = new HashMap<>();
+          errorResponse.put("error", "Failed to import configurations");
+          errorResponse.put("message", error.getMessage());
+          return Mono.just(ResponseEntity.internalServerError().body(errorResponse));
+        });
+  }
+
+  /**
+   * Exporta todas las configuraciones como stream (NDJSON o array JSON)
+   */
+  @GetMapping(value = "/rate-limit/configs", produces = { MediaType.APPLICATION_NDJSON_VALUE,
+      MediaType.APPLICATION_JSON_VALUE })
+  public Flux<RateLimitConfigDto> exportRateLimitConfigs() {
+    log.debug("Exporting all rate limit configurations");
+
+    return rateLimitServiceFactory.getRateLimitService()
+        .flatMapMany(RateLimitUseCase::getAllConfigurations)
+        .map(RateLimitConfigDto::fromConfig)
+        .doOnError(error -> log.error("Error exporting rate limit configurations", error));
+  }
+
   /**
    * Endpoint para forzar el uso del servicio de fallback
    */
@@ -129,6 +247,14 @@ public class RateLimitConfigController {
     return Mono.just(ResponseEntity.ok(response));
   }
 
+  private ResponseEntity<Map<String, Object>> buildBulkErrorResponse(List<String> errors) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("error", "Invalid configurations");
+    response.put("errors", errors);
+    response.put("status", 400);
+    return ResponseEntity.badRequest().body(response);
+  }
+
   private Map<String, Object> createNotFoundResponse(String endpoint) {
     Map<String, Object> response = new HashMap<>();
     response.put("endpoint", endpoint);
@@ -0,0 +1,128 @@
+package com.miempresa.redis.infrastructure.adapter.in.web.controller;
+
+import com.miempresa.redis.application.port.in.ClientCardinalityUseCase;
+import com.miempresa.redis.application.port.in.DenialAuditUseCase;
+import com.miempresa.redis.application.port.in.HeavyHitterUseCase;
+import com.miempresa.redis.infrastructure.adapter.in.web.util.UrlUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controlador reactivo de administración con estadísticas de uso del rate
+ * limiting por endpoint
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class RateLimitStatsController {
+
+  private final HeavyHitterUseCase heavyHitterUseCase;
+  private final ClientCardinalityUseCase clientCardinalityUseCase;
+  private final DenialAuditUseCase denialAuditUseCase;
+
+  /**
+   * Clientes con más requests de un endpoint en las últimas ventanas, sumando
+   * todos los nodos
+   */
+  @GetMapping("/rate-limit/heavy-hitters")
+  public Mono<ResponseEntity<Map<String, Object>>> getHeavyHitters(
+      @RequestParam(name = "endpoint") String endpoint,
+      @RequestParam(name = "limit", defaultValue = "10") int limit,
+      @RequestParam(name = "windows", defaultValue = "5") int windows) {
+
+    String normalizedEndpoint = UrlUtils.normalizeEndpoint(endpoint);
+
+    return heavyHitterUseCase.getHeavyHitters(normalizedEndpoint, limit, windows)
+        .map(heavyHitters -> {
+          Map<String, Object> response = new HashMap<>();
+          response.put("endpoint", normalizedEndpoint);
+          response.put("windows", windows);
+          response.put("heavyHitters", heavyHitters);
+          response.put("timestamp", System.currentTimeMillis());
+          return ResponseEntity.ok(response);
+        })
+        .onErrorResume(IllegalArgumentException.class, error -> {
+          log.warn("Invalid heavy hitter request for endpoint: {} - {}", normalizedEndpoint, error.getMessage());
+          return Mono.just(buildErrorResponse("Invalid request", error.getMessage(), 400));
+        })
+        .onErrorResume(error -> {
+          log.error("Error getting heavy hitters for endpoint: {}", normalizedEndpoint, error);
+          return Mono.just(buildErrorResponse("Failed to retrieve heavy hitters", error.getMessage(), 500));
+        });
+  }
+
+  /**
+   * Clientes distintos de un endpoint por ventana (minute u hour) y en todo el
+   * rango consultado
+   */
+  @GetMapping("/rate-limit/unique-clients")
+  public Mono<ResponseEntity<Map<String, Object>>> getUniqueClients(
+      @RequestParam(name = "endpoint") String endpoint,
+      @RequestParam(name = "granularity", defaultValue = "minute") String granularity,
+      @RequestParam(name = "windows", defaultValue = "60") int windows) {
+
+    String normalizedEndpoint = UrlUtils.normalizeEndpoint(endpoint);
+
+    return clientCardinalityUseCase.getUniqueClients(normalizedEndpoint, granularity, windows)
+        .map(report -> {
+          Map<String, Object> response = new HashMap<>();
+          response.put("endpoint", report.getEndpoint());
+          response.put("granularity", report.getGranularity().name().toLowerCase());
+          response.put("windows", report.getWindows());
+          response.put("totalUniqueClients", report.getTotalUniqueClients());
+          response.put("timestamp", System.currentTimeMillis());
+          return ResponseEntity.ok(response);
+        })
+        .onErrorResume(IllegalArgumentException.class, error -> {
+          log.warn("Invalid unique clients request for endpoint: {} - {}", normalizedEndpoint, error.getMessage());
+          return Mono.just(buildErrorResponse("Invalid request", error.getMessage(), 400));
+        })
+        .onErrorResume(error -> {
+          log.error("Error counting unique clients for endpoint: {}", normalizedEndpoint, error);
+          return Mono.just(buildErrorResponse("Failed to count unique clients", error.getMessage(), 500));
+        });
+  }
+
+  /**
+   * Últimos requests rechazados de todos los nodos, del más nuevo al más viejo
+   */
+  @GetMapping("/rate-limit/denials")
+  public Mono<ResponseEntity<Map<String, Object>>> getDenials(
+      @RequestParam(name = "limit", defaultValue = "100") int limit) {
+
+    return denialAuditUseCase.getRecentDenials(limit)
+        .map(denials -> {
+          Map<String, Object> response = new HashMap<>();
+          response.put("count", denials.size());
+          response.put("denials", denials);
+          response.put("timestamp", System.currentTimeMillis());
+          return ResponseEntity.ok(response);
+        })
+        .onErrorResume(IllegalArgumentException.class, error -> {
+          log.warn("Invalid denials request - {}", error.getMessage());
+          return Mono.just(buildErrorResponse("Invalid request", error.getMessage(), 400));
+        })
+        .onErrorResume(error -> {
+          log.error("Error getting denial events", error);
+          return Mono.just(buildErrorResponse("Failed to retrieve denials", error.getMessage(), 500));
+        });
+  }
+
+  private ResponseEntity<Map<String, Object>> buildErrorResponse(String error, String message, int status) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("error", error);
+    response.put("message", message);
+    response.put("status", status);
+    return ResponseEntity.status(status).body(response);
+  }
+}
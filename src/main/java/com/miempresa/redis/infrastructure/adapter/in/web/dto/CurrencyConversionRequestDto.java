@@ -0,0 +1,28 @@
+package com.miempresa.redis.infrastructure.adapter.in.web.dto;
+
+import com.miempresa.redis.domain.model.CurrencyConversionRequest;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Representación web de un elemento de la conversión en lotes (JSON o NDJSON)
+ * Ejemplo: {"amount": 100, "from": "PEN", "to": "USD"}
+ */
+@Data
+@NoArgsConstructor
+public class CurrencyConversionRequestDto {
+
+  private BigDecimal amount;
+  private String from;
+  private String to;
+
+  public CurrencyConversionRequest toRequest() {
+    return CurrencyConversionRequest.builder()
+        .amount(amount)
+        .sourceCurrency(from)
+        .targetCurrency(to)
+        .build();
+  }
+}
@@ -0,0 +1,103 @@
+package com.miempresa.redis.infrastructure.adapter.in.web.dto;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Representación web de una configuración de rate limiting para importación y
+ * exportación masiva (JSON o NDJSON)
+ */
+@Data
+@NoArgsConstructor
+public class RateLimitConfigDto {
+
+  private String endpoint;
+  private Integer maxRequests;
+  private Integer timeWindowSeconds;
+  private Boolean enabled;
+  private Integer maxConcurrentRequests;
+  private Integer concurrencyLeaseSeconds;
+  private Map<String, Integer> methodCosts;
+  private String costHeader;
+  private String costParameter;
+  private Long maxDelayMillis;
+
+  /**
+   * Versión exportada; la importación masiva la ignora y siempre escribe una
+   * versión nueva
+   */
+  private Long version;
+
+  /**
+   * Valida los campos obligatorios y rangos
+   *
+   * @return lista de errores, vacía si la configuración es válida
+   */
+  public List<String> validate() {
+    List<String> errors = new ArrayList<>();
+    if (endpoint == null || endpoint.trim().isEmpty()) {
+      errors.add("endpoint is required");
+    }
+    if (maxRequests == null || maxRequests < 1) {
+      errors.add("maxRequests must be greater than 0");
+    }
+    if (timeWindowSeconds == null || timeWindowSeconds < 1) {
+      errors.add("timeWindowSeconds must be greater than 0");
+    }
+    if (maxConcurrentRequests != null && maxConcurrentRequests < 0) {
+      errors.add("maxConcurrentRequests must not be negative");
+    }
+    if (concurrencyLeaseSeconds != null && concurrencyLeaseSeconds < 1) {
+      errors.add("concurrencyLeaseSeconds must be greater than 0");
+    }
+    if (maxDelayMillis != null && maxDelayMillis < 0) {
+      errors.add("maxDelayMillis must not be negative");
+    }
+    if (methodCosts != null && methodCosts.values().stream().anyMatch(cost -> cost == null || cost < 1)) {
+      errors.add("methodCosts values must be greater than 0");
+    }
+    return errors;
+  }
+
+  /**
+   * Convierte a modelo de dominio aplicando valores por defecto
+   */
+  public RateLimitConfig toConfig() {
+    RateLimitConfig.RateLimitConfigBuilder builder = RateLimitConfig.builder()
+        .endpoint(endpoint)
+        .maxRequests(maxRequests)
+        .timeWindowSeconds(timeWindowSeconds)
+        .enabled(enabled == null || enabled)
+        .maxConcurrentRequests(maxConcurrentRequests != null ? maxConcurrentRequests : 0)
+        .methodCosts(RateLimitConfig.normalizeMethodCosts(methodCosts))
+        .costHeader(costHeader)
+        .costParameter(costParameter)
+        .maxDelayMillis(maxDelayMillis != null ? maxDelayMillis : 0);
+
+    if (concurrencyLeaseSeconds != null) {
+      builder.concurrencyLeaseSeconds(concurrencyLeaseSeconds);
+    }
+    return builder.build();
+  }
+
+  public static RateLimitConfigDto fromConfig(RateLimitConfig config) {
+    RateLimitConfigDto dto = new RateLimitConfigDto();
+    dto.setEndpoint(config.getEndpoint());
+    dto.setMaxRequests(config.getMaxRequests());
+    dto.setTimeWindowSeconds(config.getTimeWindowSeconds());
+    dto.setEnabled(config.isEnabled());
+    dto.setMaxConcurrentRequests(config.getMaxConcurrentRequests());
+    dto.setConcurrencyLeaseSeconds(config.getConcurrencyLeaseSeconds());
+    dto.setMethodCosts(config.getMethodCosts());
+    dto.setCostHeader(config.getCostHeader());
+    dto.setCostParameter(config.getCostParameter());
+    dto.setMaxDelayMillis(config.getMaxDelayMillis());
+    dto.setVersion(config.getVersion());
+    return dto;
+  }
+}
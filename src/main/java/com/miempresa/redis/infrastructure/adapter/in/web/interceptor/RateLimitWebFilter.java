@@ -1,24 +1,38 @@
 package com.miempresa.redis.infrastructure.adapter.in.web.interceptor;
 
 import com.miempresa.redis.application.service.RateLimitServiceFactory;
+import com.miempresa.redis.application.port.in.ConcurrencyLimitUseCase;
+import com.miempresa.redis.application.port.in.DenialAuditUseCase;
+import com.miempresa.redis.application.port.in.HeavyHitterUseCase;
 import com.miempresa.redis.application.port.in.RateLimitUseCase;
+import com.miempresa.redis.domain.model.DenialEvent;
+import com.miempresa.redis.domain.model.DenialReason;
 import com.miempresa.redis.domain.model.RequestInfo;
+import com.miempresa.redis.infrastructure.adapter.in.web.limiter.AdaptiveConcurrencyLimiter;
+import com.miempresa.redis.infrastructure.adapter.in.web.limiter.AdaptiveConcurrencyLimiterRegistry;
 import com.miempresa.redis.infrastructure.adapter.in.web.util.ClientIpExtractor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Filtro WebFlux para aplicar rate limiting en endpoints de la API
@@ -32,6 +46,16 @@ public class RateLimitWebFilter implements WebFilter, Ordered {
   private final RateLimitServiceFactory rateLimitServiceFactory;
   private final ClientIpExtractor clientIpExtractor;
   private final ObjectMapper objectMapper;
+  private final AdaptiveConcurrencyLimiterRegistry adaptiveLimiterRegistry;
+  private final ConcurrencyLimitUseCase concurrencyLimitUseCase;
+  private final HeavyHitterUseCase heavyHitterUseCase;
+  private final DenialAuditUseCase denialAuditUseCase;
+
+  // Requests retenidos en este nodo en modo espera, o decidiendo si esperan
+  private final AtomicInteger queuedRequests = new AtomicInteger();
+
+  @Value("${rate-limit.delay.max-queued-requests:1000}")
+  private int maxQueuedRequests;
 
   @Override
   public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
@@ -44,16 +68,66 @@ public class RateLimitWebFilter implements WebFilter, Ordered {
 
     // Aplicar rate limiting solo a endpoints de API
     if (path.startsWith("/api/")) {
+      AdaptiveConcurrencyLimiter adaptiveLimiter = adaptiveLimiterRegistry.getLimiter(path);
+      if (adaptiveLimiter != null) {
+        return applyAdaptiveLimit(exchange, chain, path, adaptiveLimiter);
+      }
       return applyRateLimiting(exchange, chain, path);
     }
 
     return chain.filter(exchange);
   }
 
+  /**
+   * Aplica el límite de concurrencia adaptativo antes del rate limiting
+   * Rechaza de inmediato si se alcanzó el límite y mide solo la latencia del
+   * downstream para ajustar el límite
+   */
+  private Mono<Void> applyAdaptiveLimit(ServerWebExchange exchange, WebFilterChain chain, String path,
+      AdaptiveConcurrencyLimiter limiter) {
+    if (!limiter.tryAcquire()) {
+      log.debug("Adaptive concurrency limit reached for endpoint: {} (limit: {})", path, limiter.getLimit());
+      auditDenial(exchange, path, clientIpExtractor.extractClientIp(exchange), DenialReason.ADAPTIVE_LIMIT);
+      return handleRateLimitExceeded(exchange);
+    }
+
+    AtomicLong downstreamStart = new AtomicLong();
+    WebFilterChain measuredChain = measuredExchange -> Mono.defer(() -> {
+      downstreamStart.set(System.nanoTime());
+      return chain.filter(measuredExchange);
+    });
+
+    return applyRateLimiting(exchange, measuredChain, path)
+        .doFinally(signalType -> {
+          long start = downstreamStart.get();
+          if (start == 0 || signalType == SignalType.CANCEL) {
+            limiter.release();
+          } else {
+            limiter.onComplete(System.nanoTime() - start, isDropped(exchange, signalType));
+          }
+        });
+  }
+
+  /**
+   * El downstream falló si terminó con error o respondió 5xx (los
+   * controllers convierten sus errores en un ResponseEntity 500)
+   */
+  private static boolean isDropped(ServerWebExchange exchange, SignalType signalType) {
+    if (signalType == SignalType.ON_ERROR) {
+      return true;
+    }
+    HttpStatusCode status = exchange.getResponse().getStatusCode();
+    return status != null && status.is5xxServerError();
+  }
+
   /**
    * Aplica rate limiting al request usando el servicio apropiado
    */
   private Mono<Void> applyRateLimiting(ServerWebExchange exchange, WebFilterChain chain, String path) {
+    // El lugar en la cola de espera se toma antes de decidir, así GCRA no
+    // reserva una espera que después se rechazaría por cola llena; se libera
+    // enseguida si la request no espera
+    QueueSlot queueSlot = tryClaimQueueSlot();
     try {
       String clientIp = clientIpExtractor.extractClientIp(exchange);
       String requestId = exchange.getRequest().getId();
@@ -62,22 +136,34 @@ public class RateLimitWebFilter implements WebFilter, Ordered {
           .endpoint(path)
           .clientIp(clientIp)
           .requestId(requestId)
+          .method(exchange.getRequest().getMethod().name())
+          // Vistas sin copia: solo se lee el header o param de costo configurado
+          .headers(exchange.getRequest().getHeaders().asSingleValueMap())
+          .queryParameters(exchange.getRequest().getQueryParams().asSingleValueMap())
+          .delayAllowed(queueSlot != null)
           .build();
 
       log.debug("Checking rate limit for endpoint: {}, IP: {}, RequestId: {}", path, clientIp, requestId);
 
       // Obtener el servicio apropiado (distribuido o fallback) de forma reactiva
       return rateLimitServiceFactory.getRateLimitService()
-          .flatMap(rateLimitService -> rateLimitService.isRequestAllowed(requestInfo))
-          .flatMap(isAllowed -> {
-            if (isAllowed) {
-              log.debug("Rate limit check passed for endpoint: {}, IP: {}", path, clientIp);
-              return chain.filter(exchange);
-            } else {
-              log.warn("Rate limit exceeded for endpoint: {}, IP: {}", path, clientIp);
+          .flatMap(rateLimitService -> rateLimitService.checkRequest(requestInfo))
+          .flatMap(decision -> {
+            heavyHitterUseCase.recordRequest(path, clientIp);
+            if (!decision.isAllowed()) {
+              releaseQueueSlot(queueSlot);
+              log.debug("Rate limit exceeded for endpoint: {}, IP: {}", path, clientIp);
+              auditDenial(exchange, path, clientIp, DenialReason.RATE_LIMIT);
               return handleRateLimitExceeded(exchange);
             }
+            if (decision.isDelayed()) {
+              return delayRequest(exchange, chain, requestInfo, decision.getDelayMillis(), queueSlot);
+            }
+            releaseQueueSlot(queueSlot);
+            log.debug("Rate limit check passed for endpoint: {}, IP: {}", path, clientIp);
+            return applyConcurrencyLimit(exchange, chain, requestInfo);
           })
+          .doFinally(signalType -> releaseQueueSlot(queueSlot))
           .onErrorResume(error -> {
             log.error("Error during rate limiting for endpoint: {}", path, error);
             // En caso de error, permitir el request para no bloquear la aplicación
@@ -85,12 +171,98 @@ public class RateLimitWebFilter implements WebFilter, Ordered {
           });
 
     } catch (Exception e) {
+      releaseQueueSlot(queueSlot);
       log.error("Error during rate limiting for endpoint: {}", path, e);
       // En caso de error, permitir el request para no bloquear la aplicación
       return chain.filter(exchange);
     }
   }
 
+  /**
+   * Retiene el request el tiempo calculado por el rate limiter usando un timer,
+   * sin ocupar threads, en el lugar de la cola tomado antes de decidir
+   */
+  private Mono<Void> delayRequest(ServerWebExchange exchange, WebFilterChain chain, RequestInfo requestInfo,
+      long delayMillis, QueueSlot queueSlot) {
+    if (queueSlot == null) {
+      // No debería pasar: sin lugar en la cola la reserva no admite espera
+      log.debug("Delay queue full ({} requests), rejecting request for endpoint: {}",
+          maxQueuedRequests, requestInfo.getEndpoint());
+      auditDenial(requestInfo, DenialReason.DELAY_QUEUE_FULL);
+      return handleRateLimitExceeded(exchange);
+    }
+
+    log.debug("Delaying request for endpoint: {} by {} ms", requestInfo.getEndpoint(), delayMillis);
+    return Mono.delay(Duration.ofMillis(delayMillis))
+        .doFinally(signalType -> releaseQueueSlot(queueSlot))
+        .then(Mono.defer(() -> applyConcurrencyLimit(exchange, chain, requestInfo)));
+  }
+
+  /**
+   * Toma un lugar en la cola de espera local
+   *
+   * @return el lugar o null si la cola está llena
+   */
+  private QueueSlot tryClaimQueueSlot() {
+    if (queuedRequests.incrementAndGet() > maxQueuedRequests) {
+      queuedRequests.decrementAndGet();
+      return null;
+    }
+    return new QueueSlot();
+  }
+
+  private void releaseQueueSlot(QueueSlot queueSlot) {
+    if (queueSlot != null && queueSlot.released.compareAndSet(false, true)) {
+      queuedRequests.decrementAndGet();
+    }
+  }
+
+  /**
+   * Obtiene un permiso de concurrencia distribuido antes de continuar con la
+   * cadena y lo libera al completar, cancelar o fallar el request
+   */
+  private Mono<Void> applyConcurrencyLimit(ServerWebExchange exchange, WebFilterChain chain,
+      RequestInfo requestInfo) {
+    return concurrencyLimitUseCase.acquirePermit(requestInfo)
+        .flatMap(permit -> {
+          if (!permit.isGranted()) {
+            log.debug("Concurrency limit exceeded for endpoint: {}", requestInfo.getEndpoint());
+            auditDenial(requestInfo, DenialReason.CONCURRENCY_LIMIT);
+            return handleRateLimitExceeded(exchange);
+          }
+          if (!permit.isRequired()) {
+            return chain.filter(exchange);
+          }
+          return chain.filter(exchange)
+              .doFinally(signalType -> concurrencyLimitUseCase.releasePermit(permit).subscribe());
+        });
+  }
+
+  /**
+   * Registra el rechazo en la auditoría; solo lo encola, no espera a Redis
+   */
+  private void auditDenial(RequestInfo requestInfo, DenialReason reason) {
+    denialAuditUseCase.recordDenial(DenialEvent.builder()
+        .endpoint(requestInfo.getEndpoint())
+        .clientIp(requestInfo.getClientIp())
+        .method(requestInfo.getMethod())
+        .requestId(requestInfo.getRequestId())
+        .reason(reason)
+        .timestamp(System.currentTimeMillis())
+        .build());
+  }
+
+  private void auditDenial(ServerWebExchange exchange, String path, String clientIp, DenialReason reason) {
+    denialAuditUseCase.recordDenial(DenialEvent.builder()
+        .endpoint(path)
+        .clientIp(clientIp)
+        .method(exchange.getRequest().getMethod().name())
+        .requestId(exchange.getRequest().getId())
+        .reason(reason)
+        .timestamp(System.currentTimeMillis())
+        .build());
+  }
+
   /**
    * Maneja la respuesta cuando se excede el rate limit
    */
@@ -116,6 +288,13 @@ public class RateLimitWebFilter implements WebFilter, Ordered {
     }
   }
 
+  /**
+   * Lugar en la cola de espera; se libera una sola vez
+   */
+  private static final class QueueSlot {
+    private final AtomicBoolean released = new AtomicBoolean();
+  }
+
   @Override
   public int getOrder() {
     // Alta prioridad para asegurar que se ejecute antes que otros filtros
@@ -0,0 +1,141 @@
+package com.miempresa.redis.infrastructure.adapter.in.web.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Limitador de concurrencia adaptativo basado en el gradiente de latencia
+ * Ajusta el número de requests simultáneos permitidos comparando la latencia
+ * mínima observada con la latencia de cada muestra. Todo el estado es atómico
+ * y no usa locks
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final double smoothing;
+  private final double backoffRatio;
+  private final int minRttProbeInterval;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong limitBits;
+  private final AtomicLong minRttNanos = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong sampleCount = new AtomicLong();
+
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+      double smoothing, double backoffRatio, int minRttProbeInterval) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Invalid adaptive limit bounds: " + minLimit + ".." + maxLimit);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.tolerance = tolerance;
+    this.smoothing = smoothing;
+    this.backoffRatio = backoffRatio;
+    this.minRttProbeInterval = minRttProbeInterval;
+    this.limitBits = new AtomicLong(Double.doubleToRawLongBits(clamp(initialLimit)));
+  }
+
+  /**
+   * Intenta reservar un slot de concurrencia
+   *
+   * @return true si el request puede continuar, false si se alcanzó el límite
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= getLimit()) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Libera un slot sin registrar muestra de latencia (ej: request rechazado o
+   * cancelado antes de llegar al downstream)
+   */
+  public void release() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * Libera un slot y ajusta el límite según la latencia observada
+   *
+   * @param rttNanos Latencia del request en nanosegundos
+   * @param dropped  true si el request terminó en error
+   */
+  public void onComplete(long rttNanos, boolean dropped) {
+    int inFlightAtCompletion = inFlight.getAndDecrement();
+
+    if (dropped) {
+      updateLimit(limit -> limit * backoffRatio);
+      return;
+    }
+
+    long minRtt = updateMinRtt(rttNanos);
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * minRtt / Math.max(1, rttNanos)));
+
+    updateLimit(limit -> {
+      // Si la aplicación no está usando ni la mitad del límite no hay evidencia
+      // para crecer
+      if (gradient >= 1.0 && inFlightAtCompletion < limit / 2) {
+        return limit;
+      }
+      double queueSize = Math.sqrt(limit);
+      double target = limit * gradient + queueSize;
+      return (1 - smoothing) * limit + smoothing * target;
+    });
+  }
+
+  public int getLimit() {
+    return (int) Double.longBitsToDouble(limitBits.get());
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public long getMinRttNanos() {
+    long minRtt = minRttNanos.get();
+    return minRtt == Long.MAX_VALUE ? 0 : minRtt;
+  }
+
+  /**
+   * Actualiza la latencia mínima; cada cierto número de muestras se reinicia
+   * para seguir cambios en la latencia base del downstream
+   */
+  private long updateMinRtt(long rttNanos) {
+    if (sampleCount.incrementAndGet() % minRttProbeInterval == 0) {
+      minRttNanos.set(rttNanos);
+      return rttNanos;
+    }
+    while (true) {
+      long current = minRttNanos.get();
+      if (rttNanos >= current) {
+        return current;
+      }
+      if (minRttNanos.compareAndSet(current, rttNanos)) {
+        return rttNanos;
+      }
+    }
+  }
+
+  private void updateLimit(DoubleUnaryOperator function) {
+    while (true) {
+      long currentBits = limitBits.get();
+      double next = clamp(function.applyAsDouble(Double.longBitsToDouble(currentBits)));
+      if (limitBits.compareAndSet(currentBits, Double.doubleToRawLongBits(next))) {
+        return;
+      }
+    }
+  }
+
+  private double clamp(double limit) {
+    return Math.max(minLimit, Math.min(maxLimit, limit));
+  }
+}
@@ -0,0 +1,110 @@
+package com.miempresa.redis.infrastructure.adapter.in.web.limiter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de limitadores de concurrencia adaptativos por endpoint
+ * Crea un limitador por endpoint bajo los prefijos configurados y exporta el
+ * límite actual y los requests en curso como métricas
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyLimiterRegistry {
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+  @Value("${rate-limit.adaptive.enabled:false}")
+  private boolean enabled;
+
+  @Value("${rate-limit.adaptive.paths:/api/currency/}")
+  private String[] paths;
+
+  @Value("${rate-limit.adaptive.initial-limit:20}")
+  private int initialLimit;
+
+  @Value("${rate-limit.adaptive.min-limit:2}")
+  private int minLimit;
+
+  @Value("${rate-limit.adaptive.max-limit:500}")
+  private int maxLimit;
+
+  @Value("${rate-limit.adaptive.tolerance:1.5}")
+  private double tolerance;
+
+  @Value("${rate-limit.adaptive.smoothing:0.2}")
+  private double smoothing;
+
+  @Value("${rate-limit.adaptive.backoff-ratio:0.9}")
+  private double backoffRatio;
+
+  @Value("${rate-limit.adaptive.min-rtt-probe-interval:1000}")
+  private int minRttProbeInterval;
+
+  @Value("${rate-limit.adaptive.max-tracked-endpoints:256}")
+  private int maxTrackedEndpoints;
+
+  /**
+   * Obtiene el limitador adaptativo para un path
+   *
+   * @param path Path del request
+   * @return limitador del endpoint o null si el path no usa limitación
+   *         adaptativa
+   */
+  public AdaptiveConcurrencyLimiter getLimiter(String path) {
+    if (!enabled) {
+      return null;
+    }
+
+    String prefix = matchingPrefix(path);
+    if (prefix == null) {
+      return null;
+    }
+
+    AdaptiveConcurrencyLimiter limiter = limiters.get(path);
+    if (limiter != null) {
+      return limiter;
+    }
+
+    // Evitar crecimiento ilimitado con paths arbitrarios: se comparte el
+    // limitador del prefijo
+    String key = limiters.size() < maxTrackedEndpoints ? path : prefix;
+    return limiters.computeIfAbsent(key, this::createLimiter);
+  }
+
+  private String matchingPrefix(String path) {
+    for (String prefix : paths) {
+      if (path.startsWith(prefix)) {
+        return prefix;
+      }
+    }
+    return null;
+  }
+
+  private AdaptiveConcurrencyLimiter createLimiter(String endpoint) {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+        tolerance, smoothing, backoffRatio, minRttProbeInterval);
+
+    Gauge.builder("rate.limit.adaptive.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+        .description("Current adaptive concurrency limit")
+        .tag("endpoint", endpoint)
+        .register(meterRegistry);
+    Gauge.builder("rate.limit.adaptive.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+        .description("Requests currently in flight under the adaptive limiter")
+        .tag("endpoint", endpoint)
+        .register(meterRegistry);
+
+    log.info("Adaptive concurrency limiter created for endpoint: {} - initial limit: {}", endpoint, initialLimit);
+    return limiter;
+  }
+}
@@ -0,0 +1,104 @@
+package com.miempresa.redis.infrastructure.adapter.out.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cola acotada sin locks para varios productores y consumidores
+ * Cada slot tiene un número de secuencia que indica si está libre para la
+ * vuelta actual del productor o lleno para la del consumidor; productores y
+ * consumidores solo compiten con un CAS sobre su propio índice. Con el buffer
+ * lleno offer devuelve false de inmediato en lugar de esperar
+ */
+public final class BoundedRingBuffer<T> {
+
+  private final AtomicReferenceArray<T> slots;
+  private final AtomicLongArray sequences;
+  private final int mask;
+
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * @param capacity Capacidad mínima; se redondea a la potencia de 2 siguiente
+   */
+  public BoundedRingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    this.mask = size - 1;
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Agrega un elemento si hay lugar
+   *
+   * @return false si el buffer está lleno
+   */
+  public boolean offer(T item) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slots.set(index, item);
+          // Publica el slot para el consumidor
+          sequences.lazySet(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        // El slot todavía tiene el elemento de la vuelta anterior
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Saca el elemento más viejo
+   *
+   * @return el elemento o null si el buffer está vacío
+   */
+  public T poll() {
+    long position = head.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          T item = slots.get(index);
+          slots.lazySet(index, null);
+          // Libera el slot para la próxima vuelta del productor
+          sequences.lazySet(index, position + mask + 1);
+          return item;
+        }
+        position = head.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  /**
+   * Elementos en el buffer (aproximado con productores concurrentes)
+   */
+  public int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
@@ -0,0 +1,226 @@
+package com.miempresa.redis.infrastructure.adapter.out.audit;
+
+import com.miempresa.redis.application.port.out.DenialAuditPort;
+import com.miempresa.redis.domain.model.DenialEvent;
+import com.miempresa.redis.domain.model.DenialReason;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Auditoría de requests rechazados en un Redis Stream
+ * El request solo encola el evento en un BoundedRingBuffer; un drenador en
+ * segundo plano lo vacía cada flush-interval en lotes de batch-size, con todos
+ * los XADD de un lote en un mismo batch (pipeline) y el stream recortado a
+ * max-len entradas aproximadas. Con el buffer lleno los eventos se descartan y
+ * se cuentan, nunca se bloquea el request
+ * Implementa el puerto de salida DenialAuditPort
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisDenialAuditAdapter implements DenialAuditPort {
+
+  private final RedissonClient redisson;
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicLong recorded = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+
+  private BoundedRingBuffer<DenialEvent> buffer;
+  private Disposable drainer;
+
+  @Value("${rate-limit.audit.enabled:true}")
+  private boolean enabled;
+
+  @Value("${rate-limit.audit.stream-key:rate-limit:audit:denials}")
+  private String streamKey;
+
+  @Value("${rate-limit.audit.buffer-size:8192}")
+  private int bufferSize;
+
+  @Value("${rate-limit.audit.batch-size:256}")
+  private int batchSize;
+
+  @Value("${rate-limit.audit.flush-interval:500ms}")
+  private Duration flushInterval;
+
+  @Value("${rate-limit.audit.max-len:100000}")
+  private int maxLen;
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      log.info("Denial audit disabled");
+      return;
+    }
+
+    buffer = new BoundedRingBuffer<>(bufferSize);
+    registerMetrics();
+
+    // Si un lote sale completo se sigue drenando sin esperar al próximo tick
+    drainer = Flux.interval(flushInterval, flushInterval)
+        .onBackpressureDrop()
+        .concatMap(tick -> drain()
+            .expand(count -> count == batchSize ? drain() : Mono.empty()))
+        .subscribe(count -> { }, error -> log.error("Denial audit drainer stopped - events will only be "
+            + "counted as dropped", error));
+    log.info("Denial audit enabled - stream {}, buffer {}, batch {}, flush every {}, max length ~{}",
+        streamKey, buffer.capacity(), batchSize, flushInterval, maxLen);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (drainer == null) {
+      return;
+    }
+    drainer.dispose();
+    // Último intento de escribir lo pendiente antes de cerrar el cliente
+    try {
+      drain()
+          .expand(count -> count == batchSize ? drain() : Mono.empty())
+          .then()
+          .block(Duration.ofSeconds(2));
+    } catch (RuntimeException e) {
+      log.warn("Could not flush {} pending denial events on shutdown: {}", buffer.size(), e.toString());
+    }
+  }
+
+  @Override
+  public boolean record(DenialEvent event) {
+    if (!enabled) {
+      return false;
+    }
+    if (!buffer.offer(event)) {
+      dropped.incrementAndGet();
+      return false;
+    }
+    recorded.incrementAndGet();
+    return true;
+  }
+
+  @Override
+  public Mono<List<DenialEvent>> findRecent(int limit) {
+    return Mono.fromCompletionStage(() -> redisson.<String, String>getStream(streamKey, StringCodec.INSTANCE)
+        .rangeReversedAsync(limit, StreamMessageId.MAX, StreamMessageId.MIN))
+        .map(entries -> {
+          List<DenialEvent> events = new ArrayList<>(entries.size());
+          entries.forEach((id, fields) -> events.add(toEvent(id, fields)));
+          return events;
+        })
+        .doOnError(error -> log.error("Error reading denial audit stream: {}", streamKey, error));
+  }
+
+  /**
+   * Escribe en un batch hasta batch-size eventos del buffer
+   * Nunca termina con error: si falla el armado del batch o su ejecución, los
+   * eventos ya sacados del buffer se cuentan como fallidos y el drenador sigue
+   *
+   * @return Mono con la cantidad de eventos sacados del buffer
+   */
+  private Mono<Integer> drain() {
+    AtomicInteger polled = new AtomicInteger();
+    return Mono.defer(() -> {
+      RBatch batch = redisson.createBatch();
+      RStreamAsync<String, String> stream = batch.getStream(streamKey, StringCodec.INSTANCE);
+      DenialEvent event;
+      while (polled.get() < batchSize && (event = buffer.poll()) != null) {
+        polled.incrementAndGet();
+        stream.addAsync(StreamAddArgs.entries(toFields(event))
+            .trimNonStrict().maxLen(maxLen).noLimit());
+      }
+      if (polled.get() == 0) {
+        return Mono.empty();
+      }
+
+      int drained = polled.get();
+      return Mono.fromCompletionStage(batch.executeAsync())
+          .doOnNext(result -> {
+            written.addAndGet(drained);
+            log.debug("Wrote {} denial events to stream {}", drained, streamKey);
+          })
+          .thenReturn(drained);
+    })
+        .onErrorResume(error -> {
+          // No se reintenta: reencolar competiría con los rechazos nuevos
+          int lost = polled.get();
+          failed.addAndGet(lost);
+          log.warn("Error writing {} denial events to stream {}: {}", lost, streamKey, error.toString());
+          return Mono.just(lost);
+        });
+  }
+
+  private void registerMetrics() {
+    FunctionCounter.builder("rate.limit.audit.recorded", recorded, AtomicLong::get)
+        .description("Denial events queued for the audit stream")
+        .register(meterRegistry);
+    FunctionCounter.builder("rate.limit.audit.dropped", dropped, AtomicLong::get)
+        .description("Denial events dropped because the audit buffer was full")
+        .register(meterRegistry);
+    FunctionCounter.builder("rate.limit.audit.written", written, AtomicLong::get)
+        .description("Denial events written to the audit stream")
+        .register(meterRegistry);
+    FunctionCounter.builder("rate.limit.audit.failed", failed, AtomicLong::get)
+        .description("Denial events lost because the audit stream write failed")
+        .register(meterRegistry);
+    Gauge.builder("rate.limit.audit.buffered", buffer, BoundedRingBuffer::size)
+        .description("Denial events waiting in the audit buffer")
+        .register(meterRegistry);
+  }
+
+  private static Map<String, String> toFields(DenialEvent event) {
+    Map<String, String> fields = new HashMap<>(8);
+    fields.put("endpoint", event.getEndpoint());
+    fields.put("reason", event.getReason().name());
+    fields.put("timestamp", Long.toString(event.getTimestamp()));
+    if (event.getClientIp() != null) {
+      fields.put("clientIp", event.getClientIp());
+    }
+    if (event.getMethod() != null) {
+      fields.put("method", event.getMethod());
+    }
+    if (event.getRequestId() != null) {
+      fields.put("requestId", event.getRequestId());
+    }
+    return fields;
+  }
+
+  private static DenialEvent toEvent(StreamMessageId id, Map<String, String> fields) {
+    String reason = fields.get("reason");
+    String timestamp = fields.get("timestamp");
+    return DenialEvent.builder()
+        .id(id.toString())
+        .endpoint(fields.get("endpoint"))
+        .clientIp(fields.get("clientIp"))
+        .method(fields.get("method"))
+        .requestId(fields.get("requestId"))
+        .reason(reason != null ? DenialReason.valueOf(reason) : null)
+        .timestamp(timestamp != null ? Long.parseLong(timestamp) : id.getId0())
+        .build();
+  }
+}
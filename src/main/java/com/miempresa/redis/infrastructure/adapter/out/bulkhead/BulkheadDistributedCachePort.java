@@ -0,0 +1,63 @@
+package com.miempresa.redis.infrastructure.adapter.out.bulkhead;
+
+import com.miempresa.redis.application.port.out.DistributedCachePort;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Decorador de DistributedCachePort que ejecuta cada operación con un permiso
+ * del RedisBulkhead compartido
+ */
+@RequiredArgsConstructor
+public class BulkheadDistributedCachePort implements DistributedCachePort {
+
+  private final DistributedCachePort delegate;
+  private final RedisBulkhead bulkhead;
+
+  @Override
+  public <T> Mono<T> get(String key, Class<T> valueType) {
+    return bulkhead.execute(() -> delegate.get(key, valueType));
+  }
+
+  @Override
+  public <T> Mono<Void> put(String key, T value) {
+    return bulkhead.execute(() -> delegate.put(key, value));
+  }
+
+  @Override
+  public <T> Mono<Void> putIfAbsent(String key, T value) {
+    return bulkhead.execute(() -> delegate.putIfAbsent(key, value));
+  }
+
+  @Override
+  public <T> Mono<Void> put(String key, T value, long ttl) {
+    return bulkhead.execute(() -> delegate.put(key, value, ttl));
+  }
+
+  @Override
+  public Mono<Void> remove(String key) {
+    return bulkhead.execute(() -> delegate.remove(key));
+  }
+
+  @Override
+  public Mono<Void> removeAll(Collection<String> keys) {
+    return bulkhead.execute(() -> delegate.removeAll(keys));
+  }
+
+  @Override
+  public Mono<Boolean> containsKey(String key) {
+    return bulkhead.execute(() -> delegate.containsKey(key));
+  }
+
+  @Override
+  public Mono<Long> getTtl(String key) {
+    return bulkhead.execute(() -> delegate.getTtl(key));
+  }
+
+  @Override
+  public Mono<Void> expire(String key, long ttl) {
+    return bulkhead.execute(() -> delegate.expire(key, ttl));
+  }
+}
@@ -0,0 +1,75 @@
+package com.miempresa.redis.infrastructure.adapter.out.bulkhead;
+
+import com.miempresa.redis.application.port.out.RateLimitPersistencePort;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RequestInfo;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Decorador de RateLimitPersistencePort que ejecuta cada operación con un
+ * permiso del RedisBulkhead compartido
+ * El recorrido de configuraciones (SCAN administrativo) no pasa por el
+ * bulkhead: es un stream largo que retendría el permiso
+ */
+@RequiredArgsConstructor
+public class BulkheadRateLimitPersistencePort implements RateLimitPersistencePort {
+
+  private final RateLimitPersistencePort delegate;
+  private final RedisBulkhead bulkhead;
+
+  @Override
+  public Mono<Integer> getCurrentRequestCount(RequestInfo requestInfo) {
+    return bulkhead.execute(() -> delegate.getCurrentRequestCount(requestInfo));
+  }
+
+  @Override
+  public Mono<Void> incrementRequestCount(RequestInfo requestInfo, int timeWindowSeconds) {
+    return bulkhead.execute(() -> delegate.incrementRequestCount(requestInfo, timeWindowSeconds));
+  }
+
+  @Override
+  public Mono<Boolean> tryConsume(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost) {
+    return bulkhead.execute(() -> delegate.tryConsume(requestInfo, maxRequests, timeWindowSeconds, cost));
+  }
+
+  @Override
+  public Mono<Long> reserve(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost,
+      long maxDelayMillis) {
+    return bulkhead.execute(() -> delegate.reserve(requestInfo, maxRequests, timeWindowSeconds, cost,
+        maxDelayMillis));
+  }
+
+  @Override
+  public Mono<RateLimitConfig> getConfiguration(String endpoint) {
+    return bulkhead.execute(() -> delegate.getConfiguration(endpoint));
+  }
+
+  @Override
+  public Mono<RateLimitConfig> saveConfiguration(RateLimitConfig config) {
+    return bulkhead.execute(() -> delegate.saveConfiguration(config));
+  }
+
+  @Override
+  public Mono<RateLimitConfig> compareAndSetConfiguration(RateLimitConfig config, long expectedVersion) {
+    return bulkhead.execute(() -> delegate.compareAndSetConfiguration(config, expectedVersion));
+  }
+
+  @Override
+  public Mono<List<RateLimitConfig>> saveConfigurations(List<RateLimitConfig> configs) {
+    return bulkhead.execute(() -> delegate.saveConfigurations(configs));
+  }
+
+  @Override
+  public Flux<RateLimitConfig> findAllConfigurations() {
+    return delegate.findAllConfigurations();
+  }
+
+  @Override
+  public Mono<Void> clearRateLimitData(String endpoint) {
+    return bulkhead.execute(() -> delegate.clearRateLimitData(endpoint));
+  }
+}
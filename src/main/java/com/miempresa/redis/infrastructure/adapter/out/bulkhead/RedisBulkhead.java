@@ -0,0 +1,160 @@
+package com.miempresa.redis.infrastructure.adapter.out.bulkhead;
+
+import com.miempresa.redis.domain.exception.BulkheadFullException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Semáforo no bloqueante que acota las operaciones contra Redis en curso
+ * Hasta maxInFlight operaciones se ejecutan de inmediato; las siguientes
+ * esperan en una cola de hasta maxQueued sin ocupar threads, y al liberarse
+ * un permiso pasa directo a la primera en espera. Con la cola llena la
+ * operación falla de inmediato con BulkheadFullException
+ */
+@Slf4j
+public class RedisBulkhead {
+
+  private static final int WAITING = 0;
+  private static final int GRANTED = 1;
+  private static final int CANCELLED = 2;
+
+  private final int maxInFlight;
+  private final int maxQueued;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+  private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+  public RedisBulkhead(int maxInFlight, int maxQueued) {
+    if (maxInFlight <= 0 || maxQueued < 0) {
+      throw new IllegalArgumentException("Invalid bulkhead limits: maxInFlight=" + maxInFlight
+          + ", maxQueued=" + maxQueued);
+    }
+    this.maxInFlight = maxInFlight;
+    this.maxQueued = maxQueued;
+  }
+
+  /**
+   * Ejecuta la operación con un permiso del bulkhead
+   * El permiso se libera al terminar, fallar o cancelarse la operación
+   *
+   * @param operation Operación a ejecutar (se suscribe solo con permiso)
+   * @return Mono con el resultado o error BulkheadFullException si no hay
+   *         permisos ni lugar en la cola
+   */
+  public <T> Mono<T> execute(Supplier<Mono<T>> operation) {
+    return Mono.defer(() -> {
+      if (tryAcquire()) {
+        return Mono.defer(operation).doFinally(signal -> release());
+      }
+
+      if (queued.incrementAndGet() > maxQueued) {
+        queued.decrementAndGet();
+        long total = rejected.incrementAndGet();
+        log.debug("Redis bulkhead full - operation rejected ({} rejections so far)", total);
+        return Mono.error(new BulkheadFullException(maxInFlight, maxQueued));
+      }
+
+      Waiter waiter = new Waiter();
+      return Mono.<Void>create(sink -> {
+        waiter.sink = sink;
+        sink.onCancel(() -> cancel(waiter));
+        waiters.offer(waiter);
+        // Un permiso liberado entre el intento fallido y el offer no
+        // encontraría a este waiter: se reintenta y se entrega por la cola
+        if (tryAcquire()) {
+          release();
+        }
+      })
+          .then(Mono.defer(operation))
+          // La cancelación llega primero a cancel(): aquí el estado ya es final
+          .doFinally(signal -> {
+            if (waiter.state.get() == GRANTED) {
+              release();
+            }
+          });
+    });
+  }
+
+  /**
+   * Operaciones con permiso en este momento
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Operaciones esperando un permiso
+   */
+  public int getQueued() {
+    return queued.get();
+  }
+
+  /**
+   * Total de operaciones rechazadas con la cola llena
+   */
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public int getMaxQueued() {
+    return maxQueued;
+  }
+
+  private boolean tryAcquire() {
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= maxInFlight) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  /**
+   * Entrega el permiso al primer waiter vigente o lo devuelve al semáforo
+   */
+  private void release() {
+    Waiter waiter;
+    while ((waiter = waiters.poll()) != null) {
+      queued.decrementAndGet();
+      if (waiter.state.compareAndSet(WAITING, GRANTED)) {
+        waiter.sink.success();
+        return;
+      }
+    }
+
+    inFlight.decrementAndGet();
+    // Un waiter encolado después del poll no vio este permiso libre
+    if (!waiters.isEmpty() && tryAcquire()) {
+      release();
+    }
+  }
+
+  private void cancel(Waiter waiter) {
+    if (waiter.state.compareAndSet(WAITING, CANCELLED) && waiters.remove(waiter)) {
+      queued.decrementAndGet();
+    }
+  }
+
+  /**
+   * Operación esperando un permiso
+   */
+  private static final class Waiter {
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+    private volatile MonoSink<Void> sink;
+  }
+}
@@ -0,0 +1,25 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Tasa de cambio cacheada junto con el instante en que se obtuvo de la fuente
+ */
+@Data
+@AllArgsConstructor
+public class CachedExchangeRate {
+
+  private BigDecimal rate;
+
+  /**
+   * Instante (epoch millis) en que la fuente devolvió la tasa
+   */
+  private long fetchedAtMillis;
+
+  public long ageMillis(long nowMillis) {
+    return nowMillis - fetchedAtMillis;
+  }
+}
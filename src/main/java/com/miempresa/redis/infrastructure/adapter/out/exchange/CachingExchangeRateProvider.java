@@ -0,0 +1,173 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import com.miempresa.redis.application.port.out.ExchangeRateProviderPort;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decorador de ExchangeRateProviderPort que cachea las tasas en memoria y en
+ * Redis
+ * - Una tasa más nueva que refreshAfter se sirve directamente
+ * - Entre refreshAfter y expireAfter se sirve la tasa anterior y se refresca
+ * en segundo plano (refresh-ahead / stale-while-revalidate)
+ * - Pasado expireAfter se consulta Redis y, si tampoco está vigente, la fuente
+ * - Si la fuente falla se sirve la última tasa conocida hasta maxStale
+ * Las consultas concurrentes a la fuente para un mismo par se agrupan en una
+ * sola llamada
+ */
+@Slf4j
+public class CachingExchangeRateProvider implements ExchangeRateProviderPort {
+
+  private final ExchangeRateProviderPort upstream;
+  private final ExchangeRateStore store;
+  private final long refreshAfterMillis;
+  private final long expireAfterMillis;
+  private final long maxStaleMillis;
+  private final Duration storeTtl;
+  private final Clock clock;
+
+  // Copia local por id de par (ExchangeRateTable.pairId)
+  private final Map<Integer, CachedExchangeRate> localRates = new ConcurrentHashMap<>();
+  // Llamadas en curso a la fuente, compartidas por todos los suscriptores
+  private final Map<Integer, Mono<BigDecimal>> inFlight = new ConcurrentHashMap<>();
+
+  public CachingExchangeRateProvider(ExchangeRateProviderPort upstream, ExchangeRateStore store,
+      Duration refreshAfter, Duration expireAfter, Duration maxStale, Clock clock) {
+    if (refreshAfter.compareTo(expireAfter) > 0) {
+      throw new IllegalArgumentException("refreshAfter no puede ser mayor a expireAfter");
+    }
+    this.upstream = upstream;
+    this.store = store;
+    this.refreshAfterMillis = refreshAfter.toMillis();
+    this.expireAfterMillis = expireAfter.toMillis();
+    this.maxStaleMillis = Math.max(maxStale.toMillis(), expireAfterMillis);
+    this.storeTtl = expireAfter;
+    this.clock = clock;
+
+    log.info("Exchange rate cache enabled - refresh after: {}, expire after: {}, max stale: {}",
+        refreshAfter, expireAfter, maxStale);
+  }
+
+  @Override
+  public Mono<BigDecimal> getExchangeRate(String sourceCurrency, String targetCurrency) {
+    int pairId = ExchangeRateTable.pairId(sourceCurrency, targetCurrency);
+    if (pairId < 0) {
+      // Código inválido: la fuente decide el error
+      return upstream.getExchangeRate(sourceCurrency, targetCurrency);
+    }
+
+    return Mono.defer(() -> {
+      CachedExchangeRate local = localRates.get(pairId);
+      long now = clock.millis();
+
+      if (local != null && local.ageMillis(now) < expireAfterMillis) {
+        if (local.ageMillis(now) >= refreshAfterMillis) {
+          refreshInBackground(sourceCurrency, targetCurrency, pairId);
+        }
+        return Mono.just(local.getRate());
+      }
+
+      return loadFromStore(sourceCurrency, targetCurrency, pairId)
+          .switchIfEmpty(Mono.defer(() -> fetch(sourceCurrency, targetCurrency, pairId)))
+          .onErrorResume(error -> serveStale(sourceCurrency, targetCurrency, pairId, error));
+    });
+  }
+
+  @Override
+  public Mono<BigDecimal> getDefaultPENtoUSDRate() {
+    return upstream.getDefaultPENtoUSDRate();
+  }
+
+  @Override
+  public Mono<BigDecimal> getDefaultUSDtoPENRate() {
+    return upstream.getDefaultUSDtoPENRate();
+  }
+
+  @Override
+  public boolean isValidExchangeRate(BigDecimal rate) {
+    return upstream.isValidExchangeRate(rate);
+  }
+
+  @Override
+  public boolean isBlocking() {
+    // Un fallo de cache llama a la fuente en el mismo thread
+    return upstream.isBlocking();
+  }
+
+  /**
+   * Lee la tasa compartida en Redis; otro nodo pudo haberla obtenido ya
+   */
+  private Mono<BigDecimal> loadFromStore(String sourceCurrency, String targetCurrency, int pairId) {
+    return store.get(sourceCurrency, targetCurrency)
+        .filter(cached -> cached.ageMillis(clock.millis()) < expireAfterMillis)
+        .doOnNext(cached -> {
+          localRates.merge(pairId, cached,
+              (current, incoming) -> incoming.getFetchedAtMillis() > current.getFetchedAtMillis() ? incoming : current);
+          if (cached.ageMillis(clock.millis()) >= refreshAfterMillis) {
+            refreshInBackground(sourceCurrency, targetCurrency, pairId);
+          }
+        })
+        .map(CachedExchangeRate::getRate)
+        // Redis no disponible: se continúa con la fuente
+        .onErrorResume(error -> Mono.empty());
+  }
+
+  /**
+   * Consulta la fuente una sola vez por par aunque haya varios suscriptores
+   */
+  private Mono<BigDecimal> fetch(String sourceCurrency, String targetCurrency, int pairId) {
+    return inFlight.computeIfAbsent(pairId, id -> {
+      AtomicReference<Mono<BigDecimal>> call = new AtomicReference<>();
+      // Se retira antes de emitir el resultado, para que quien consulte
+      // después no reciba una respuesta ya cacheada
+      Runnable release = () -> inFlight.remove(pairId, call.get());
+
+      call.set(upstream.getExchangeRate(sourceCurrency, targetCurrency)
+          .flatMap(rate -> record(sourceCurrency, targetCurrency, pairId, rate))
+          .doOnSuccess(rate -> release.run())
+          .doOnError(error -> release.run())
+          .doOnCancel(release)
+          .cache());
+      return call.get();
+    });
+  }
+
+  private void refreshInBackground(String sourceCurrency, String targetCurrency, int pairId) {
+    if (inFlight.containsKey(pairId)) {
+      return;
+    }
+
+    log.debug("Refreshing exchange rate for {}:{} ahead of expiry", sourceCurrency, targetCurrency);
+    fetch(sourceCurrency, targetCurrency, pairId)
+        .subscribe(rate -> { },
+            error -> log.warn("Background refresh failed for {}:{}, serving cached rate",
+                sourceCurrency, targetCurrency, error));
+  }
+
+  private Mono<BigDecimal> record(String sourceCurrency, String targetCurrency, int pairId, BigDecimal rate) {
+    CachedExchangeRate cached = new CachedExchangeRate(rate, clock.millis());
+    localRates.put(pairId, cached);
+
+    return store.put(sourceCurrency, targetCurrency, cached, storeTtl)
+        .onErrorResume(error -> Mono.empty())
+        .thenReturn(rate);
+  }
+
+  private Mono<BigDecimal> serveStale(String sourceCurrency, String targetCurrency, int pairId, Throwable error) {
+    CachedExchangeRate local = localRates.get(pairId);
+    if (local == null || local.ageMillis(clock.millis()) >= maxStaleMillis) {
+      return Mono.error(error);
+    }
+
+    log.warn("Exchange rate source failed for {}:{}, serving stale rate from {} ms ago",
+        sourceCurrency, targetCurrency, local.ageMillis(clock.millis()), error);
+    return Mono.just(local.getRate());
+  }
+}
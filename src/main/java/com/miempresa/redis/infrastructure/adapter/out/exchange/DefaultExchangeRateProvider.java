@@ -1,47 +1,60 @@
 package com.miempresa.redis.infrastructure.adapter.out.exchange;
 
 import com.miempresa.redis.application.port.out.ExchangeRateProviderPort;
+import com.miempresa.redis.infrastructure.config.ExchangeRateProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Adaptador de infraestructura para proveer tasas de cambio
+ * Las tasas se declaran contra una moneda base y cualquier par se obtiene de
+ * la matriz de tasas cruzadas del grafo, así PEN:USD y USD:PEN son siempre
+ * inversas exactas
  * Implementa el puerto de salida ExchangeRateProviderPort
  */
 @Slf4j
 @Component
 public class DefaultExchangeRateProvider implements ExchangeRateProviderPort {
 
-  // Tasa de cambio fija por defecto (en un caso real, esto vendría de un servicio
-  // externo)
-  private static final BigDecimal DEFAULT_PEN_TO_USD_RATE = new BigDecimal("3.8");
-  private static final BigDecimal DEFAULT_USD_TO_PEN_RATE = new BigDecimal("0.2632");
+  // Grafo inmutable de tasas; las lecturas no toman locks y cada
+  // actualización publica un grafo nuevo con la matriz recalculada
+  private final AtomicReference<ExchangeRateGraph> exchangeRates;
+  // Tasas declaradas en la configuración, base para las resincronizaciones
+  private final ExchangeRateGraph configuredRates;
 
-  // Cache simple de tasas de cambio (en un caso real, esto podría usar Redis)
-  private final Map<String, BigDecimal> exchangeRates = new HashMap<>();
+  // Si existe, los cambios se escriben en Redis y se aplican al llegar por
+  // pub/sub en todos los nodos
+  private volatile RedisExchangeRateSynchronizer synchronizer;
 
   public DefaultExchangeRateProvider() {
-    // Inicializar tasas por defecto
-    exchangeRates.put("PEN:USD", DEFAULT_PEN_TO_USD_RATE);
-    exchangeRates.put("USD:PEN", DEFAULT_USD_TO_PEN_RATE);
+    this(new ExchangeRateProperties());
+  }
+
+  @Autowired
+  public DefaultExchangeRateProvider(ExchangeRateProperties properties) {
+    ExchangeRateGraph graph = ExchangeRateGraph.withBase(properties.getBaseCurrency());
+    for (Map.Entry<String, BigDecimal> baseRate : properties.getBaseRates().entrySet()) {
+      graph = graph.withBaseRate(baseRate.getKey(), baseRate.getValue());
+    }
+    this.configuredRates = graph;
+    this.exchangeRates = new AtomicReference<>(graph);
 
-    log.info("Default exchange rates initialized - PEN:USD = {}, USD:PEN = {}",
-        DEFAULT_PEN_TO_USD_RATE, DEFAULT_USD_TO_PEN_RATE);
+    log.info("Default exchange rates initialized - base: {}, rates: {}",
+        graph.getBaseCurrency(), graph.getBaseRates());
   }
 
   @Override
   public Mono<BigDecimal> getExchangeRate(String sourceCurrency, String targetCurrency) {
-    String rateKey = sourceCurrency + ":" + targetCurrency;
-
     log.debug("Getting exchange rate for {}:{}", sourceCurrency, targetCurrency);
 
     return Mono.fromCallable(() -> {
-      BigDecimal rate = exchangeRates.get(rateKey);
+      BigDecimal rate = exchangeRates.get().getTable().getRate(sourceCurrency, targetCurrency);
       if (rate == null) {
         log.warn("Exchange rate not found for {}:{}", sourceCurrency, targetCurrency);
         throw new IllegalArgumentException(
@@ -56,13 +69,13 @@ public class DefaultExchangeRateProvider implements ExchangeRateProviderPort {
   @Override
   public Mono<BigDecimal> getDefaultPENtoUSDRate() {
     log.debug("Getting default PEN to USD rate");
-    return Mono.just(DEFAULT_PEN_TO_USD_RATE);
+    return getExchangeRate("PEN", "USD");
   }
 
   @Override
   public Mono<BigDecimal> getDefaultUSDtoPENRate() {
     log.debug("Getting default USD to PEN rate");
-    return Mono.just(DEFAULT_USD_TO_PEN_RATE);
+    return getExchangeRate("USD", "PEN");
   }
 
   @Override
@@ -72,22 +85,68 @@ public class DefaultExchangeRateProvider implements ExchangeRateProviderPort {
 
   /**
    * Actualiza una tasa de cambio (método para testing o configuración dinámica)
+   * Se recalculan todos los pares que dependen de la moneda actualizada. Con
+   * sincronización activa el cambio se publica y se aplica de forma asíncrona
+   * en el orden asignado por Redis
    */
   public void updateExchangeRate(String sourceCurrency, String targetCurrency, BigDecimal newRate) {
     if (!isValidExchangeRate(newRate)) {
       throw new IllegalArgumentException("La tasa de cambio debe ser mayor a 0");
     }
 
-    String rateKey = sourceCurrency + ":" + targetCurrency;
-    exchangeRates.put(rateKey, newRate);
+    Map.Entry<String, BigDecimal> baseRate = exchangeRates.get()
+        .baseRateFor(sourceCurrency, targetCurrency, newRate);
+
+    RedisExchangeRateSynchronizer currentSynchronizer = synchronizer;
+    if (currentSynchronizer != null) {
+      currentSynchronizer.publishBaseRate(baseRate.getKey(), baseRate.getValue())
+          .subscribe(sequence -> log.info("Exchange rate update for {}:{} = {} published with sequence {}",
+              sourceCurrency, targetCurrency, newRate, sequence),
+              error -> log.error("Error publishing exchange rate update for {}:{}",
+                  sourceCurrency, targetCurrency, error));
+      return;
+    }
 
+    applyBaseRate(baseRate.getKey(), baseRate.getValue());
     log.info("Exchange rate updated for {}:{} = {}", sourceCurrency, targetCurrency, newRate);
   }
 
+  /**
+   * Aplica la tasa base de una moneda y publica la nueva matriz
+   */
+  public void applyBaseRate(String currency, BigDecimal unitsPerBase) {
+    exchangeRates.updateAndGet(graph -> graph.withBaseRate(currency, unitsPerBase));
+  }
+
+  /**
+   * Reemplaza todas las tasas por las de la configuración más las recibidas
+   * (ej: snapshot completo de Redis)
+   */
+  public void replaceBaseRates(Map<String, BigDecimal> baseRates) {
+    ExchangeRateGraph graph = configuredRates;
+    for (Map.Entry<String, BigDecimal> baseRate : baseRates.entrySet()) {
+      if (!baseRate.getKey().equalsIgnoreCase(graph.getBaseCurrency())) {
+        graph = graph.withBaseRate(baseRate.getKey(), baseRate.getValue());
+      }
+    }
+    exchangeRates.set(graph);
+  }
+
+  /**
+   * Tasas base actuales
+   */
+  public ExchangeRateGraph getGraph() {
+    return exchangeRates.get();
+  }
+
+  void attachSynchronizer(RedisExchangeRateSynchronizer synchronizer) {
+    this.synchronizer = synchronizer;
+  }
+
   /**
    * Obtiene todas las tasas de cambio disponibles
    */
   public Map<String, BigDecimal> getAllExchangeRates() {
-    return new HashMap<>(exchangeRates);
+    return exchangeRates.get().getTable().toMap();
   }
-}
\ No newline at end of file
+}
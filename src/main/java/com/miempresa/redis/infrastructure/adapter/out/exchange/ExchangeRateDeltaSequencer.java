@@ -0,0 +1,73 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+/**
+ * Ordena los cambios de tasas recibidos por pub/sub según el número de
+ * secuencia asignado por Redis
+ * Un cambio se aplica solo si es el siguiente esperado; uno repetido se
+ * ignora y un salto indica mensajes perdidos, por lo que hace falta un
+ * snapshot completo. Cada decisión y su aplicación ocurren bajo el mismo
+ * lock, así dos cambios nunca se aplican en desorden
+ */
+public class ExchangeRateDeltaSequencer {
+
+  /**
+   * Resultado de recibir un cambio
+   */
+  public enum Decision {
+    APPLIED, IGNORED, RESYNC_REQUIRED
+  }
+
+  private static final long NOT_SYNCED = -1;
+
+  private long lastSequence = NOT_SYNCED;
+  private long highestSeen = NOT_SYNCED;
+
+  /**
+   * Registra un cambio y lo aplica si es el siguiente de la secuencia
+   */
+  public synchronized Decision onDelta(long sequence, Runnable apply) {
+    highestSeen = Math.max(highestSeen, sequence);
+
+    if (lastSequence == NOT_SYNCED) {
+      return Decision.RESYNC_REQUIRED;
+    }
+    if (sequence <= lastSequence) {
+      return Decision.IGNORED;
+    }
+    if (sequence != lastSequence + 1) {
+      return Decision.RESYNC_REQUIRED;
+    }
+
+    apply.run();
+    lastSequence = sequence;
+    return Decision.APPLIED;
+  }
+
+  /**
+   * Aplica un snapshot completo salvo que sea más antiguo que lo ya aplicado
+   *
+   * @return true si se aplicó
+   */
+  public synchronized boolean onSnapshot(long sequence, Runnable apply) {
+    if (sequence < lastSequence) {
+      return false;
+    }
+
+    apply.run();
+    lastSequence = sequence;
+    highestSeen = Math.max(highestSeen, sequence);
+    return true;
+  }
+
+  /**
+   * Indica si se vio un cambio posterior al último aplicado (ej: llegó
+   * mientras se leía el snapshot)
+   */
+  public synchronized boolean isBehind() {
+    return highestSeen > lastSequence;
+  }
+
+  public synchronized long getLastSequence() {
+    return lastSequence;
+  }
+}
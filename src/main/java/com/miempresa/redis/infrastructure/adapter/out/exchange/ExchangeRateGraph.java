@@ -0,0 +1,165 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Grafo inmutable de monedas conectadas a una moneda base
+ * Solo se guarda una tasa por moneda (unidades de la moneda por una unidad de
+ * la base); cada cambio recalcula la matriz densa de tasas cruzadas, de modo
+ * que cualquier par se consulta en O(1) sin buscar caminos por request
+ * La tasa de un par ORIGEN:DESTINO son las unidades de ORIGEN por una unidad
+ * de DESTINO (monto convertido = monto / tasa), igual que en ExchangeRateTable
+ */
+public final class ExchangeRateGraph {
+
+  /**
+   * Precisión de las tasas cruzadas (16 dígitos significativos)
+   */
+  public static final MathContext RATE_PRECISION = MathContext.DECIMAL64;
+
+  /**
+   * Desvío máximo permitido entre tasa(A:B) x tasa(B:A) y 1
+   */
+  private static final BigDecimal INVERSE_TOLERANCE = new BigDecimal("1E-12");
+
+  private final String baseCurrency;
+  // Unidades de cada moneda por una unidad de la base (la base vale 1)
+  private final Map<String, BigDecimal> baseRates;
+  private final ExchangeRateTable table;
+
+  private ExchangeRateGraph(String baseCurrency, Map<String, BigDecimal> baseRates) {
+    this.baseCurrency = baseCurrency;
+    this.baseRates = Collections.unmodifiableMap(baseRates);
+    this.table = buildTable();
+  }
+
+  /**
+   * Crea un grafo con solo la moneda base
+   */
+  public static ExchangeRateGraph withBase(String baseCurrency) {
+    String base = normalize(baseCurrency);
+    Map<String, BigDecimal> baseRates = new LinkedHashMap<>();
+    baseRates.put(base, BigDecimal.ONE);
+    return new ExchangeRateGraph(base, baseRates);
+  }
+
+  /**
+   * Crea un nuevo grafo con las unidades de la moneda por una unidad de la base
+   * (ej: PEN = 3.8 con base USD); este grafo no cambia
+   */
+  public ExchangeRateGraph withBaseRate(String currency, BigDecimal unitsPerBase) {
+    String normalized = normalize(currency);
+    if (unitsPerBase == null || unitsPerBase.signum() <= 0) {
+      throw new IllegalArgumentException("La tasa de cambio debe ser mayor a 0");
+    }
+    if (normalized.equals(baseCurrency)) {
+      throw new IllegalArgumentException("La moneda base siempre vale 1: " + baseCurrency);
+    }
+
+    Map<String, BigDecimal> updated = new LinkedHashMap<>(baseRates);
+    updated.put(normalized, unitsPerBase);
+    return new ExchangeRateGraph(baseCurrency, updated);
+  }
+
+  /**
+   * Crea un nuevo grafo a partir de la tasa de un par
+   * Se mueve la moneda que no es la base (o el origen si ninguna lo es); la
+   * otra moneda debe estar ya en el grafo
+   */
+  public ExchangeRateGraph withPairRate(String sourceCurrency, String targetCurrency, BigDecimal rate) {
+    Map.Entry<String, BigDecimal> baseRate = baseRateFor(sourceCurrency, targetCurrency, rate);
+    return withBaseRate(baseRate.getKey(), baseRate.getValue());
+  }
+
+  /**
+   * Calcula qué tasa base cambia al fijar la tasa de un par, sin modificar el
+   * grafo
+   *
+   * @return moneda que se mueve y sus nuevas unidades por unidad de la base
+   */
+  public Map.Entry<String, BigDecimal> baseRateFor(String sourceCurrency, String targetCurrency, BigDecimal rate) {
+    String source = normalize(sourceCurrency);
+    String target = normalize(targetCurrency);
+    if (rate == null || rate.signum() <= 0) {
+      throw new IllegalArgumentException("La tasa de cambio debe ser mayor a 0");
+    }
+    if (source.equals(target)) {
+      throw new IllegalArgumentException("Las monedas origen y destino deben ser distintas");
+    }
+
+    // tasa(S:T) = base(S) / base(T)
+    if (!source.equals(baseCurrency) && baseRates.containsKey(target)) {
+      return Map.entry(source, rate.multiply(baseRates.get(target), RATE_PRECISION));
+    }
+    if (baseRates.containsKey(source)) {
+      return Map.entry(target, baseRates.get(source).divide(rate, RATE_PRECISION));
+    }
+    throw new IllegalArgumentException(
+        "El par " + source + ":" + target + " no está conectado con la moneda base " + baseCurrency);
+  }
+
+  public String getBaseCurrency() {
+    return baseCurrency;
+  }
+
+  /**
+   * Unidades de cada moneda por una unidad de la base
+   */
+  public Map<String, BigDecimal> getBaseRates() {
+    return baseRates;
+  }
+
+  /**
+   * Matriz de tasas cruzadas de todos los pares
+   */
+  public ExchangeRateTable getTable() {
+    return table;
+  }
+
+  private ExchangeRateTable buildTable() {
+    String[] currencies = baseRates.keySet().toArray(new String[0]);
+    BigDecimal[] perBase = baseRates.values().toArray(new BigDecimal[0]);
+    int n = currencies.length;
+
+    BigDecimal[] rates = new BigDecimal[n * n];
+    for (int source = 0; source < n; source++) {
+      for (int target = 0; target < n; target++) {
+        rates[source * n + target] = source == target
+            ? BigDecimal.ONE
+            : perBase[source].divide(perBase[target], RATE_PRECISION);
+      }
+    }
+
+    checkInverseConsistency(currencies, rates);
+    return ExchangeRateTable.fromMatrix(currencies, rates);
+  }
+
+  /**
+   * Verifica que cada par y su inverso se compensen: tasa(A:B) x tasa(B:A) = 1
+   * salvo el redondeo de RATE_PRECISION
+   */
+  private static void checkInverseConsistency(String[] currencies, BigDecimal[] rates) {
+    int n = currencies.length;
+    for (int source = 0; source < n; source++) {
+      for (int target = source + 1; target < n; target++) {
+        BigDecimal product = rates[source * n + target].multiply(rates[target * n + source], RATE_PRECISION);
+        if (product.subtract(BigDecimal.ONE).abs().compareTo(INVERSE_TOLERANCE) > 0) {
+          throw new IllegalStateException("Tasas inconsistentes para " + currencies[source] + ":"
+              + currencies[target] + " (producto con la inversa: " + product + ")");
+        }
+      }
+    }
+  }
+
+  private static String normalize(String currency) {
+    if (ExchangeRateTable.currencyCode(currency) < 0) {
+      throw new IllegalArgumentException("Código de moneda inválido: " + currency);
+    }
+    return currency.toUpperCase(Locale.ROOT);
+  }
+}
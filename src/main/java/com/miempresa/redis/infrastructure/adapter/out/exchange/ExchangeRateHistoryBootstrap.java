@@ -0,0 +1,28 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Agrega al historial las tasas base de la configuración al arrancar cuando
+ * la sincronización entre nodos está desactivada; con sincronización activa
+ * lo hace RedisExchangeRateSynchronizer tras cargar el snapshot de Redis
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "exchange-rate.sync.enabled", havingValue = "false")
+public class ExchangeRateHistoryBootstrap implements CommandLineRunner {
+
+  private final DefaultExchangeRateProvider provider;
+  private final RedissonExchangeRateHistoryStore historyStore;
+
+  @Override
+  public void run(String... args) {
+    historyStore.recordBaseRatesIfChanged(provider.getGraph().getBaseRates(), Instant.now())
+        .subscribe();
+  }
+}
@@ -0,0 +1,198 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Formato binario de un bucket de una hora del historial de tasas
+ * Cada registro es:
+ * - varint (zigzag(deltaTiempo) << 1 | esDelta)
+ * - varint zigzag(deltaValor)
+ * Un registro absoluto guarda el tiempo como offset desde el inicio del bucket
+ * y el valor completo; uno delta guarda ambas diferencias respecto al registro
+ * anterior. Los valores son longs con escala fija RATE_SCALE, así una
+ * actualización por segundo sin cambio de tasa ocupa 3 bytes
+ */
+public final class ExchangeRateHistoryCodec {
+
+  public static final long BUCKET_MILLIS = 3_600_000L;
+  public static final int RATE_SCALE = 10;
+
+  private ExchangeRateHistoryCodec() {
+  }
+
+  public static long bucketOf(long timestampMillis) {
+    return Math.floorDiv(timestampMillis, BUCKET_MILLIS);
+  }
+
+  /**
+   * Convierte una tasa a long con escala RATE_SCALE (redondeo HALF_UP)
+   *
+   * @throws ArithmeticException si la tasa no cabe en un long
+   */
+  public static long toScaled(BigDecimal rate) {
+    return rate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  public static BigDecimal fromScaled(long scaled) {
+    BigDecimal rate = BigDecimal.valueOf(scaled, RATE_SCALE).stripTrailingZeros();
+    return rate.scale() < 0 ? rate.setScale(0) : rate;
+  }
+
+  /**
+   * Registro autónomo: no depende de los anteriores del bucket
+   */
+  public static byte[] encodeAbsolute(long timestampMillis, long scaledRate) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(12);
+    long offset = timestampMillis - bucketOf(timestampMillis) * BUCKET_MILLIS;
+    writeVarint(out, zigzag(offset) << 1);
+    writeVarint(out, zigzag(scaledRate));
+    return out.toByteArray();
+  }
+
+  /**
+   * Registro relativo al último registro del bucket
+   */
+  public static byte[] encodeDelta(long previousTimestampMillis, long previousScaledRate, long timestampMillis,
+      long scaledRate) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(6);
+    writeVarint(out, zigzag(timestampMillis - previousTimestampMillis) << 1 | 1);
+    writeVarint(out, zigzag(scaledRate - previousScaledRate));
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodifica un bucket completo, ordenado por tiempo
+   */
+  public static Bucket decode(long bucket, byte[] data) {
+    long[] timestamps = new long[Math.max(1, data.length / 2)];
+    long[] rates = new long[timestamps.length];
+    int size = 0;
+    boolean sorted = true;
+
+    long timestamp = bucket * BUCKET_MILLIS;
+    long rate = 0;
+    int[] position = { 0 };
+    while (position[0] < data.length) {
+      long header = readVarint(data, position);
+      long value = unzigzag(readVarint(data, position));
+      if ((header & 1) == 0) {
+        timestamp = bucket * BUCKET_MILLIS + unzigzag(header >>> 1);
+        rate = value;
+      } else {
+        timestamp += unzigzag(header >>> 1);
+        rate += value;
+      }
+
+      if (size == timestamps.length) {
+        timestamps = Arrays.copyOf(timestamps, size * 2);
+        rates = Arrays.copyOf(rates, size * 2);
+      }
+      sorted &= size == 0 || timestamp >= timestamps[size - 1];
+      timestamps[size] = timestamp;
+      rates[size] = rate;
+      size++;
+    }
+
+    if (!sorted) {
+      // Escritores con relojes desfasados: se ordena conservando el orden de
+      // escritura entre iguales
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      long[] unsortedTimestamps = timestamps;
+      Arrays.sort(order, (a, b) -> Long.compare(unsortedTimestamps[a], unsortedTimestamps[b]));
+      long[] sortedTimestamps = new long[size];
+      long[] sortedRates = new long[size];
+      for (int i = 0; i < size; i++) {
+        sortedTimestamps[i] = timestamps[order[i]];
+        sortedRates[i] = rates[order[i]];
+      }
+      timestamps = sortedTimestamps;
+      rates = sortedRates;
+    }
+    return new Bucket(timestamps, rates, size);
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarint(byte[] data, int[] position) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      if (position[0] >= data.length) {
+        throw new IllegalArgumentException("Registro de historial truncado");
+      }
+      byte b = data[position[0]++];
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Varint demasiado largo en el historial");
+  }
+
+  /**
+   * Puntos decodificados de un bucket, ordenados por tiempo
+   */
+  public static final class Bucket {
+    private final long[] timestamps;
+    private final long[] rates;
+    private final int size;
+
+    private Bucket(long[] timestamps, long[] rates, int size) {
+      this.timestamps = timestamps;
+      this.rates = rates;
+      this.size = size;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    public long timestampAt(int index) {
+      return timestamps[index];
+    }
+
+    public long rateAt(int index) {
+      return rates[index];
+    }
+
+    /**
+     * Búsqueda binaria del último punto con tiempo menor o igual al indicado
+     *
+     * @return índice del punto o -1 si todos son posteriores
+     */
+    public int indexAtOrBefore(long timestampMillis) {
+      int low = 0;
+      int high = size - 1;
+      int found = -1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (timestamps[mid] <= timestampMillis) {
+          found = mid;
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return found;
+    }
+  }
+}
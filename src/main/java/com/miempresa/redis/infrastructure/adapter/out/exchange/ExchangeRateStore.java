@@ -0,0 +1,23 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Almacenamiento compartido entre nodos de las tasas cacheadas
+ */
+public interface ExchangeRateStore {
+
+  /**
+   * Obtiene la tasa cacheada de un par
+   *
+   * @return Mono con la tasa o empty si no existe o expiró
+   */
+  Mono<CachedExchangeRate> get(String sourceCurrency, String targetCurrency);
+
+  /**
+   * Guarda la tasa de un par con expiración
+   */
+  Mono<Void> put(String sourceCurrency, String targetCurrency, CachedExchangeRate rate, Duration ttl);
+}
@@ -0,0 +1,197 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot inmutable de tasas de cambio indexado por código de moneda
+ * Cada código ISO de tres letras se empaqueta en 15 bits (5 por letra) y se
+ * traduce a un índice denso, de modo que una consulta son dos lecturas de
+ * arreglo sin crear objetos. Las actualizaciones crean un nuevo snapshot
+ * (copy-on-write) que se publica de forma atómica
+ */
+public final class ExchangeRateTable {
+
+  private static final int CODE_BITS = 15;
+  private static final int CODE_SPACE = 1 << CODE_BITS;
+  private static final int INVALID_CODE = -1;
+
+  private static final ExchangeRateTable EMPTY = new ExchangeRateTable(new short[CODE_SPACE], new String[0],
+      new BigDecimal[0]);
+
+  // Índice + 1 de cada código empaquetado (0 = moneda desconocida)
+  private final short[] currencyIndex;
+  private final String[] currencies;
+  // Matriz densa currencies x currencies: rates[source * n + target]
+  private final BigDecimal[] rates;
+
+  private ExchangeRateTable(short[] currencyIndex, String[] currencies, BigDecimal[] rates) {
+    this.currencyIndex = currencyIndex;
+    this.currencies = currencies;
+    this.rates = rates;
+  }
+
+  public static ExchangeRateTable empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Crea un snapshot a partir de una matriz densa ya calculada
+   *
+   * @param currencies códigos de moneda, en el orden de filas y columnas
+   * @param rates      matriz currencies x currencies: rates[origen * n +
+   *                   destino]; se copia
+   */
+  public static ExchangeRateTable fromMatrix(String[] currencies, BigDecimal[] rates) {
+    int n = currencies.length;
+    if (rates.length != n * n) {
+      throw new IllegalArgumentException("La matriz debe tener " + (n * n) + " tasas");
+    }
+
+    short[] index = new short[CODE_SPACE];
+    String[] normalized = new String[n];
+    for (int i = 0; i < n; i++) {
+      int code = currencyCode(currencies[i]);
+      if (code == INVALID_CODE || index[code] != 0) {
+        throw new IllegalArgumentException("Código de moneda inválido o repetido: " + currencies[i]);
+      }
+      index[code] = (short) (i + 1);
+      normalized[i] = decode(code);
+    }
+    return new ExchangeRateTable(index, normalized, rates.clone());
+  }
+
+  /**
+   * Empaqueta un código ISO de tres letras en 15 bits
+   *
+   * @return código empaquetado o -1 si no son tres letras
+   */
+  public static int currencyCode(String currency) {
+    if (currency == null || currency.length() != 3) {
+      return INVALID_CODE;
+    }
+
+    int code = 0;
+    for (int i = 0; i < 3; i++) {
+      int letter = (currency.charAt(i) | 0x20) - 'a';
+      if (letter < 0 || letter > 25) {
+        return INVALID_CODE;
+      }
+      code = (code << 5) | letter;
+    }
+    return code;
+  }
+
+  /**
+   * Identificador compacto de un par de monedas (dos códigos en un int)
+   *
+   * @return id del par o -1 si algún código no es válido
+   */
+  public static int pairId(String sourceCurrency, String targetCurrency) {
+    int source = currencyCode(sourceCurrency);
+    int target = currencyCode(targetCurrency);
+    if (source == INVALID_CODE || target == INVALID_CODE) {
+      return INVALID_CODE;
+    }
+    return (source << CODE_BITS) | target;
+  }
+
+  /**
+   * Obtiene la tasa de un par
+   *
+   * @return tasa o null si el par no está registrado
+   */
+  public BigDecimal getRate(String sourceCurrency, String targetCurrency) {
+    int source = indexOf(currencyCode(sourceCurrency));
+    int target = indexOf(currencyCode(targetCurrency));
+    if (source < 0 || target < 0) {
+      return null;
+    }
+    return rates[source * currencies.length + target];
+  }
+
+  /**
+   * Crea un nuevo snapshot con la tasa del par actualizada; este snapshot no
+   * cambia
+   */
+  public ExchangeRateTable withRate(String sourceCurrency, String targetCurrency, BigDecimal rate) {
+    int sourceCode = currencyCode(sourceCurrency);
+    int targetCode = currencyCode(targetCurrency);
+    if (sourceCode == INVALID_CODE || targetCode == INVALID_CODE) {
+      throw new IllegalArgumentException(
+          "Código de moneda inválido: " + sourceCurrency + " / " + targetCurrency);
+    }
+
+    short[] newIndex = currencyIndex;
+    String[] newCurrencies = currencies;
+    for (int code : new int[] { sourceCode, targetCode }) {
+      if (newIndex[code] == 0) {
+        if (newIndex == currencyIndex) {
+          newIndex = currencyIndex.clone();
+        }
+        newCurrencies = Arrays.copyOf(newCurrencies, newCurrencies.length + 1);
+        newCurrencies[newCurrencies.length - 1] = decode(code);
+        newIndex[code] = (short) newCurrencies.length;
+      }
+    }
+
+    BigDecimal[] newRates = resize(newCurrencies.length);
+    int n = newCurrencies.length;
+    newRates[(newIndex[sourceCode] - 1) * n + (newIndex[targetCode] - 1)] = rate;
+    return new ExchangeRateTable(newIndex, newCurrencies, newRates);
+  }
+
+  /**
+   * Copia de todas las tasas registradas con claves "ORIGEN:DESTINO"
+   */
+  public Map<String, BigDecimal> toMap() {
+    if (currencies.length == 0) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, BigDecimal> map = new LinkedHashMap<>();
+    int n = currencies.length;
+    for (int source = 0; source < n; source++) {
+      for (int target = 0; target < n; target++) {
+        BigDecimal rate = rates[source * n + target];
+        if (rate != null) {
+          map.put(currencies[source] + ":" + currencies[target], rate);
+        }
+      }
+    }
+    return map;
+  }
+
+  public int currencyCount() {
+    return currencies.length;
+  }
+
+  private int indexOf(int code) {
+    return code == INVALID_CODE ? -1 : currencyIndex[code] - 1;
+  }
+
+  private BigDecimal[] resize(int newSize) {
+    int oldSize = currencies.length;
+    if (newSize == oldSize) {
+      return rates.clone();
+    }
+
+    BigDecimal[] resized = new BigDecimal[newSize * newSize];
+    for (int row = 0; row < oldSize; row++) {
+      System.arraycopy(rates, row * oldSize, resized, row * newSize, oldSize);
+    }
+    return resized;
+  }
+
+  private static String decode(int code) {
+    char[] letters = new char[3];
+    for (int i = 2; i >= 0; i--) {
+      letters[i] = (char) ('A' + (code & 0x1F));
+      code >>>= 5;
+    }
+    return new String(letters);
+  }
+}
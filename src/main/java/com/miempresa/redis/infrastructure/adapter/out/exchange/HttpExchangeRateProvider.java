@@ -0,0 +1,69 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import com.miempresa.redis.application.port.out.ExchangeRateProviderPort;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Adaptador de infraestructura que obtiene tasas de cambio de un servicio HTTP
+ * externo: GET {baseUrl}/rates/{origen}/{destino} con respuesta
+ * {"rate": 3.8}
+ * Implementa el puerto de salida ExchangeRateProviderPort
+ */
+@Slf4j
+public class HttpExchangeRateProvider implements ExchangeRateProviderPort {
+
+  private static final BigDecimal DEFAULT_PEN_TO_USD_RATE = new BigDecimal("3.8");
+  // Inversa derivada, no redondeada aparte, para que ida y vuelta cierren
+  private static final BigDecimal DEFAULT_USD_TO_PEN_RATE = BigDecimal.ONE.divide(DEFAULT_PEN_TO_USD_RATE,
+      ExchangeRateGraph.RATE_PRECISION);
+
+  private final WebClient webClient;
+  private final Duration timeout;
+
+  public HttpExchangeRateProvider(WebClient webClient, Duration timeout) {
+    this.webClient = webClient;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public Mono<BigDecimal> getExchangeRate(String sourceCurrency, String targetCurrency) {
+    log.debug("Fetching exchange rate for {}:{} from remote source", sourceCurrency, targetCurrency);
+
+    return webClient.get()
+        .uri("/rates/{source}/{target}", sourceCurrency, targetCurrency)
+        .retrieve()
+        .bodyToMono(JsonNode.class)
+        .timeout(timeout)
+        .flatMap(body -> {
+          JsonNode rate = body.get("rate");
+          if (rate == null || !rate.isNumber() || !isValidExchangeRate(rate.decimalValue())) {
+            return Mono.error(new IllegalArgumentException(
+                "Tasa de cambio no disponible para " + sourceCurrency + " a " + targetCurrency));
+          }
+          return Mono.just(rate.decimalValue());
+        })
+        .doOnError(error -> log.warn("Error fetching exchange rate for {}:{} from remote source",
+            sourceCurrency, targetCurrency, error));
+  }
+
+  @Override
+  public Mono<BigDecimal> getDefaultPENtoUSDRate() {
+    return Mono.just(DEFAULT_PEN_TO_USD_RATE);
+  }
+
+  @Override
+  public Mono<BigDecimal> getDefaultUSDtoPENRate() {
+    return Mono.just(DEFAULT_USD_TO_PEN_RATE);
+  }
+
+  @Override
+  public boolean isValidExchangeRate(BigDecimal rate) {
+    return rate != null && rate.compareTo(BigDecimal.ZERO) > 0;
+  }
+}
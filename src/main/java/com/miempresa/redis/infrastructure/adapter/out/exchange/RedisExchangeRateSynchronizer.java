@@ -0,0 +1,207 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sincroniza las tasas base de DefaultExchangeRateProvider entre nodos con
+ * Redis
+ * Cada cambio se guarda en un hash y se publica en un topic como un delta
+ * compacto "secuencia|MONEDA|tasa" dentro del mismo script, de modo que el
+ * orden de la secuencia es el orden de escritura. Cada nodo aplica los deltas
+ * en orden; ante un salto de secuencia o al (re)suscribirse al topic lee el
+ * hash completo
+ * El nodo que publica un cambio también lo agrega al historial de tasas; tras
+ * cada snapshot se agregan las tasas vigentes que el historial no tiene
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exchange-rate.sync.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisExchangeRateSynchronizer {
+
+  private static final String RATES_KEY = "exchange-rate:base-rates";
+  private static final String CHANNEL = "exchange-rate:updates";
+  private static final String SEQUENCE_FIELD = "_sequence";
+  private static final char SEPARATOR = '|';
+
+  /**
+   * Guarda la tasa, incrementa la secuencia y publica el delta atómicamente
+   */
+  private static final String PUBLISH_SCRIPT =
+      "local sequence = redis.call('HINCRBY', KEYS[1], ARGV[3], 1) " +
+          "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+          "redis.call('PUBLISH', ARGV[4], sequence .. '|' .. ARGV[1] .. '|' .. ARGV[2]) " +
+          "return sequence";
+
+  private final RedissonClient redisson;
+  private final DefaultExchangeRateProvider provider;
+  private final RedissonExchangeRateHistoryStore historyStore;
+  private final ExchangeRateDeltaSequencer sequencer = new ExchangeRateDeltaSequencer();
+  private final AtomicBoolean resyncInProgress = new AtomicBoolean();
+
+  private RTopic topic;
+  private int messageListenerId;
+  private int statusListenerId;
+
+  public RedisExchangeRateSynchronizer(RedissonClient redisson, DefaultExchangeRateProvider provider,
+      RedissonExchangeRateHistoryStore historyStore) {
+    this.redisson = redisson;
+    this.provider = provider;
+    this.historyStore = historyStore;
+  }
+
+  @PostConstruct
+  public void start() {
+    provider.attachSynchronizer(this);
+    topic = redisson.getTopic(CHANNEL, StringCodec.INSTANCE);
+
+    // Los listeners se registran sin bloquear el arranque. El de estado va
+    // primero para las resuscripciones tras una reconexión; la carga inicial
+    // se hace explícitamente porque agregar un listener a un canal ya suscrito
+    // no dispara onSubscribe
+    Mono.fromCompletionStage(() -> topic.addListenerAsync(new BaseStatusListener() {
+      @Override
+      public void onSubscribe(String channel) {
+        log.info("Subscribed to exchange rate updates on {}, loading full snapshot", channel);
+        resync();
+      }
+    }))
+        .doOnNext(id -> statusListenerId = id)
+        .then(Mono.fromCompletionStage(() -> topic.addListenerAsync(String.class,
+            (channel, message) -> onMessage(message))))
+        .subscribe(id -> {
+          messageListenerId = id;
+          log.info("Listening for exchange rate updates on {}, loading full snapshot", CHANNEL);
+          resync();
+        }, error -> log.error("Error subscribing to exchange rate updates, rates stay local", error));
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (topic != null) {
+      topic.removeListenerAsync(messageListenerId, statusListenerId);
+    }
+  }
+
+  /**
+   * Escribe la tasa base en Redis y la publica a todos los nodos
+   *
+   * @return Mono con la secuencia asignada al cambio
+   */
+  public Mono<Long> publishBaseRate(String currency, BigDecimal unitsPerBase) {
+    String rate = unitsPerBase.toPlainString();
+    Instant changedAt = Instant.now();
+
+    return Mono.<Long>fromCompletionStage(() -> redisson.getScript(StringCodec.INSTANCE)
+        .evalAsync(RScript.Mode.READ_WRITE, PUBLISH_SCRIPT, RScript.ReturnType.INTEGER,
+            Collections.singletonList(RATES_KEY), currency, rate, SEQUENCE_FIELD, CHANNEL))
+        // El propio nodo aplica el cambio sin esperar el mensaje; el repetido
+        // se ignora por secuencia
+        .doOnNext(sequence -> applyDelta(sequence, currency, unitsPerBase))
+        // El cambio ya está publicado; un error del historial no lo revierte
+        .flatMap(sequence -> historyStore.recordBaseRate(currency, unitsPerBase, changedAt)
+            .onErrorResume(error -> Mono.empty())
+            .thenReturn(sequence));
+  }
+
+  private void onMessage(String message) {
+    int first = message.indexOf(SEPARATOR);
+    int second = message.indexOf(SEPARATOR, first + 1);
+    if (first < 0 || second < 0) {
+      log.warn("Ignoring malformed exchange rate update: {}", message);
+      return;
+    }
+
+    try {
+      applyDelta(Long.parseLong(message.substring(0, first)), message.substring(first + 1, second),
+          new BigDecimal(message.substring(second + 1)));
+    } catch (RuntimeException e) {
+      log.warn("Ignoring malformed exchange rate update: {}", message, e);
+    }
+  }
+
+  private void applyDelta(long sequence, String currency, BigDecimal unitsPerBase) {
+    ExchangeRateDeltaSequencer.Decision decision = sequencer.onDelta(sequence,
+        () -> provider.applyBaseRate(currency, unitsPerBase));
+
+    switch (decision) {
+      case APPLIED -> log.debug("Applied exchange rate update {}: {} = {}", sequence, currency, unitsPerBase);
+      case IGNORED -> log.debug("Ignoring already applied exchange rate update {}", sequence);
+      case RESYNC_REQUIRED -> {
+        log.warn("Gap in exchange rate updates (last applied: {}, received: {}), resyncing",
+            sequencer.getLastSequence(), sequence);
+        resync();
+      }
+    }
+  }
+
+  /**
+   * Reemplaza las tasas locales por el snapshot completo de Redis
+   */
+  private void resync() {
+    if (!resyncInProgress.compareAndSet(false, true)) {
+      return;
+    }
+
+    RMap<String, String> rates = redisson.getMap(RATES_KEY, StringCodec.INSTANCE);
+    Mono.fromCompletionStage(rates::readAllMapAsync)
+        .subscribe(snapshot -> {
+          resyncInProgress.set(false);
+          applySnapshot(snapshot);
+          // Llegaron cambios mientras se leía el snapshot
+          if (sequencer.isBehind()) {
+            resync();
+          }
+        }, error -> {
+          resyncInProgress.set(false);
+          log.error("Error loading exchange rate snapshot, keeping current rates", error);
+        });
+  }
+
+  private void applySnapshot(Map<String, String> snapshot) {
+    long sequence = Long.parseLong(snapshot.getOrDefault(SEQUENCE_FIELD, "0"));
+    Map<String, BigDecimal> baseRates = new LinkedHashMap<>();
+    snapshot.forEach((currency, rate) -> {
+      if (!SEQUENCE_FIELD.equals(currency)) {
+        baseRates.put(currency, new BigDecimal(rate));
+      }
+    });
+
+    boolean applied = sequencer.onSnapshot(sequence, () -> {
+      // Sin tasas en Redis se mantienen las de la configuración
+      if (!baseRates.isEmpty()) {
+        provider.replaceBaseRates(baseRates);
+      }
+    });
+    if (applied) {
+      log.info("Exchange rates synchronized from Redis at sequence {} ({} currencies)", sequence, baseRates.size());
+      recordEffectiveRates();
+    }
+  }
+
+  /**
+   * Agrega al historial las tasas vigentes (snapshot de Redis o, si está vacío,
+   * configuración) que difieren del último punto guardado
+   */
+  private void recordEffectiveRates() {
+    historyStore.recordBaseRatesIfChanged(provider.getGraph().getBaseRates(), Instant.now())
+        .subscribe();
+  }
+}
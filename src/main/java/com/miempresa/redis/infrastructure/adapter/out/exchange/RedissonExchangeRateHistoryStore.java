@@ -0,0 +1,288 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import com.miempresa.redis.application.port.out.ExchangeRateHistoryPort;
+import com.miempresa.redis.domain.model.ExchangeRatePoint;
+import com.miempresa.redis.infrastructure.config.ExchangeRateProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Historial de tasas de cambio en Redis con formato binario compacto
+ * Se guarda la tasa base de cada moneda (unidades por una unidad de la moneda
+ * base) en un string por hora codificado con ExchangeRateHistoryCodec, más un
+ * sorted set con las horas que tienen datos. La tasa de un par en un instante
+ * se calcula como base(ORIGEN) / base(DESTINO), igual que en ExchangeRateGraph
+ * Implementa el puerto de salida ExchangeRateHistoryPort
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedissonExchangeRateHistoryStore implements ExchangeRateHistoryPort {
+
+  private static final String KEY_PREFIX = "exchange-rate:history:";
+  private static final long NO_DELTA = -1;
+
+  /**
+   * Agrega el registro delta si nadie escribió en el bucket desde la última
+   * escritura de este nodo (mismo largo), si no el registro absoluto; devuelve
+   * el nuevo largo, negativo si se usó el absoluto
+   */
+  private static final String APPEND_SCRIPT =
+      "local delta = redis.call('STRLEN', KEYS[1]) == tonumber(ARGV[1]) " +
+          "local length = redis.call('APPEND', KEYS[1], delta and ARGV[2] or ARGV[3]) " +
+          "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+          "redis.call('ZADD', KEYS[2], ARGV[5], ARGV[5]) " +
+          "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[6]) " +
+          "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+          "if delta then return length end " +
+          "return -length";
+
+  private final RedissonClient redisson;
+  private final ExchangeRateProperties properties;
+
+  // Último registro escrito por este nodo en cada moneda
+  private final Map<String, WriterState> writerStates = new ConcurrentHashMap<>();
+
+  @Value("${exchange-rate.history.retention:400d}")
+  private Duration retention;
+
+  /**
+   * Agrega la tasa base de una moneda al historial
+   */
+  public Mono<Void> recordBaseRate(String currency, BigDecimal unitsPerBase, Instant timestamp) {
+    String normalized = normalize(currency);
+    long timestampMillis = timestamp.toEpochMilli();
+    long bucket = ExchangeRateHistoryCodec.bucketOf(timestampMillis);
+    long scaled = ExchangeRateHistoryCodec.toScaled(unitsPerBase);
+
+    WriterState state = writerStates.get(normalized);
+    boolean canDelta = state != null && state.bucket == bucket && timestampMillis >= state.timestampMillis;
+    long expectedLength = canDelta ? state.length : NO_DELTA;
+    byte[] delta = canDelta
+        ? ExchangeRateHistoryCodec.encodeDelta(state.timestampMillis, state.scaledRate, timestampMillis, scaled)
+        : new byte[0];
+    byte[] absolute = ExchangeRateHistoryCodec.encodeAbsolute(timestampMillis, scaled);
+    long minBucket = ExchangeRateHistoryCodec.bucketOf(timestampMillis - retention.toMillis());
+
+    List<Object> keys = Arrays.asList(bucketKey(normalized, bucket), indexKey(normalized));
+    return Mono.<Long>fromCompletionStage(() -> redisson.getScript(ByteArrayCodec.INSTANCE)
+        .evalAsync(RScript.Mode.READ_WRITE, APPEND_SCRIPT, RScript.ReturnType.INTEGER, keys,
+            ascii(expectedLength), delta, absolute, ascii(retention.toMillis()), ascii(bucket), ascii(minBucket)))
+        .doOnNext(length -> {
+          writerStates.put(normalized, new WriterState(bucket, Math.abs(length), timestampMillis, scaled));
+          log.debug("Recorded {} history point for {} at {} ({} bytes in bucket)",
+              length > 0 ? "delta" : "absolute", normalized, timestamp, Math.abs(length));
+        })
+        .doOnError(error -> log.error("Error recording exchange rate history for {}", normalized, error))
+        .then();
+  }
+
+  /**
+   * Agrega al historial las tasas base que difieren del último punto guardado
+   * de cada moneda (ej: las de la configuración o el snapshot de Redis al
+   * arrancar); un error en una moneda no impide registrar las demás
+   */
+  public Mono<Void> recordBaseRatesIfChanged(Map<String, BigDecimal> baseRates, Instant timestamp) {
+    long timestampMillis = timestamp.toEpochMilli();
+
+    return Flux.fromIterable(baseRates.entrySet())
+        .filter(baseRate -> !isBaseCurrency(baseRate.getKey()))
+        .concatMap(baseRate -> {
+          String currency = normalize(baseRate.getKey());
+          long scaled = ExchangeRateHistoryCodec.toScaled(baseRate.getValue());
+
+          return sampleAt(currency, timestampMillis, true)
+              .doOnError(error -> log.error("Error reading exchange rate history for {}", currency, error))
+              .filter(last -> last.scaledRate == scaled)
+              .hasElement()
+              .flatMap(unchanged -> unchanged ? Mono.<Void>empty()
+                  : recordBaseRate(currency, baseRate.getValue(), timestamp))
+              .onErrorResume(error -> Mono.empty());
+        })
+        .then();
+  }
+
+  @Override
+  public Mono<ExchangeRatePoint> getRateAt(String sourceCurrency, String targetCurrency, Instant timestamp) {
+    String source = normalize(sourceCurrency);
+    String target = normalize(targetCurrency);
+    long timestampMillis = timestamp.toEpochMilli();
+
+    return Mono.zip(sampleAt(source, timestampMillis, true), sampleAt(target, timestampMillis, false))
+        .map(samples -> ExchangeRatePoint.builder()
+            .timestamp(Instant.ofEpochMilli(Math.max(samples.getT1().timestampMillis,
+                samples.getT2().timestampMillis)))
+            .rate(pairRate(samples.getT1().scaledRate, samples.getT2().scaledRate))
+            .build());
+  }
+
+  @Override
+  public Flux<ExchangeRatePoint> getRateHistory(String sourceCurrency, String targetCurrency, Instant start,
+      Instant end) {
+    String source = normalize(sourceCurrency);
+    String target = normalize(targetCurrency);
+    long startMillis = start.toEpochMilli();
+    long endMillis = end.toEpochMilli();
+
+    return Flux.defer(() -> {
+      // Última tasa base conocida de cada moneda: [origen, destino]
+      long[] current = new long[2];
+
+      return Flux.mergeComparing(Comparator.comparingLong((Sample sample) -> sample.timestampMillis),
+          samples(source, startMillis, endMillis, true), samples(target, startMillis, endMillis, false))
+          // Los cambios del mismo instante generan un solo punto; los previos
+          // al rango se reportan al inicio
+          .bufferUntilChanged(sample -> Math.max(sample.timestampMillis, startMillis))
+          .handle((changes, sink) -> {
+            for (Sample change : changes) {
+              current[change.source ? 0 : 1] = change.scaledRate;
+            }
+            if (current[0] > 0 && current[1] > 0) {
+              sink.next(ExchangeRatePoint.builder()
+                  .timestamp(Instant.ofEpochMilli(Math.max(changes.get(0).timestampMillis, startMillis)))
+                  .rate(pairRate(current[0], current[1]))
+                  .build());
+            }
+          });
+    });
+  }
+
+  /**
+   * Tasa base vigente al inicio del rango seguida de los cambios del rango
+   */
+  private Flux<Sample> samples(String currency, long startMillis, long endMillis, boolean source) {
+    if (isBaseCurrency(currency)) {
+      return baseCurrencySample(source).flux();
+    }
+
+    long firstBucket = ExchangeRateHistoryCodec.bucketOf(startMillis);
+    long lastBucket = ExchangeRateHistoryCodec.bucketOf(endMillis);
+    RScoredSortedSet<String> index = redisson.getScoredSortedSet(indexKey(currency), StringCodec.INSTANCE);
+
+    Flux<Sample> changes = Mono.fromCompletionStage(() -> index.valueRangeAsync(firstBucket, true, lastBucket, true))
+        .flatMapIterable(buckets -> buckets)
+        .map(Long::parseLong)
+        .concatMap(bucket -> readBucket(currency, bucket))
+        .concatMap(decoded -> Flux.range(0, decoded.size())
+            .filter(i -> decoded.timestampAt(i) > startMillis && decoded.timestampAt(i) <= endMillis)
+            .map(i -> new Sample(decoded.timestampAt(i), decoded.rateAt(i), source)));
+
+    return Flux.concat(sampleAt(currency, startMillis, source), changes);
+  }
+
+  /**
+   * Último cambio anterior o igual al instante: búsqueda binaria en la hora del
+   * instante o, si no tiene puntos previos, en la hora anterior con datos
+   */
+  private Mono<Sample> sampleAt(String currency, long timestampMillis, boolean source) {
+    if (isBaseCurrency(currency)) {
+      return baseCurrencySample(source);
+    }
+
+    RScoredSortedSet<String> index = redisson.getScoredSortedSet(indexKey(currency), StringCodec.INSTANCE);
+    double bucket = ExchangeRateHistoryCodec.bucketOf(timestampMillis);
+
+    return Mono.fromCompletionStage(() -> index.valueRangeReversedAsync(Double.NEGATIVE_INFINITY, true,
+        bucket, true, 0, 2))
+        .flatMapIterable(buckets -> buckets)
+        .map(Long::parseLong)
+        .concatMap(candidate -> readBucket(currency, candidate)
+            .mapNotNull(decoded -> {
+              int position = decoded.indexAtOrBefore(timestampMillis);
+              return position < 0 ? null
+                  : new Sample(decoded.timestampAt(position), decoded.rateAt(position), source);
+            }))
+        .next();
+  }
+
+  private Mono<ExchangeRateHistoryCodec.Bucket> readBucket(String currency, long bucket) {
+    return Mono.fromCompletionStage(() -> redisson.<byte[]>getBucket(bucketKey(currency, bucket),
+        ByteArrayCodec.INSTANCE).getAsync())
+        .map(data -> ExchangeRateHistoryCodec.decode(bucket, data));
+  }
+
+  /**
+   * La moneda base vale 1 en todo momento
+   */
+  private Mono<Sample> baseCurrencySample(boolean source) {
+    return Mono.just(new Sample(Long.MIN_VALUE, ExchangeRateHistoryCodec.toScaled(BigDecimal.ONE), source));
+  }
+
+  private BigDecimal pairRate(long sourceScaled, long targetScaled) {
+    // tasa(S:T) = base(S) / base(T)
+    return ExchangeRateHistoryCodec.fromScaled(sourceScaled)
+        .divide(ExchangeRateHistoryCodec.fromScaled(targetScaled), ExchangeRateGraph.RATE_PRECISION);
+  }
+
+  private boolean isBaseCurrency(String currency) {
+    return currency.equalsIgnoreCase(properties.getBaseCurrency());
+  }
+
+  private static String normalize(String currency) {
+    if (ExchangeRateTable.currencyCode(currency) < 0) {
+      throw new IllegalArgumentException("Código de moneda inválido: " + currency);
+    }
+    return currency.toUpperCase(Locale.ROOT);
+  }
+
+  private static String indexKey(String currency) {
+    return KEY_PREFIX + currency;
+  }
+
+  private static String bucketKey(String currency, long bucket) {
+    return KEY_PREFIX + currency + ":" + bucket;
+  }
+
+  private static byte[] ascii(long value) {
+    return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Tasa base de una moneda desde un instante
+   */
+  private static final class Sample {
+    private final long timestampMillis;
+    private final long scaledRate;
+    private final boolean source;
+
+    private Sample(long timestampMillis, long scaledRate, boolean source) {
+      this.timestampMillis = timestampMillis;
+      this.scaledRate = scaledRate;
+      this.source = source;
+    }
+  }
+
+  private static final class WriterState {
+    private final long bucket;
+    private final long length;
+    private final long timestampMillis;
+    private final long scaledRate;
+
+    private WriterState(long bucket, long length, long timestampMillis, long scaledRate) {
+      this.bucket = bucket;
+      this.length = length;
+      this.timestampMillis = timestampMillis;
+      this.scaledRate = scaledRate;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.miempresa.redis.infrastructure.adapter.out.exchange;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Almacenamiento de tasas cacheadas en Redis usando buckets con TTL
+ * El valor se guarda como texto "tasa|epochMillis" para que todos los nodos
+ * conozcan la antigüedad de la tasa
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedissonExchangeRateStore implements ExchangeRateStore {
+
+  private static final String KEY_PREFIX = "exchange-rate:";
+  private static final char SEPARATOR = '|';
+
+  private final RedissonClient redisson;
+
+  @Override
+  public Mono<CachedExchangeRate> get(String sourceCurrency, String targetCurrency) {
+    RBucket<String> bucket = bucket(sourceCurrency, targetCurrency);
+
+    return Mono.fromCompletionStage(bucket::getAsync)
+        .map(this::parse)
+        .doOnError(error -> log.warn("Error reading cached exchange rate for {}:{}",
+            sourceCurrency, targetCurrency, error));
+  }
+
+  @Override
+  public Mono<Void> put(String sourceCurrency, String targetCurrency, CachedExchangeRate rate, Duration ttl) {
+    RBucket<String> bucket = bucket(sourceCurrency, targetCurrency);
+    String value = rate.getRate().toPlainString() + SEPARATOR + rate.getFetchedAtMillis();
+
+    return Mono.fromCompletionStage(() -> bucket.setAsync(value, ttl.toMillis(), TimeUnit.MILLISECONDS))
+        .doOnError(error -> log.warn("Error caching exchange rate for {}:{}", sourceCurrency, targetCurrency, error));
+  }
+
+  private RBucket<String> bucket(String sourceCurrency, String targetCurrency) {
+    return redisson.getBucket(KEY_PREFIX + sourceCurrency + ":" + targetCurrency, StringCodec.INSTANCE);
+  }
+
+  private CachedExchangeRate parse(String value) {
+    int separator = value.indexOf(SEPARATOR);
+    return new CachedExchangeRate(new BigDecimal(value.substring(0, separator)),
+        Long.parseLong(value.substring(separator + 1)));
+  }
+}
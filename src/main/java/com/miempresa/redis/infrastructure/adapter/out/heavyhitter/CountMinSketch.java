@@ -0,0 +1,124 @@
+package com.miempresa.redis.infrastructure.adapter.out.heavyhitter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch de tamaño fijo con contadores atómicos
+ * depth filas de width contadores; cada clave suma en un contador por fila y
+ * su frecuencia estimada es el mínimo de esos contadores, que nunca es menor
+ * que la real. Los incrementos son lock-free y varios sketches con las mismas
+ * dimensiones se combinan sumando contadores
+ */
+public final class CountMinSketch {
+
+  private final int width;
+  private final int depth;
+  private final AtomicLongArray counters;
+
+  /**
+   * @param width Contadores por fila (se redondea a potencia de 2)
+   * @param depth Filas (funciones de hash independientes)
+   */
+  public CountMinSketch(int width, int depth) {
+    if (width <= 0 || depth <= 0) {
+      throw new IllegalArgumentException("Invalid sketch dimensions: " + width + "x" + depth);
+    }
+    this.width = roundWidth(width);
+    this.depth = depth;
+    this.counters = new AtomicLongArray(this.width * depth);
+  }
+
+  /**
+   * Ancho efectivo para un ancho pedido: la potencia de 2 igual o mayor
+   */
+  public static int roundWidth(int width) {
+    return width <= 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+  }
+
+  /**
+   * Suma count a la clave
+   *
+   * @return frecuencia estimada de la clave después de sumar
+   */
+  public long add(String key, long count) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.addAndGet(index(row, h1, h2), count));
+    }
+    return estimate;
+  }
+
+  /**
+   * Frecuencia estimada de la clave (cota superior de la real)
+   */
+  public long estimate(String key) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+    }
+    return estimate;
+  }
+
+  /**
+   * Suma los contadores de otro sketch con las mismas dimensiones
+   *
+   * @param values Contadores en el orden de getCounter
+   */
+  public void merge(long[] values) {
+    if (values.length != counters.length()) {
+      throw new IllegalArgumentException("Sketch size mismatch: " + values.length + " != " + counters.length());
+    }
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != 0) {
+        counters.addAndGet(i, values[i]);
+      }
+    }
+  }
+
+  public long getCounter(int index) {
+    return counters.get(index);
+  }
+
+  public int size() {
+    return counters.length();
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Doble hashing: la fila i usa h1 + i * h2, equivalente a depth funciones
+   * independientes para este uso
+   */
+  private int index(int row, int h1, int h2) {
+    return row * width + ((h1 + row * h2) & (width - 1));
+  }
+
+  /**
+   * FNV-1a de 64 bits con la mezcla final de MurmurHash3
+   */
+  static long hash(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.length(); i++) {
+      hash ^= key.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
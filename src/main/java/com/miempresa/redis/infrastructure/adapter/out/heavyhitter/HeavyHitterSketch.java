@@ -0,0 +1,259 @@
+package com.miempresa.redis.infrastructure.adapter.out.heavyhitter;
+
+import com.miempresa.redis.domain.model.HeavyHitter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Clientes con más requests de un endpoint en memoria fija
+ * Un Count-Min Sketch estima la frecuencia de cada cliente y un min-heap de
+ * topK candidatos guarda los más frecuentes. Los candidatos se reparten en
+ * stripes por hash del cliente, cada una con su propio lock y heap, y solo se
+ * toma el lock cuando la estimación supera el mínimo de la stripe; como cada
+ * cliente cae siempre en la misma stripe, el top-K global está en la unión de
+ * los heaps
+ */
+public final class HeavyHitterSketch {
+
+  private final CountMinSketch sketch;
+  private final Stripe[] stripes;
+  private final int topK;
+  private final LongAdder total = new LongAdder();
+
+  public HeavyHitterSketch(int width, int depth, int topK, int stripes) {
+    this.sketch = new CountMinSketch(width, depth);
+    this.topK = topK;
+    int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      this.stripes[i] = new Stripe();
+    }
+  }
+
+  /**
+   * Registra un request del cliente
+   */
+  public void record(String client) {
+    total.increment();
+    long estimate = sketch.add(client, 1);
+    // Bits altos del hash, independientes de los que eligen los contadores
+    Stripe stripe = stripes[(int) (CountMinSketch.hash(client) >>> 48) & (stripes.length - 1)];
+    if (stripe.full && estimate <= stripe.minCount) {
+      return;
+    }
+    stripe.offer(client, estimate, topK);
+  }
+
+  /**
+   * Requests registrados desde que se creó el sketch
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * Clientes candidatos a estar en el top-K
+   */
+  public List<String> candidates() {
+    List<String> candidates = new ArrayList<>();
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        candidates.addAll(stripe.index.keySet());
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * Top-K de este sketch, con frecuencias estimadas
+   */
+  public List<HeavyHitter> top(int limit) {
+    return merge(List.of(snapshot()), limit);
+  }
+
+  public Snapshot snapshot() {
+    long[] counters = new long[sketch.size()];
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] = sketch.getCounter(i);
+    }
+    return new Snapshot(sketch.getWidth(), sketch.getDepth(), counters, candidates());
+  }
+
+  /**
+   * Combina sketches de varios nodos o ventanas: suma los contadores y vuelve a
+   * estimar la unión de candidatos
+   *
+   * @param snapshots Sketches con las mismas dimensiones
+   * @param limit     Cantidad de clientes a devolver
+   * @return clientes ordenados de mayor a menor frecuencia estimada
+   */
+  public static List<HeavyHitter> merge(Collection<Snapshot> snapshots, int limit) {
+    if (snapshots.isEmpty()) {
+      return List.of();
+    }
+
+    Snapshot first = snapshots.iterator().next();
+    CountMinSketch merged = new CountMinSketch(first.width, first.depth);
+    Set<String> candidates = new LinkedHashSet<>();
+    for (Snapshot snapshot : snapshots) {
+      if (snapshot.width != merged.getWidth() || snapshot.depth != merged.getDepth()) {
+        throw new IllegalArgumentException("Sketch dimensions differ: " + snapshot.width + "x" + snapshot.depth
+            + " vs " + merged.getWidth() + "x" + merged.getDepth());
+      }
+      merged.merge(snapshot.counters);
+      candidates.addAll(snapshot.candidates);
+    }
+
+    return candidates.stream()
+        .map(client -> HeavyHitter.builder()
+            .clientIp(client)
+            .estimatedRequests(merged.estimate(client))
+            .build())
+        .sorted(Comparator.comparingLong(HeavyHitter::getEstimatedRequests).reversed()
+            .thenComparing(HeavyHitter::getClientIp))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Formato binario: width, depth y contadores como varints, luego los
+   * candidatos como largo + UTF-8. La mayoría de contadores son chicos o cero
+   */
+  public static byte[] encode(Snapshot snapshot) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(snapshot.counters.length + 64);
+    writeVarint(out, snapshot.width);
+    writeVarint(out, snapshot.depth);
+    for (long counter : snapshot.counters) {
+      writeVarint(out, counter);
+    }
+    writeVarint(out, snapshot.candidates.size());
+    for (String candidate : snapshot.candidates) {
+      byte[] bytes = candidate.getBytes(StandardCharsets.UTF_8);
+      writeVarint(out, bytes.length);
+      out.writeBytes(bytes);
+    }
+    return out.toByteArray();
+  }
+
+  public static Snapshot decode(byte[] data) {
+    int[] position = { 0 };
+    int width = (int) readVarint(data, position);
+    int depth = (int) readVarint(data, position);
+    long[] counters = new long[Math.multiplyExact(width, depth)];
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] = readVarint(data, position);
+    }
+    int candidateCount = (int) readVarint(data, position);
+    List<String> candidates = new ArrayList<>(candidateCount);
+    for (int i = 0; i < candidateCount; i++) {
+      int length = (int) readVarint(data, position);
+      candidates.add(new String(data, position[0], length, StandardCharsets.UTF_8));
+      position[0] += length;
+    }
+    return new Snapshot(width, depth, counters, candidates);
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarint(byte[] data, int[] position) {
+    long value = 0;
+    int shift = 0;
+    byte current;
+    do {
+      if (position[0] >= data.length) {
+        throw new IllegalArgumentException("Truncated heavy hitter sketch");
+      }
+      current = data[position[0]++];
+      value |= (long) (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return value;
+  }
+
+  /**
+   * Copia de los contadores y candidatos de un sketch
+   */
+  public static final class Snapshot {
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private final List<String> candidates;
+
+    public Snapshot(int width, int depth, long[] counters, List<String> candidates) {
+      this.width = width;
+      this.depth = depth;
+      this.counters = counters;
+      this.candidates = candidates;
+    }
+
+    public int getWidth() {
+      return width;
+    }
+
+    public int getDepth() {
+      return depth;
+    }
+  }
+
+  /**
+   * Min-heap de candidatos de una stripe
+   */
+  private static final class Stripe {
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(
+        Comparator.comparingLong((Candidate candidate) -> candidate.count));
+    private final Map<String, Candidate> index = new HashMap<>();
+
+    // Lecturas sin lock para descartar rápido a los clientes poco frecuentes
+    private volatile boolean full;
+    private volatile long minCount;
+
+    private synchronized void offer(String client, long estimate, int topK) {
+      Candidate candidate = index.get(client);
+      if (candidate != null) {
+        heap.remove(candidate);
+        candidate.count = estimate;
+        heap.add(candidate);
+      } else if (heap.size() < topK) {
+        candidate = new Candidate(client, estimate);
+        index.put(client, candidate);
+        heap.add(candidate);
+      } else if (estimate > heap.peek().count) {
+        index.remove(heap.poll().client);
+        candidate = new Candidate(client, estimate);
+        index.put(client, candidate);
+        heap.add(candidate);
+      }
+
+      full = heap.size() >= topK;
+      minCount = heap.isEmpty() ? 0 : heap.peek().count;
+    }
+  }
+
+  private static final class Candidate {
+    private final String client;
+    private long count;
+
+    private Candidate(String client, long count) {
+      this.client = client;
+      this.count = count;
+    }
+  }
+}
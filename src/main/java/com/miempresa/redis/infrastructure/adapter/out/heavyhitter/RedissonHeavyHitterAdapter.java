@@ -0,0 +1,289 @@
+package com.miempresa.redis.infrastructure.adapter.out.heavyhitter;
+
+import com.miempresa.redis.application.port.out.HeavyHitterPort;
+import com.miempresa.redis.domain.model.HeavyHitter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Seguimiento de los clientes con más requests por endpoint
+ * Cada nodo registra los requests en un HeavyHitterSketch por endpoint y por
+ * ventana de tiempo, en memoria fija. Cada publish-interval escribe en Redis
+ * los sketches que cambiaron, en un hash por endpoint y ventana con un campo
+ * por nodo; la consulta combina los sketches de todos los nodos en las
+ * últimas ventanas (usando el sketch en memoria para la ventana actual de
+ * este nodo)
+ * Implementa el puerto de salida HeavyHitterPort
+ */
+@Slf4j
+@Component
+public class RedissonHeavyHitterAdapter implements HeavyHitterPort {
+
+  private static final String KEY_PREFIX = "rate-limit:heavy-hitters:";
+  private static final Codec CODEC = new CompositeCodec(StringCodec.INSTANCE, ByteArrayCodec.INSTANCE);
+
+  private final RedissonClient redisson;
+  private final String nodeId;
+
+  private final AtomicReference<Window> currentWindow = new AtomicReference<>();
+  // Ventana recién cerrada que todavía no se publicó completa
+  private final AtomicReference<Window> closedWindow = new AtomicReference<>();
+
+  private Disposable publisher;
+
+  @Value("${rate-limit.heavy-hitters.enabled:true}")
+  private boolean enabled;
+
+  @Value("${rate-limit.heavy-hitters.top-k:20}")
+  private int topK;
+
+  @Value("${rate-limit.heavy-hitters.sketch-width:2048}")
+  private int sketchWidth;
+
+  @Value("${rate-limit.heavy-hitters.sketch-depth:4}")
+  private int sketchDepth;
+
+  @Value("${rate-limit.heavy-hitters.stripes:8}")
+  private int stripes;
+
+  @Value("${rate-limit.heavy-hitters.window:1m}")
+  private Duration window;
+
+  @Value("${rate-limit.heavy-hitters.publish-interval:10s}")
+  private Duration publishInterval;
+
+  @Value("${rate-limit.heavy-hitters.retention-windows:60}")
+  private int retentionWindows;
+
+  @Value("${rate-limit.heavy-hitters.max-endpoints:256}")
+  private int maxEndpoints;
+
+  public RedissonHeavyHitterAdapter(RedissonClient redisson) {
+    this.redisson = redisson;
+    this.nodeId = redisson.getId();
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      log.info("Heavy hitter tracking disabled");
+      return;
+    }
+
+    publisher = Flux.interval(publishInterval, publishInterval)
+        .concatMap(tick -> publish()
+            .onErrorResume(error -> {
+              log.warn("Error publishing heavy hitter sketches: {}", error.toString());
+              return Mono.empty();
+            }))
+        .subscribe();
+    log.info("Heavy hitter tracking enabled - top {} per endpoint, sketch {}x{}, window {}, publish every {}",
+        topK, CountMinSketch.roundWidth(sketchWidth), sketchDepth, window, publishInterval);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (publisher != null) {
+      publisher.dispose();
+    }
+  }
+
+  @Override
+  public void record(String endpoint, String clientIp) {
+    if (!enabled) {
+      return;
+    }
+
+    Window current = window(System.currentTimeMillis());
+    Tracked tracked = current.sketches.get(endpoint);
+    if (tracked == null) {
+      tracked = current.sketches.computeIfAbsent(endpoint, key -> track(current));
+      if (tracked == null) {
+        log.debug("Heavy hitter tracking limit of {} endpoints reached, ignoring: {}", maxEndpoints, endpoint);
+        return;
+      }
+    }
+    tracked.sketch.record(clientIp);
+  }
+
+  @Override
+  public Mono<List<HeavyHitter>> findTopClients(String endpoint, int limit, int windows) {
+    return Mono.defer(() -> {
+      Window local = window(System.currentTimeMillis());
+      RBatch batch = redisson.createBatch();
+      for (int i = 0; i < windows; i++) {
+        batch.<String, byte[]>getMap(key(endpoint, local.id - i), CODEC).readAllMapAsync();
+      }
+
+      return Mono.fromCompletionStage(batch::executeAsync)
+          .map(BatchResult::getResponses)
+          .map(responses -> {
+            List<HeavyHitterSketch.Snapshot> snapshots = new ArrayList<>();
+            Tracked own = local.sketches.get(endpoint);
+            if (own != null) {
+              snapshots.add(own.sketch.snapshot());
+            }
+
+            for (int i = 0; i < responses.size(); i++) {
+              @SuppressWarnings("unchecked")
+              Map<String, byte[]> nodes = (Map<String, byte[]>) responses.get(i);
+              for (Map.Entry<String, byte[]> node : nodes.entrySet()) {
+                // La ventana actual de este nodo se toma de memoria
+                if (i == 0 && own != null && nodeId.equals(node.getKey())) {
+                  continue;
+                }
+                addSnapshot(snapshots, endpoint, node.getKey(), node.getValue());
+              }
+            }
+            return HeavyHitterSketch.merge(snapshots, limit);
+          });
+    })
+        .doOnError(error -> log.error("Error reading heavy hitters for endpoint: {}", endpoint, error));
+  }
+
+  /**
+   * Crea el sketch de un endpoint nuevo si la ventana no llegó al máximo de
+   * endpoints; corre dentro de computeIfAbsent, así que el conteo es exacto
+   */
+  private Tracked track(Window target) {
+    if (target.endpoints.incrementAndGet() > maxEndpoints) {
+      target.endpoints.decrementAndGet();
+      return null;
+    }
+    return new Tracked(new HeavyHitterSketch(sketchWidth, sketchDepth, topK, stripes));
+  }
+
+  /**
+   * Escribe en un batch los sketches con requests nuevos de la ventana cerrada
+   * y de la actual
+   * Los totales publicados y la ventana cerrada solo se marcan cuando el batch
+   * termina bien; si falla, el siguiente intervalo los vuelve a escribir
+   */
+  private Mono<Void> publish() {
+    Window current = window(System.currentTimeMillis());
+    Window closed = closedWindow.get();
+
+    RBatch batch = redisson.createBatch();
+    Map<Tracked, Long> published = new HashMap<>();
+    if (closed != null) {
+      addToBatch(batch, closed, published);
+    }
+    addToBatch(batch, current, published);
+    if (published.isEmpty()) {
+      if (closed != null) {
+        closedWindow.compareAndSet(closed, null);
+      }
+      return Mono.empty();
+    }
+
+    return Mono.fromCompletionStage(batch::executeAsync)
+        .doOnNext(result -> {
+          published.forEach((tracked, total) -> tracked.publishedTotal = total);
+          if (closed != null) {
+            closedWindow.compareAndSet(closed, null);
+          }
+          log.debug("Published {} heavy hitter sketches for window {}", published.size(), current.id);
+        })
+        .then();
+  }
+
+  private void addToBatch(RBatch batch, Window target, Map<Tracked, Long> published) {
+    Duration ttl = window.multipliedBy(retentionWindows + 1L);
+    for (Map.Entry<String, Tracked> entry : target.sketches.entrySet()) {
+      Tracked tracked = entry.getValue();
+      long total = tracked.sketch.getTotal();
+      if (total == tracked.publishedTotal) {
+        continue;
+      }
+
+      RMapAsync<String, byte[]> map = batch.getMap(key(entry.getKey(), target.id), CODEC);
+      map.fastPutAsync(nodeId, HeavyHitterSketch.encode(tracked.sketch.snapshot()));
+      map.expireAsync(ttl);
+      published.put(tracked, total);
+    }
+  }
+
+  private void addSnapshot(List<HeavyHitterSketch.Snapshot> snapshots, String endpoint, String node, byte[] data) {
+    try {
+      HeavyHitterSketch.Snapshot snapshot = HeavyHitterSketch.decode(data);
+      if (snapshot.getWidth() != CountMinSketch.roundWidth(sketchWidth) || snapshot.getDepth() != sketchDepth) {
+        log.warn("Ignoring heavy hitter sketch from node {} for endpoint {} - dimensions {}x{} differ",
+            node, endpoint, snapshot.getWidth(), snapshot.getDepth());
+        return;
+      }
+      snapshots.add(snapshot);
+    } catch (RuntimeException e) {
+      log.warn("Ignoring invalid heavy hitter sketch from node {} for endpoint {}", node, endpoint, e);
+    }
+  }
+
+  /**
+   * Ventana vigente; al cambiar, la anterior queda pendiente de su última
+   * publicación
+   */
+  private Window window(long nowMillis) {
+    long id = nowMillis / window.toMillis();
+    Window current = currentWindow.get();
+    while (current == null || current.id < id) {
+      Window next = new Window(id);
+      if (currentWindow.compareAndSet(current, next)) {
+        if (current != null) {
+          closedWindow.set(current);
+        }
+        return next;
+      }
+      current = currentWindow.get();
+    }
+    return current;
+  }
+
+  private static String key(String endpoint, long windowId) {
+    return KEY_PREFIX + endpoint + ":" + windowId;
+  }
+
+  /**
+   * Sketches de una ventana de tiempo
+   */
+  private static final class Window {
+    private final long id;
+    private final Map<String, Tracked> sketches = new ConcurrentHashMap<>();
+    private final AtomicInteger endpoints = new AtomicInteger();
+
+    private Window(long id) {
+      this.id = id;
+    }
+  }
+
+  private static final class Tracked {
+    private final HeavyHitterSketch sketch;
+    // Solo lo usa el publicador (un publish a la vez)
+    private long publishedTotal;
+
+    private Tracked(HeavyHitterSketch sketch) {
+      this.sketch = sketch;
+    }
+  }
+}
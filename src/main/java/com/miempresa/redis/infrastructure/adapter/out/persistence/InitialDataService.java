@@ -1,39 +1,91 @@
 package com.miempresa.redis.infrastructure.adapter.out.persistence;
 
 import com.miempresa.redis.application.port.in.RateLimitUseCase;
+import com.miempresa.redis.application.service.RateLimitServiceFactory;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.infrastructure.config.RateLimitProperties;
+import com.miempresa.redis.infrastructure.health.RateLimitPoliciesHealthIndicator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
- * Servicio para inicializar datos por defecto en la aplicación
+ * Servicio para inicializar las políticas de rate limiting declaradas en
+ * application.yml (rate-limit.endpoints)
+ * Las escribe en Redis en un único pipeline, las precarga en el cache local y
+ * verifica que estén persistidas antes de reportar la aplicación como lista
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class InitialDataService implements CommandLineRunner {
 
-  private final RateLimitUseCase rateLimitUseCase;
+  private final RateLimitServiceFactory rateLimitServiceFactory;
+  private final RateLimitProperties rateLimitProperties;
+  private final RateLimitPoliciesHealthIndicator policiesHealthIndicator;
 
   @Override
   public void run(String... args) throws Exception {
-    log.info("Initializing default rate limiting configuration...");
+    List<RateLimitConfig> configs = rateLimitProperties.toConfigs();
+    log.info("Initializing {} rate limiting policies from configuration...", configs.size());
+
+    CompletableFuture<Integer> warmup = loadPolicies(configs)
+        .doOnError(policiesHealthIndicator::markFailed)
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+        .doOnSuccess(policiesHealthIndicator::markReady)
+        .toFuture();
 
+    // El arranque espera la carga para que los primeros requests no paguen
+    // misses de cache; si Redis no responde a tiempo se sigue reintentando en
+    // segundo plano con readiness OUT_OF_SERVICE
     try {
-      // Configurar rate limiting por defecto para el endpoint de health
-      rateLimitUseCase.updateConfiguration("/api/health", 5, 60, true);
-      log.info("Default rate limiting configured for /api/health: 5 requests per minute");
+      Integer loaded = warmup.get(rateLimitProperties.getWarmupTimeout().toMillis(), TimeUnit.MILLISECONDS);
+      log.info("Rate limiting policies loaded and verified: {}", loaded);
+    } catch (TimeoutException e) {
+      log.warn("Rate limiting policies not loaded after {} - retrying in background",
+          rateLimitProperties.getWarmupTimeout());
+    }
+  }
 
-      // Configurar rate limiting por defecto para el endpoint de currency
-      rateLimitUseCase.updateConfiguration("/api/currency/convert", 10, 60, true);
-      log.info("Default rate limiting configured for /api/currency/convert: 10 requests per minute");
+  /**
+   * Escribe las políticas en un batch y verifica que todas estén persistidas
+   */
+  private Mono<Integer> loadPolicies(List<RateLimitConfig> configs) {
+    if (configs.isEmpty()) {
+      return Mono.just(0);
+    }
+
+    return rateLimitServiceFactory.getRateLimitService()
+        .flatMap(rateLimitService -> rateLimitService.updateConfigurations(configs)
+            .then(verifyPolicies(rateLimitService, configs)));
+  }
 
-      // El endpoint de tiempo no tiene rate limiting por defecto
-      log.info("Default rate limiting configuration completed successfully");
+  private Mono<Integer> verifyPolicies(RateLimitUseCase rateLimitService, List<RateLimitConfig> configs) {
+    Set<String> expected = configs.stream()
+        .map(RateLimitConfig::getEndpoint)
+        .collect(Collectors.toSet());
 
-    } catch (Exception e) {
-      log.error("Error during default rate limiting configuration", e);
-    }
+    return rateLimitService.getAllConfigurations()
+        .map(RateLimitConfig::getEndpoint)
+        .filter(expected::contains)
+        .collect(Collectors.toSet())
+        .flatMap(found -> {
+          if (found.size() < expected.size()) {
+            return Mono.error(new IllegalStateException(
+                "Rate limiting policies missing after warm-up: " + (expected.size() - found.size())));
+          }
+          return Mono.just(found.size());
+        });
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package com.miempresa.redis.infrastructure.adapter.out.persistence.redis;
+
+import com.miempresa.redis.application.port.out.ClientCardinalityPort;
+import com.miempresa.redis.domain.model.TimeGranularity;
+import com.miempresa.redis.domain.model.UniqueClientCount;
+import com.miempresa.redis.domain.model.UniqueClientReport;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RHyperLogLogAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clientes distintos por endpoint con HyperLogLog en Redis
+ * Cada request evaluado hace PFADD de la IP en el HLL de su minuto y de su
+ * hora, dentro del mismo batch (pipeline) que actualiza el contador del rate
+ * limiting, así no agrega round trips. La consulta hace PFCOUNT de cada
+ * ventana y PFCOUNT de todas juntas, que Redis resuelve uniéndolas (PFMERGE
+ * en memoria, sin escribir). Un error al registrar al cliente se cuenta en
+ * rate.limit.cardinality.errors sin afectar la decisión del rate limiting
+ * Implementa el puerto de salida ClientCardinalityPort
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisClientCardinalityAdapter implements ClientCardinalityPort {
+
+  private static final String KEY_PREFIX = "rate-limit:clients:";
+
+  private final RedissonClient redisson;
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicLong trackingErrors = new AtomicLong();
+
+  @Value("${rate-limit.cardinality.enabled:true}")
+  private boolean enabled;
+
+  @Value("${rate-limit.cardinality.minute-retention:3h}")
+  private Duration minuteRetention;
+
+  @Value("${rate-limit.cardinality.hour-retention:30d}")
+  private Duration hourRetention;
+
+  @PostConstruct
+  public void registerMetrics() {
+    FunctionCounter.builder("rate.limit.cardinality.errors", trackingErrors, AtomicLong::get)
+        .description("Unique client registrations that failed in Redis")
+        .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Registra un error de los comandos de HyperLogLog de un request
+   */
+  public void onTrackingError(String endpoint, Throwable error) {
+    long total = trackingErrors.incrementAndGet();
+    if (total == 1) {
+      log.warn("Error tracking unique client for endpoint: {} - further errors are only counted: {}", endpoint,
+          error.toString());
+    } else {
+      log.debug("Error tracking unique client for endpoint: {} ({} errors so far): {}", endpoint, total,
+          error.toString());
+    }
+  }
+
+  /**
+   * Registros de clientes que fallaron desde el arranque
+   */
+  public long getTrackingErrors() {
+    return trackingErrors.get();
+  }
+
+  /**
+   * Agrega al batch el PFADD del cliente en las ventanas actuales de minuto y
+   * hora, con su expiración
+   */
+  public void addClient(RBatch batch, String endpoint, String clientIp) {
+    long now = System.currentTimeMillis();
+    addClient(batch, key(endpoint, TimeGranularity.MINUTE, TimeGranularity.MINUTE.windowOf(now)), clientIp,
+        minuteRetention);
+    addClient(batch, key(endpoint, TimeGranularity.HOUR, TimeGranularity.HOUR.windowOf(now)), clientIp,
+        hourRetention);
+  }
+
+  @Override
+  public Mono<UniqueClientReport> countUniqueClients(String endpoint, TimeGranularity granularity, int windows) {
+    long currentWindow = granularity.windowOf(System.currentTimeMillis());
+    long firstWindow = currentWindow - windows + 1;
+
+    return Mono.defer(() -> {
+      RBatch batch = redisson.createBatch();
+      List<String> keys = new ArrayList<>(windows);
+      for (long window = firstWindow; window <= currentWindow; window++) {
+        String key = key(endpoint, granularity, window);
+        keys.add(key);
+        batch.getHyperLogLog(key, StringCodec.INSTANCE).countAsync();
+      }
+      // PFCOUNT con varias claves: cardinalidad de la unión
+      batch.getHyperLogLog(keys.get(0), StringCodec.INSTANCE)
+          .countWithAsync(keys.subList(1, keys.size()).toArray(new String[0]));
+
+      return Mono.fromCompletionStage(batch.executeAsync());
+    })
+        .map(BatchResult::getResponses)
+        .map(responses -> {
+          List<UniqueClientCount> counts = new ArrayList<>(windows);
+          for (int i = 0; i < windows; i++) {
+            counts.add(UniqueClientCount.builder()
+                .windowStart(Instant.ofEpochMilli((firstWindow + i) * granularity.getDuration().toMillis()))
+                .uniqueClients((Long) responses.get(i))
+                .build());
+          }
+          return UniqueClientReport.builder()
+              .endpoint(endpoint)
+              .granularity(granularity)
+              .windows(counts)
+              .totalUniqueClients((Long) responses.get(windows))
+              .build();
+        })
+        .doOnError(error -> log.error("Error counting unique clients for endpoint: {}", endpoint, error));
+  }
+
+  private void addClient(RBatch batch, String key, String clientIp, Duration retention) {
+    RHyperLogLogAsync<String> hyperLogLog = batch.getHyperLogLog(key, StringCodec.INSTANCE);
+    hyperLogLog.addAsync(clientIp);
+    hyperLogLog.expireAsync(retention);
+  }
+
+  private static String key(String endpoint, TimeGranularity granularity, long window) {
+    return KEY_PREFIX + endpoint + ":" + (granularity == TimeGranularity.MINUTE ? "m" : "h") + ":" + window;
+  }
+}
@@ -5,38 +5,118 @@ import com.miempresa.redis.domain.model.RateLimitConfig;
 import com.miempresa.redis.domain.model.RequestInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Adaptador de persistencia Redis para el rate limiting (usando RedisTemplate
- * con interfaz reactiva)
+ * Adaptador de persistencia Redis para el rate limiting
+ * Usa el cliente Redisson compartido por toda la aplicación con operaciones
+ * asíncronas, así ningún acceso a Redis bloquea el event loop
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisRateLimitPersistenceAdapter implements RateLimitPersistencePort {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private static final String CONFIG_KEY_PREFIX = "rate-limit:config:";
+  private static final int SCAN_BATCH_SIZE = 200;
+
+  private static final String FIELD_MAX_REQUESTS = "maxRequests";
+  private static final String FIELD_TIME_WINDOW_SECONDS = "timeWindowSeconds";
+  private static final String FIELD_ENABLED = "enabled";
+  private static final String FIELD_LOCK_TIMEOUT = "lockTimeout";
+  private static final String FIELD_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+  private static final String FIELD_CONCURRENCY_LEASE_SECONDS = "concurrencyLeaseSeconds";
+  private static final String FIELD_METHOD_COSTS = "methodCosts";
+  private static final String FIELD_COST_HEADER = "costHeader";
+  private static final String FIELD_COST_PARAMETER = "costParameter";
+  private static final String FIELD_MAX_DELAY_MILLIS = "maxDelayMillis";
+  private static final String FIELD_VERSION = "version";
+
+  /**
+   * Escribe la configuración e incrementa su versión en una sola operación
+   * atómica. ARGV[1] es la versión esperada (-1 = sin comprobar) y el resto
+   * son pares campo/valor. Devuelve la nueva versión o -1 si la versión actual
+   * no coincide con la esperada
+   */
+  private static final String WRITE_CONFIG_SCRIPT = "local current = tonumber(redis.call('HGET', KEYS[1], '"
+      + FIELD_VERSION + "') or '0') " +
+      "local expected = tonumber(ARGV[1]) " +
+      "if expected >= 0 and current ~= expected then return -1 end " +
+      "local nextVersion = current + 1 " +
+      "redis.call('HSET', KEYS[1], '" + FIELD_VERSION + "', nextVersion, unpack(ARGV, 2)) " +
+      "redis.call('PERSIST', KEYS[1]) " +
+      "return nextVersion";
+
+  private static final long ANY_VERSION = -1L;
+
+  /**
+   * Consume N unidades solo si caben en el límite; devuelve el nuevo contador
+   * o -1 si se excede. El TTL se fija cuando la clave no tiene expiración
+   */
+  private static final String TRY_CONSUME_SCRIPT =
+      "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+          "local cost = tonumber(ARGV[2]) " +
+          "if current + cost > tonumber(ARGV[1]) then return -1 end " +
+          "local updated = redis.call('INCRBY', KEYS[1], cost) " +
+          "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[3]) end " +
+          "return updated";
+
+  /**
+   * GCRA: guarda el instante teórico de llegada (TAT) en milisegundos según el
+   * reloj de Redis. Devuelve la espera necesaria o -1 si supera la máxima,
+   * sin reservar nada en ese caso
+   */
+  private static final String GCRA_RESERVE_SCRIPT =
+      "if redis.replicate_commands then redis.replicate_commands() end " +
+          "local time = redis.call('TIME') " +
+          "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+          "local interval = tonumber(ARGV[1]) " +
+          "local burst = tonumber(ARGV[2]) " +
+          "local cost = tonumber(ARGV[3]) " +
+          "local maxDelay = tonumber(ARGV[4]) " +
+          "local tat = tonumber(redis.call('GET', KEYS[1]) or now) " +
+          "if tat < now then tat = now end " +
+          "local newTat = tat + interval * cost " +
+          "local wait = newTat - burst - now " +
+          "if wait < 0 then wait = 0 end " +
+          "if wait > maxDelay then return -1 end " +
+          "redis.call('SET', KEYS[1], newTat, 'PX', math.ceil(newTat - now) + 1) " +
+          "return math.ceil(wait)";
+
+  /**
+   * Incrementa el contador y fija el TTL de la ventana en la primera request
+   */
+  private static final String INCREMENT_SCRIPT =
+      "local count = redis.call('INCR', KEYS[1]) " +
+          "if count == 1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+          "return count";
+
+  private final RedissonClient redisson;
+  private final RedisClientCardinalityAdapter clientCardinality;
 
   @Override
   public Mono<Integer> getCurrentRequestCount(RequestInfo requestInfo) {
     String key = requestInfo.getRateLimitKey();
     log.debug("Getting current count from Redis key: {}", key);
 
-    try {
-      String currentCountStr = (String) redisTemplate.opsForValue().get(key);
-      int currentCount = currentCountStr != null ? Integer.parseInt(currentCountStr) : 0;
-      log.debug("Current count from Redis: {}", currentCount);
-      return Mono.just(currentCount);
-    } catch (Exception e) {
-      log.error("Error getting current count from Redis key: {}", key, e);
-      return Mono.error(e);
-    }
+    return Mono.fromCompletionStage(() -> redisson.<String>getBucket(key, StringCodec.INSTANCE).getAsync())
+        .map(Integer::parseInt)
+        .defaultIfEmpty(0)
+        .doOnNext(currentCount -> log.debug("Current count from Redis: {}", currentCount))
+        .doOnError(error -> log.error("Error getting current count from Redis key: {}", key, error));
   }
 
   @Override
@@ -44,108 +124,281 @@ public class RedisRateLimitPersistenceAdapter implements RateLimitPersistencePor
     String key = requestInfo.getRateLimitKey();
     log.debug("Incrementing request count for Redis key: {}", key);
 
-    try {
-      String currentCountStr = (String) redisTemplate.opsForValue().get(key);
-
-      if (currentCountStr == null) {
-        // Primera request, establecer con expiración
-        log.debug("First request - set count to 1 with TTL: {}s", timeWindowSeconds);
-        redisTemplate.opsForValue().set(key, "1", Duration.ofSeconds(timeWindowSeconds));
-      } else {
-        // Incrementar contador existente
-        redisTemplate.opsForValue().increment(key);
-        int currentCount = Integer.parseInt(currentCountStr);
-        log.debug("Incremented count to: {}", currentCount + 1);
-      }
+    return this.<Long>eval(INCREMENT_SCRIPT, Collections.singletonList(key), String.valueOf(timeWindowSeconds))
+        .doOnNext(count -> log.debug("Incremented count to: {}", count))
+        .doOnError(error -> log.error("Error incrementing request count for Redis key: {}", key, error))
+        .then();
+  }
 
-      return Mono.empty();
-    } catch (Exception e) {
-      log.error("Error incrementing request count for Redis key: {}", key, e);
-      return Mono.error(e);
-    }
+  @Override
+  public Mono<Boolean> tryConsume(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost) {
+    String key = requestInfo.getRateLimitKey();
+    log.debug("Consuming {} units for Redis key: {}", cost, key);
+
+    return this.<Long>evalTrackingClient(TRY_CONSUME_SCRIPT, key, requestInfo,
+        String.valueOf(maxRequests), String.valueOf(cost), String.valueOf(timeWindowSeconds))
+        .map(updated -> {
+          boolean consumed = updated >= 0;
+          log.debug("Consume result for key {}: {} (count: {})", key, consumed, updated);
+          return consumed;
+        })
+        .doOnError(error -> log.error("Error consuming request units for Redis key: {}", key, error));
+  }
+
+  @Override
+  public Mono<Long> reserve(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost,
+      long maxDelayMillis) {
+    String key = requestInfo.getRateLimitKey() + ":gcra";
+    long windowMillis = timeWindowSeconds * 1000L;
+    double emissionInterval = (double) windowMillis / Math.max(1, maxRequests);
+    log.debug("Reserving {} units for Redis key: {} (max delay {} ms)", cost, key, maxDelayMillis);
+
+    return this.<Long>evalTrackingClient(GCRA_RESERVE_SCRIPT, key, requestInfo,
+        String.valueOf(emissionInterval), String.valueOf(windowMillis), String.valueOf(cost),
+        String.valueOf(maxDelayMillis))
+        .defaultIfEmpty(-1L)
+        .doOnNext(wait -> log.debug("Reserve result for key {}: {} ms", key, wait))
+        .doOnError(error -> log.error("Error reserving request units for Redis key: {}", key, error));
   }
 
   @Override
   public Mono<RateLimitConfig> getConfiguration(String endpoint) {
-    String configKey = "rate-limit:config:" + endpoint;
+    String configKey = CONFIG_KEY_PREFIX + endpoint;
     log.debug("Getting configuration from Redis key: {}", configKey);
 
-    try {
-      // Verificar si existe la configuración en Redis
-      if (!redisTemplate.hasKey(configKey)) {
-        log.debug("No configuration found in Redis for key: {}", configKey);
-        return Mono.empty();
-      }
+    // Leer todos los campos de la configuración en una sola operación
+    return Mono.fromCompletionStage(() -> redisson.<String, String>getMap(configKey, StringCodec.INSTANCE)
+        .readAllMapAsync())
+        .flatMap(fields -> {
+          if (fields.isEmpty()) {
+            log.debug("No configuration found in Redis for key: {}", configKey);
+            return Mono.empty();
+          }
 
-      // Leer configuración desde Redis
-      Object maxRequestsObj = redisTemplate.opsForHash().get(configKey, "maxRequests");
-      Object timeWindowSecondsObj = redisTemplate.opsForHash().get(configKey, "timeWindowSeconds");
-      Object enabledObj = redisTemplate.opsForHash().get(configKey, "enabled");
+          // Verificar que los campos obligatorios estén presentes
+          if (!isComplete(fields)) {
+            log.warn("Incomplete configuration in Redis for key: {}", configKey);
+            return Mono.empty();
+          }
 
-      // Verificar que todos los campos estén presentes
-      if (maxRequestsObj == null || timeWindowSecondsObj == null || enabledObj == null) {
-        log.warn("Incomplete configuration in Redis for key: {}", configKey);
-        return Mono.empty();
+          RateLimitConfig config = fromHash(endpoint, fields);
+          log.debug("Configuration retrieved from Redis: {}", config);
+          return Mono.just(config);
+        })
+        .doOnError(error -> log.error("Error getting configuration from Redis key: {}", configKey, error));
+  }
+
+  @Override
+  public Mono<RateLimitConfig> saveConfiguration(RateLimitConfig config) {
+    return writeConfiguration(config, ANY_VERSION);
+  }
+
+  @Override
+  public Mono<RateLimitConfig> compareAndSetConfiguration(RateLimitConfig config, long expectedVersion) {
+    return writeConfiguration(config, expectedVersion);
+  }
+
+  @Override
+  public Mono<List<RateLimitConfig>> saveConfigurations(List<RateLimitConfig> configs) {
+    log.debug("Saving {} configurations to Redis in a single pipeline", configs.size());
+
+    return Mono.defer(() -> {
+      RBatch batch = redisson.createBatch();
+      for (RateLimitConfig config : configs) {
+        String configKey = CONFIG_KEY_PREFIX + config.getEndpoint();
+        batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, WRITE_CONFIG_SCRIPT,
+            RScript.ReturnType.INTEGER, Collections.singletonList(configKey),
+            writeArguments(config, ANY_VERSION).toArray());
       }
 
-      // Crear objeto de configuración desde Redis
-      RateLimitConfig config = RateLimitConfig.builder()
-          .endpoint(endpoint)
-          .maxRequests(Integer.parseInt((String) maxRequestsObj))
-          .timeWindowSeconds(Integer.parseInt((String) timeWindowSecondsObj))
-          .enabled(Boolean.parseBoolean((String) enabledObj))
-          .build();
-
-      log.debug("Configuration retrieved from Redis: {}", config);
-      return Mono.just(config);
-    } catch (Exception e) {
-      log.error("Error getting configuration from Redis key: {}", configKey, e);
-      return Mono.error(e);
-    }
+      return Mono.fromCompletionStage(batch.executeAsync());
+    })
+        .map(result -> {
+          List<?> versions = result.getResponses();
+          List<RateLimitConfig> saved = new ArrayList<>(configs.size());
+          for (int i = 0; i < configs.size(); i++) {
+            saved.add(configs.get(i).toBuilder().version((Long) versions.get(i)).build());
+          }
+          log.debug("{} configurations saved to Redis successfully", saved.size());
+          return saved;
+        })
+        .doOnError(error -> log.error("Error saving {} configurations to Redis", configs.size(), error));
   }
 
   @Override
-  public Mono<Void> saveConfiguration(RateLimitConfig config) {
-    String configKey = "rate-limit:config:" + config.getEndpoint();
-    log.debug("Saving configuration to Redis key: {}", configKey);
-
-    try {
-      // Guardar configuración en Redis usando Hash
-      redisTemplate.opsForHash().put(configKey, "maxRequests", String.valueOf(config.getMaxRequests()));
-      redisTemplate.opsForHash().put(configKey, "timeWindowSeconds", String.valueOf(config.getTimeWindowSeconds()));
-      redisTemplate.opsForHash().put(configKey, "enabled", String.valueOf(config.isEnabled()));
-
-      // Reset TTL for the config key
-      redisTemplate.persist(configKey);
-
-      log.debug("Configuration saved to Redis successfully");
-      return Mono.empty();
-    } catch (Exception e) {
-      log.error("Error saving configuration to Redis key: {}", configKey, e);
-      return Mono.error(e);
-    }
+  public Flux<RateLimitConfig> findAllConfigurations() {
+    log.debug("Scanning all rate limit configurations in Redis");
+
+    // Los endpoints normalizados empiezan con '/', lo que excluye las claves de
+    // lock "rate-limit:config:lock:*"
+    return redisson.reactive().getKeys().getKeysByPattern(CONFIG_KEY_PREFIX + "/*", SCAN_BATCH_SIZE)
+        .buffer(SCAN_BATCH_SIZE)
+        .concatMap(this::readConfigurations)
+        .doOnError(error -> log.error("Error scanning rate limit configurations in Redis", error));
   }
 
   @Override
   public Mono<Void> clearRateLimitData(String endpoint) {
     log.debug("Clearing rate limit data for endpoint: {}", endpoint);
 
-    try {
-      // Patrón para buscar todas las claves de rate limiting para este endpoint
-      String pattern = "rate-limit:" + endpoint + ":*";
-      Set<String> keysToDelete = redisTemplate.keys(pattern);
+    // Patrón para buscar todas las claves de rate limiting para este endpoint
+    String pattern = "rate-limit:" + endpoint + ":*";
+    return Mono.fromCompletionStage(() -> redisson.getKeys().deleteByPatternAsync(pattern))
+        .doOnNext(deleted -> log.debug("Deleted {} rate limit keys for endpoint: {}", deleted, endpoint))
+        .doOnError(error -> log.error("Error clearing rate limit data for endpoint: {}", endpoint, error))
+        .then();
+  }
 
-      if (keysToDelete != null && !keysToDelete.isEmpty()) {
-        redisTemplate.delete(keysToDelete);
-        log.debug("Deleted {} rate limit keys for endpoint: {}", keysToDelete.size(), endpoint);
-      } else {
-        log.debug("No rate limit keys found to delete for endpoint: {}", endpoint);
-      }
+  /**
+   * Convierte la configuración a los campos del hash de Redis
+   */
+  private Map<String, String> toHash(RateLimitConfig config) {
+    Map<String, String> fields = new HashMap<>();
+    fields.put(FIELD_MAX_REQUESTS, String.valueOf(config.getMaxRequests()));
+    fields.put(FIELD_TIME_WINDOW_SECONDS, String.valueOf(config.getTimeWindowSeconds()));
+    fields.put(FIELD_ENABLED, String.valueOf(config.isEnabled()));
+    fields.put(FIELD_LOCK_TIMEOUT, String.valueOf(config.getLockTimeout()));
+    fields.put(FIELD_MAX_CONCURRENT_REQUESTS, String.valueOf(config.getMaxConcurrentRequests()));
+    fields.put(FIELD_CONCURRENCY_LEASE_SECONDS, String.valueOf(config.getConcurrencyLeaseSeconds()));
+    fields.put(FIELD_METHOD_COSTS, RateLimitConfig.formatMethodCosts(config.getMethodCosts()));
+    fields.put(FIELD_COST_HEADER, config.getCostHeader() != null ? config.getCostHeader() : "");
+    fields.put(FIELD_COST_PARAMETER, config.getCostParameter() != null ? config.getCostParameter() : "");
+    fields.put(FIELD_MAX_DELAY_MILLIS, String.valueOf(config.getMaxDelayMillis()));
+    return fields;
+  }
+
+  /**
+   * Construye la configuración desde los campos del hash de Redis
+   * Los campos opcionales ausentes (configuraciones antiguas) toman el valor
+   * por defecto del modelo
+   */
+  private RateLimitConfig fromHash(String endpoint, Map<String, String> fields) {
+    RateLimitConfig.RateLimitConfigBuilder builder = RateLimitConfig.builder()
+        .endpoint(endpoint)
+        .maxRequests(Integer.parseInt(fields.get(FIELD_MAX_REQUESTS)))
+        .timeWindowSeconds(Integer.parseInt(fields.get(FIELD_TIME_WINDOW_SECONDS)))
+        .enabled(Boolean.parseBoolean(fields.get(FIELD_ENABLED)));
 
-      return Mono.empty();
-    } catch (Exception e) {
-      log.error("Error clearing rate limit data for endpoint: {}", endpoint, e);
-      return Mono.error(e);
+    if (fields.containsKey(FIELD_LOCK_TIMEOUT)) {
+      builder.lockTimeout(Integer.parseInt(fields.get(FIELD_LOCK_TIMEOUT)));
+    }
+    if (fields.containsKey(FIELD_MAX_CONCURRENT_REQUESTS)) {
+      builder.maxConcurrentRequests(Integer.parseInt(fields.get(FIELD_MAX_CONCURRENT_REQUESTS)));
+    }
+    if (fields.containsKey(FIELD_CONCURRENCY_LEASE_SECONDS)) {
+      builder.concurrencyLeaseSeconds(Integer.parseInt(fields.get(FIELD_CONCURRENCY_LEASE_SECONDS)));
     }
+    if (fields.containsKey(FIELD_METHOD_COSTS)) {
+      builder.methodCosts(RateLimitConfig.parseMethodCosts(fields.get(FIELD_METHOD_COSTS)));
+    }
+    if (fields.containsKey(FIELD_MAX_DELAY_MILLIS)) {
+      builder.maxDelayMillis(Long.parseLong(fields.get(FIELD_MAX_DELAY_MILLIS)));
+    }
+    if (fields.containsKey(FIELD_VERSION)) {
+      builder.version(Long.parseLong(fields.get(FIELD_VERSION)));
+    }
+    builder.costHeader(emptyToNull(fields.get(FIELD_COST_HEADER)));
+    builder.costParameter(emptyToNull(fields.get(FIELD_COST_PARAMETER)));
+    return builder.build();
+  }
+
+  /**
+   * Ejecuta el script de escritura versionada para una configuración
+   */
+  private Mono<RateLimitConfig> writeConfiguration(RateLimitConfig config, long expectedVersion) {
+    String configKey = CONFIG_KEY_PREFIX + config.getEndpoint();
+    log.debug("Saving configuration to Redis key: {} (expected version: {})", configKey, expectedVersion);
+
+    return this.<Long>eval(WRITE_CONFIG_SCRIPT, Collections.singletonList(configKey),
+        writeArguments(config, expectedVersion).toArray())
+        .flatMap(version -> {
+          if (version < 0) {
+            log.debug("Configuration version conflict for Redis key: {}", configKey);
+            return Mono.empty();
+          }
+
+          log.debug("Configuration saved to Redis successfully with version: {}", version);
+          return Mono.just(config.toBuilder().version(version).build());
+        })
+        .doOnError(error -> log.error("Error saving configuration to Redis key: {}", configKey, error));
+  }
+
+  /**
+   * Construye los argumentos del script de escritura: versión esperada
+   * seguida de los pares campo/valor del hash
+   */
+  private List<String> writeArguments(RateLimitConfig config, long expectedVersion) {
+    Map<String, String> fields = toHash(config);
+    List<String> arguments = new ArrayList<>(fields.size() * 2 + 1);
+    arguments.add(String.valueOf(expectedVersion));
+    fields.forEach((field, value) -> {
+      arguments.add(field);
+      arguments.add(value);
+    });
+    return arguments;
+  }
+
+  private boolean isComplete(Map<String, String> fields) {
+    return fields.containsKey(FIELD_MAX_REQUESTS) && fields.containsKey(FIELD_TIME_WINDOW_SECONDS)
+        && fields.containsKey(FIELD_ENABLED);
+  }
+
+  private String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  /**
+   * Lee un lote de configuraciones con un único pipeline de HGETALL
+   */
+  private Flux<RateLimitConfig> readConfigurations(List<String> configKeys) {
+    return Mono.defer(() -> {
+      RBatch batch = redisson.createBatch();
+      configKeys.forEach(configKey -> batch.getMap(configKey, StringCodec.INSTANCE).readAllMapAsync());
+      return Mono.fromCompletionStage(batch.executeAsync());
+    })
+        .flatMapIterable(result -> {
+          List<RateLimitConfig> configs = new ArrayList<>(configKeys.size());
+          for (int i = 0; i < configKeys.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> fields = (Map<String, String>) result.getResponses().get(i);
+            if (fields == null || !isComplete(fields)) {
+              log.warn("Skipping incomplete configuration in Redis for key: {}", configKeys.get(i));
+              continue;
+            }
+            configs.add(fromHash(configKeys.get(i).substring(CONFIG_KEY_PREFIX.length()), fields));
+          }
+          return configs;
+        });
+  }
+
+  /**
+   * Ejecuta el script del contador y registra al cliente en los HyperLogLog
+   * del endpoint en el mismo batch (un solo round trip)
+   * La decisión sale solo del resultado del script: un error de los comandos
+   * de HyperLogLog se cuenta aparte y no afecta al rate limiting
+   */
+  private <R> Mono<R> evalTrackingClient(String script, String key, RequestInfo requestInfo, Object... values) {
+    if (!clientCardinality.isEnabled() || requestInfo.getClientIp() == null) {
+      return eval(script, Collections.singletonList(key), values);
+    }
+
+    return Mono.defer(() -> {
+      RBatch batch = redisson.createBatch();
+      RFuture<R> result = batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, script,
+          RScript.ReturnType.INTEGER, Collections.singletonList(key), values);
+      clientCardinality.addClient(batch, requestInfo.getEndpoint(), requestInfo.getClientIp());
+      batch.executeAsync().whenComplete((responses, error) -> {
+        // Si falló el script el error ya llega por su propio resultado
+        if (error != null && !result.toCompletableFuture().isCompletedExceptionally()) {
+          clientCardinality.onTrackingError(requestInfo.getEndpoint(), error);
+        }
+      });
+      return Mono.fromCompletionStage(result);
+    });
+  }
+
+  private <R> Mono<R> eval(String script, List<Object> keys, Object... values) {
+    return Mono.fromCompletionStage(() -> redisson.getScript(StringCodec.INSTANCE)
+        .<R>evalAsync(RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER, keys, values));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.miempresa.redis.infrastructure.adapter.out.redisson;
+
+import com.miempresa.redis.application.port.out.ConcurrencyLimitPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RPermitExpirableSemaphore;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptador de infraestructura para límites de concurrencia usando semáforos
+ * con permisos expirables de Redisson
+ * Implementa el puerto de salida ConcurrencyLimitPort
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedissonConcurrencyLimitAdapter implements ConcurrencyLimitPort {
+
+  private static final String SEMAPHORE_PREFIX = "rate-limit:concurrency:";
+
+  private final RedissonClient redisson;
+
+  // Último número de permisos aplicado por endpoint, para no reconfigurar el
+  // semáforo en cada request
+  private final Map<String, Integer> appliedPermits = new ConcurrentHashMap<>();
+
+  @Override
+  public Mono<String> tryAcquire(String endpoint, int maxPermits, int leaseSeconds) {
+    RPermitExpirableSemaphore semaphore = redisson.getPermitExpirableSemaphore(SEMAPHORE_PREFIX + endpoint);
+
+    return ensurePermits(endpoint, semaphore, maxPermits)
+        .then(Mono.fromCompletionStage(() -> semaphore.tryAcquireAsync(0, leaseSeconds, TimeUnit.SECONDS)))
+        .doOnNext(permitId -> log.debug("Concurrency permit acquired for endpoint: {} - {}", endpoint, permitId))
+        .doOnError(error -> log.error("Error acquiring concurrency permit for endpoint: {}", endpoint, error));
+  }
+
+  @Override
+  public Mono<Void> release(String endpoint, String permitId) {
+    RPermitExpirableSemaphore semaphore = redisson.getPermitExpirableSemaphore(SEMAPHORE_PREFIX + endpoint);
+
+    return Mono.fromCompletionStage(() -> semaphore.tryReleaseAsync(permitId))
+        .doOnNext(released -> {
+          if (released) {
+            log.debug("Concurrency permit released for endpoint: {} - {}", endpoint, permitId);
+          } else {
+            log.debug("Concurrency permit already expired for endpoint: {} - {}", endpoint, permitId);
+          }
+        })
+        .then()
+        .doOnError(error -> log.error("Error releasing concurrency permit for endpoint: {}", endpoint, error));
+  }
+
+  /**
+   * Ajusta el número total de permisos del semáforo cuando cambia la
+   * configuración
+   */
+  private Mono<Void> ensurePermits(String endpoint, RPermitExpirableSemaphore semaphore, int maxPermits) {
+    Integer applied = appliedPermits.get(endpoint);
+    if (applied != null && applied == maxPermits) {
+      return Mono.empty();
+    }
+
+    return Mono.fromCompletionStage(() -> semaphore.setPermitsAsync(maxPermits))
+        .doOnSuccess(result -> {
+          appliedPermits.put(endpoint, maxPermits);
+          log.info("Concurrency permits set for endpoint: {} - maxPermits: {}", endpoint, maxPermits);
+        });
+  }
+}
@@ -1,58 +1,81 @@
 package com.miempresa.redis.infrastructure.adapter.out.redisson;
 
 import com.miempresa.redis.application.port.out.DistributedCachePort;
-import lombok.RequiredArgsConstructor;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.codec.RateLimitStateCodec;
+import com.miempresa.redis.infrastructure.config.RedissonRateLimitConfig;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RMap;
+import org.redisson.api.EvictionMode;
+import org.redisson.api.RMapCache;
 import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Adaptador de infraestructura para cache distribuido usando Redisson
+ * Adaptador de infraestructura para cache distribuido usando RMapCache de
+ * Redisson
+ * Cada entrada tiene su propio TTL (por defecto cacheTtl) y el mapa se limita
+ * a maxCacheSize entradas con la política de evicción configurada. Los valores
+ * se codifican con RateLimitStateCodec
  * Implementa el puerto de salida DistributedCachePort
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "redisson.rate-limit.cache-mode", havingValue = "map-cache", matchIfMissing = true)
 public class RedissonDistributedCacheAdapter implements DistributedCachePort {
 
+  private static final String CACHE_NAME = "rate-limit:distributed-cache";
+
   private final RedissonClient redisson;
+  private final RedissonRateLimitConfig cacheConfig;
+  private final RateLimitStateCodec codec;
+
+  // Tamaño máximo ya aplicado en Redis, para no reconfigurarlo en cada escritura
+  private volatile boolean maxSizeApplied;
+
+  public RedissonDistributedCacheAdapter(RedissonClient redisson, RedissonRateLimitConfig cacheConfig,
+      RateLimitStateCodec codec) {
+    this.redisson = redisson;
+    this.cacheConfig = cacheConfig;
+    this.codec = codec;
+    log.info("Distributed cache using RMapCache '{}' - default TTL: {}s, max size: {}, eviction: {}",
+        CACHE_NAME, cacheConfig.getCacheTtl(), cacheConfig.getMaxCacheSize(), cacheConfig.getEvictionPolicy());
+  }
 
   @Override
   public <T> Mono<T> get(String key, Class<T> valueType) {
     log.debug("Getting value from cache: {} with type: {}", key, valueType.getSimpleName());
 
-    return Mono.fromCallable(() -> {
-      RMap<String, T> cache = redisson.getMap("distributed-cache");
-      T value = cache.get(key);
-      if (value != null) {
-        log.debug("Cache hit for key: {}", key);
-      } else {
-        log.debug("Cache miss for key: {}", key);
-      }
-      return value;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
+    RMapCache<String, Object> cache = cache();
+    return Mono.fromCompletionStage(() -> cache.getAsync(key))
+        .filter(valueType::isInstance)
+        .map(valueType::cast)
+        .doOnNext(value -> log.debug("Cache hit for key: {}", key))
         .doOnError(error -> log.error("Error getting value from cache: {}", key, error))
-        .onErrorReturn(null);
+        .onErrorResume(error -> Mono.empty());
   }
 
   @Override
   public <T> Mono<Void> put(String key, T value) {
-    log.debug("Putting value in cache: {} with type: {}", key,
-        value != null ? value.getClass().getSimpleName() : "null");
-
-    return Mono.fromCallable(() -> {
-      RMap<String, T> cache = redisson.getMap("distributed-cache");
-      cache.put(key, value);
-      log.debug("Value stored in cache successfully: {}", key);
-      return null;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
+    return put(key, value, cacheConfig.getCacheTtl());
+  }
+
+  @Override
+  public <T> Mono<Void> putIfAbsent(String key, T value) {
+    log.debug("Putting value in cache if absent: {}", key);
+
+    RMapCache<String, Object> cache = cache();
+    return ensureMaxSize(cache)
+        .then(Mono.fromCompletionStage(() -> cache.fastPutIfAbsentAsync(key, value,
+            cacheConfig.getCacheTtl(), TimeUnit.SECONDS, 0, TimeUnit.SECONDS)))
+        .doOnNext(stored -> log.debug("Value stored in cache if absent: {} - {}", key, stored))
         .then()
-        .doOnError(error -> log.error("Error storing value in cache: {}", key, error))
+        .doOnError(error -> log.error("Error storing value in cache if absent: {}", key, error))
         .onErrorComplete();
   }
 
@@ -60,15 +83,12 @@ public class RedissonDistributedCacheAdapter implements DistributedCachePort {
   public <T> Mono<Void> put(String key, T value, long ttl) {
     log.debug("Putting value in cache: {} with TTL: {} seconds", key, ttl);
 
-    return Mono.fromCallable(() -> {
-      RMap<String, T> cache = redisson.getMap("distributed-cache");
-      cache.put(key, value);
-      // Para RMap, no podemos establecer TTL directamente
-      // En una implementación real, se podría usar RBucket o RExpirable
-      log.debug("Value stored in cache successfully: {} (TTL not supported for RMap)", key);
-      return null;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
+    RMapCache<String, Object> cache = cache();
+    return ensureMaxSize(cache)
+        .then(Mono.fromCompletionStage(() -> ttl > 0
+            ? cache.fastPutAsync(key, value, ttl, TimeUnit.SECONDS)
+            : cache.fastPutAsync(key, value)))
+        .doOnNext(stored -> log.debug("Value stored in cache successfully: {}", key))
         .then()
         .doOnError(error -> log.error("Error storing value in cache with TTL: {}", key, error))
         .onErrorComplete();
@@ -78,33 +98,37 @@ public class RedissonDistributedCacheAdapter implements DistributedCachePort {
   public Mono<Void> remove(String key) {
     log.debug("Removing value from cache: {}", key);
 
-    return Mono.fromCallable(() -> {
-      RMap<String, Object> cache = redisson.getMap("distributed-cache");
-      Object removed = cache.remove(key);
-      if (removed != null) {
-        log.debug("Value removed from cache successfully: {}", key);
-      } else {
-        log.debug("Key not found in cache: {}", key);
-      }
-      return null;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
+    RMapCache<String, Object> cache = cache();
+    return Mono.fromCompletionStage(() -> cache.fastRemoveAsync(key))
+        .doOnNext(removed -> log.debug("{} values removed from cache for key: {}", removed, key))
         .then()
         .doOnError(error -> log.error("Error removing value from cache: {}", key, error))
         .onErrorComplete();
   }
 
+  @Override
+  public Mono<Void> removeAll(Collection<String> keys) {
+    log.debug("Removing {} values from cache", keys.size());
+
+    if (keys.isEmpty()) {
+      return Mono.empty();
+    }
+
+    RMapCache<String, Object> cache = cache();
+    return Mono.fromCompletionStage(() -> cache.fastRemoveAsync(keys.toArray(new String[0])))
+        .doOnNext(removed -> log.debug("{} values removed from cache", removed))
+        .then()
+        .doOnError(error -> log.error("Error removing {} values from cache", keys.size(), error))
+        .onErrorComplete();
+  }
+
   @Override
   public Mono<Boolean> containsKey(String key) {
     log.debug("Checking if cache contains key: {}", key);
 
-    return Mono.fromCallable(() -> {
-      RMap<String, Object> cache = redisson.getMap("distributed-cache");
-      boolean contains = cache.containsKey(key);
-      log.debug("Cache contains key {}: {}", key, contains);
-      return contains;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
+    RMapCache<String, Object> cache = cache();
+    return Mono.fromCompletionStage(() -> cache.containsKeyAsync(key))
+        .doOnNext(contains -> log.debug("Cache contains key {}: {}", key, contains))
         .doOnError(error -> log.error("Error checking if cache contains key: {}", key, error))
         .onErrorReturn(false);
   }
@@ -113,12 +137,10 @@ public class RedissonDistributedCacheAdapter implements DistributedCachePort {
   public Mono<Long> getTtl(String key) {
     log.debug("Getting TTL for cache key: {}", key);
 
-    return Mono.fromCallable(() -> {
-      // RMap no soporta TTL directamente
-      log.debug("TTL not supported for RMap, returning -1 for key: {}", key);
-      return -1L;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
+    RMapCache<String, Object> cache = cache();
+    return Mono.fromCompletionStage(() -> cache.remainTimeToLiveAsync(key))
+        // RMapCache devuelve milisegundos; -1 y -2 se mantienen
+        .map(ttlMillis -> ttlMillis < 0 ? ttlMillis : TimeUnit.MILLISECONDS.toSeconds(ttlMillis))
         .doOnError(error -> log.error("Error getting TTL for cache key: {}", key, error))
         .onErrorReturn(-1L);
   }
@@ -127,14 +149,44 @@ public class RedissonDistributedCacheAdapter implements DistributedCachePort {
   public Mono<Void> expire(String key, long ttl) {
     log.debug("Setting TTL for cache key: {} to {} seconds", key, ttl);
 
-    return Mono.fromCallable(() -> {
-      // RMap no soporta TTL directamente
-      log.debug("TTL not supported for RMap, ignoring expire request for key: {}", key);
-      return null;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
+    RMapCache<String, Object> cache = cache();
+    return Mono.fromCompletionStage(() -> cache.expireEntryAsync(key, Duration.ofSeconds(ttl), Duration.ZERO))
+        .doOnNext(updated -> {
+          if (!updated) {
+            log.debug("Key not found in cache, TTL not set: {}", key);
+          }
+        })
         .then()
         .doOnError(error -> log.error("Error setting TTL for cache key: {}", key, error))
         .onErrorComplete();
   }
-}
\ No newline at end of file
+
+  private RMapCache<String, Object> cache() {
+    return redisson.getMapCache(CACHE_NAME, codec);
+  }
+
+  /**
+   * Aplica el tamaño máximo y la política de evicción la primera vez que se
+   * escribe; si falla se reintenta en la siguiente escritura
+   */
+  private Mono<Void> ensureMaxSize(RMapCache<String, Object> cache) {
+    if (maxSizeApplied || cacheConfig.getMaxCacheSize() <= 0) {
+      return Mono.empty();
+    }
+
+    EvictionMode evictionMode = "LFU".equals(cacheConfig.getEvictionPolicy().toUpperCase(Locale.ROOT))
+        ? EvictionMode.LFU
+        : EvictionMode.LRU;
+
+    return Mono.fromCompletionStage(() -> cache.setMaxSizeAsync(cacheConfig.getMaxCacheSize(), evictionMode))
+        .doOnSuccess(result -> {
+          maxSizeApplied = true;
+          log.info("Distributed cache max size set to {} entries with {} eviction",
+              cacheConfig.getMaxCacheSize(), evictionMode);
+        })
+        .onErrorResume(error -> {
+          log.warn("Failed to set distributed cache max size, will retry on next write", error);
+          return Mono.empty();
+        });
+  }
+}
@@ -1,18 +1,28 @@
 package com.miempresa.redis.infrastructure.adapter.out.redisson;
 
 import com.miempresa.redis.application.port.out.DistributedLockPort;
+import com.miempresa.redis.domain.model.LockLease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Adaptador de infraestructura para locks distribuidos usando Redisson
+ * Adaptador de infraestructura para locks distribuidos usando scripts Lua
+ * asíncronos de Redisson
+ * El valor del lock es el token del holder, así que cualquier hilo puede
+ * liberarlo; la espera se hace con reintentos programados (sin bloquear hilos)
+ * y cada adquisición incrementa un contador que sirve como fencing token
  * Implementa el puerto de salida DistributedLockPort
  */
 @Slf4j
@@ -20,92 +30,159 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedissonDistributedLockAdapter implements DistributedLockPort {
 
+  private static final String FENCING_SUFFIX = ":fencing";
+  private static final long MIN_RETRY_DELAY_MILLIS = 5;
+  private static final long MAX_RETRY_DELAY_MILLIS = 200;
+
+  /**
+   * Toma el lock si está libre y devuelve el nuevo fencing token, o -1 si lo
+   * tiene otro holder
+   */
+  private static final String ACQUIRE_SCRIPT =
+      "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+          "return redis.call('INCR', KEYS[2]) end " +
+          "return -1";
+
+  private static final String RELEASE_SCRIPT =
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+          "return 0";
+
+  private static final String EXTEND_SCRIPT =
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+          "return 0";
+
+  /**
+   * Acepta el token si no es menor al mayor registrado por el recurso
+   */
+  private static final String FENCE_SCRIPT =
+      "local last = tonumber(redis.call('GET', KEYS[1]) or '-1') " +
+          "local token = tonumber(ARGV[1]) " +
+          "if token < last then return 0 end " +
+          "redis.call('SET', KEYS[1], ARGV[1]) " +
+          "return 1";
+
   private final RedissonClient redisson;
 
   @Override
-  public Mono<Boolean> tryLock(String lockKey, long timeout, TimeUnit timeUnit) {
-    log.debug("Attempting to acquire lock: {} with timeout: {} {}", lockKey, timeout, timeUnit);
-
-    return Mono.fromCallable(() -> {
-      RLock lock = redisson.getLock(lockKey);
-      try {
-        boolean acquired = lock.tryLock(timeout, timeUnit);
-        if (acquired) {
-          log.debug("Lock acquired successfully: {}", lockKey);
-        } else {
-          log.debug("Failed to acquire lock: {} (timeout)", lockKey);
-        }
-        return acquired;
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        log.warn("Lock acquisition interrupted: {}", lockKey);
-        return false;
-      }
-    })
-        .subscribeOn(Schedulers.boundedElastic())
-        .doOnError(error -> log.error("Error acquiring lock: {}", lockKey, error))
+  public Mono<LockLease> tryLock(String lockKey, Duration waitTime, Duration leaseTime) {
+    log.debug("Attempting to acquire lock: {} with wait time: {} and lease: {}", lockKey, waitTime, leaseTime);
+
+    String ownerToken = UUID.randomUUID().toString();
+    long deadline = System.nanoTime() + waitTime.toNanos();
+
+    return Mono.defer(() -> acquireOnce(lockKey, ownerToken, leaseTime))
+        // Reintentar con backoff y jitter hasta el deadline, sin ocupar hilos
+        .repeatWhenEmpty(attempts -> attempts
+            .takeWhile(attempt -> System.nanoTime() < deadline)
+            .concatMap(attempt -> Mono.delay(retryDelay(attempt, deadline))))
+        .doOnNext(lease -> log.debug("Lock acquired successfully: {} - fencing token: {}",
+            lockKey, lease.getFencingToken()))
+        .switchIfEmpty(Mono.fromRunnable(() -> log.debug("Failed to acquire lock: {} (timeout)", lockKey)))
+        // Un fallo de Redis no es "lock tomado por otro": se propaga al caller
+        .doOnError(error -> log.error("Error acquiring lock: {}", lockKey, error));
+  }
+
+  @Override
+  public Mono<Boolean> unlock(LockLease lease) {
+    log.debug("Releasing lock: {}", lease.getLockKey());
+
+    return this.<Long>eval(RELEASE_SCRIPT, Collections.singletonList(lease.getLockKey()), lease.getOwnerToken())
+        .map(released -> released > 0)
+        .doOnNext(released -> {
+          if (released) {
+            log.debug("Lock released successfully: {}", lease.getLockKey());
+          } else {
+            log.warn("Lock already expired or held by another owner: {}", lease.getLockKey());
+          }
+        })
+        .doOnError(error -> log.error("Error releasing lock: {}", lease.getLockKey(), error))
         .onErrorReturn(false);
   }
 
   @Override
-  public Mono<Void> unlock(String lockKey) {
-    log.debug("Releasing lock: {}", lockKey);
-
-    return Mono.fromCallable(() -> {
-      RLock lock = redisson.getLock(lockKey);
-      if (lock.isHeldByCurrentThread()) {
-        lock.unlock();
-        log.debug("Lock released successfully: {}", lockKey);
-      } else {
-        log.warn("Attempted to release lock not held by current thread: {}", lockKey);
-      }
-      return null;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
-        .then()
-        .doOnError(error -> log.error("Error releasing lock: {}", lockKey, error))
-        .onErrorComplete();
+  public Mono<Boolean> extend(LockLease lease, Duration leaseTime) {
+    log.debug("Extending lock: {} by {}", lease.getLockKey(), leaseTime);
+
+    return this.<Long>eval(EXTEND_SCRIPT, Collections.singletonList(lease.getLockKey()),
+        lease.getOwnerToken(), String.valueOf(leaseTime.toMillis()))
+        .map(extended -> extended > 0)
+        .doOnError(error -> log.error("Error extending lock: {}", lease.getLockKey(), error));
+  }
+
+  @Override
+  public Mono<Boolean> fence(String resourceKey, long fencingToken) {
+    String fenceKey = resourceKey + FENCING_SUFFIX;
+
+    return this.<Long>eval(FENCE_SCRIPT, Collections.singletonList(fenceKey), String.valueOf(fencingToken))
+        .map(accepted -> accepted > 0)
+        .doOnNext(accepted -> {
+          if (!accepted) {
+            log.warn("Rejected stale fencing token {} for resource: {}", fencingToken, resourceKey);
+          }
+        })
+        .doOnError(error -> log.error("Error checking fencing token for resource: {}", resourceKey, error));
   }
 
   @Override
   public Mono<Boolean> isLocked(String lockKey) {
     log.debug("Checking if lock is held: {}", lockKey);
 
-    return Mono.fromCallable(() -> {
-      RLock lock = redisson.getLock(lockKey);
-      boolean isLocked = lock.isLocked();
-      log.debug("Lock {} is locked: {}", lockKey, isLocked);
-      return isLocked;
-    })
-        .subscribeOn(Schedulers.boundedElastic())
-        .doOnError(error -> log.error("Error checking lock status: {}", lockKey, error))
-        .onErrorReturn(false);
+    return remainingTime(lockKey)
+        .map(ttl -> ttl != -2)
+        .doOnNext(isLocked -> log.debug("Lock {} is locked: {}", lockKey, isLocked))
+        .doOnError(error -> log.error("Error checking lock status: {}", lockKey, error));
   }
 
   @Override
-  public Mono<DistributedLockPort.LockInfo> getLockInfo(String lockKey) {
+  public Mono<LockInfo> getLockInfo(String lockKey) {
     log.debug("Getting lock info: {}", lockKey);
 
-    return Mono.fromCallable(() -> {
-      RLock lock = redisson.getLock(lockKey);
+    return remainingTime(lockKey)
+        .map(ttl -> (LockInfo) new RedissonLockInfo(lockKey, ttl))
+        .doOnError(error -> log.error("Error getting lock info: {}", lockKey, error));
+  }
+
+  private Mono<LockLease> acquireOnce(String lockKey, String ownerToken, Duration leaseTime) {
+    List<Object> keys = Arrays.asList(lockKey, lockKey + FENCING_SUFFIX);
+
+    return this.<Long>eval(ACQUIRE_SCRIPT, keys, ownerToken, String.valueOf(leaseTime.toMillis()))
+        .filter(fencingToken -> fencingToken > 0)
+        .map(fencingToken -> LockLease.builder()
+            .lockKey(lockKey)
+            .ownerToken(ownerToken)
+            .fencingToken(fencingToken)
+            .build());
+  }
+
+  private Duration retryDelay(long attempt, long deadline) {
+    long backoff = Math.min(MAX_RETRY_DELAY_MILLIS, MIN_RETRY_DELAY_MILLIS << Math.min(attempt, 6));
+    long jittered = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    long remaining = Math.max(1, (deadline - System.nanoTime()) / 1_000_000);
+    return Duration.ofMillis(Math.min(jittered, remaining));
+  }
+
+  /**
+   * TTL restante del lock en milisegundos (-2 si no existe)
+   */
+  private Mono<Long> remainingTime(String lockKey) {
+    return Mono.fromCompletionStage(() -> redisson.getBucket(lockKey, StringCodec.INSTANCE).remainTimeToLiveAsync());
+  }
 
-      return (DistributedLockPort.LockInfo) new RedissonLockInfo(lockKey, lock);
-    })
-        .subscribeOn(Schedulers.boundedElastic())
-        .doOnError(error -> log.error("Error getting lock info: {}", lockKey, error))
-        .onErrorReturn(null);
+  private <R> Mono<R> eval(String script, List<Object> keys, Object... values) {
+    return Mono.fromCompletionStage(() -> redisson.getScript(StringCodec.INSTANCE)
+        .<R>evalAsync(RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER, keys, values));
   }
 
   /**
-   * Implementación de LockInfo para Redisson
+   * Implementación de LockInfo con el estado leído de Redis
    */
   private static class RedissonLockInfo implements DistributedLockPort.LockInfo {
     private final String lockKey;
-    private final RLock lock;
+    private final long remainingTime;
 
-    public RedissonLockInfo(String lockKey, RLock lock) {
+    public RedissonLockInfo(String lockKey, long remainingTime) {
       this.lockKey = lockKey;
-      this.lock = lock;
+      this.remainingTime = remainingTime;
     }
 
     @Override
@@ -115,21 +192,18 @@ public class RedissonDistributedLockAdapter implements DistributedLockPort {
 
     @Override
     public boolean isLocked() {
-      return lock.isLocked();
+      return remainingTime != -2;
     }
 
     @Override
     public long getHoldCount() {
-      return lock.getHoldCount();
+      // Los locks por token no son reentrantes
+      return isLocked() ? 1 : 0;
     }
 
     @Override
     public long getRemainingTime() {
-      try {
-        return lock.remainTimeToLive();
-      } catch (Exception e) {
-        return -1;
-      }
+      return remainingTime;
     }
   }
-}
\ No newline at end of file
+}
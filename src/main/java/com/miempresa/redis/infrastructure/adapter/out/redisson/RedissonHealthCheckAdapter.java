@@ -4,12 +4,28 @@ import com.miempresa.redis.application.port.out.HealthCheckPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisMaster;
+import org.redisson.api.redisnode.RedisNode;
+import org.redisson.api.redisnode.RedisNodes;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Adaptador de infraestructura para health checks usando Redisson
+ * Cada chequeo es un PING asíncrono con timeout más los clientes conectados
+ * (INFO CLIENTS), ambos con el API pública de nodos de Redisson; el
+ * resultado se cachea durante health.redis.cache-ttl, así el rate limiting y
+ * los load balancers no consultan Redis en cada request
+ * Pasado el TTL se responde con el último resultado y se refresca en segundo
+ * plano; solo hay un chequeo en curso a la vez
  * Implementa el puerto de salida HealthCheckPort
  */
 @Slf4j
@@ -19,85 +35,170 @@ public class RedissonHealthCheckAdapter implements HealthCheckPort {
 
   private final RedissonClient redisson;
 
-  @Override
-  public Mono<Boolean> isHealthy() {
-    log.debug("Checking Redisson health");
+  private final AtomicReference<RedissonHealthInfo> lastProbe = new AtomicReference<>();
+  private final AtomicReference<Mono<RedissonHealthInfo>> inFlight = new AtomicReference<>();
 
-    return Mono.fromCallable(() -> {
-      try {
-        // Verificar que Redisson esté funcionando
-        long totalKeys = redisson.getKeys().count();
+  @Value("${health.redis.cache-ttl:5s}")
+  private Duration cacheTtl;
 
-        // Verificar conexión básica
-        redisson.getKeys().getKeys();
+  @Value("${health.redis.ping-timeout:1s}")
+  private Duration pingTimeout;
 
-        log.debug("Redisson health check passed - totalKeys: {}", totalKeys);
-        return true;
+  @Value("${redisson.connection-pool-size:64}")
+  private int connectionPoolSize;
 
-      } catch (Exception e) {
-        log.error("Redisson health check failed", e);
-        return false;
-      }
-    })
-        .subscribeOn(Schedulers.boundedElastic())
-        .doOnError(error -> log.error("Error during Redisson health check", error))
-        .onErrorReturn(false);
+  @Override
+  public Mono<Boolean> isHealthy() {
+    return getHealthInfo().map(info -> "UP".equals(info.getStatus()));
   }
 
   @Override
   public Mono<HealthInfo> getHealthInfo() {
-    log.debug("Getting detailed Redisson health info");
+    RedissonHealthInfo cached = lastProbe.get();
+    if (cached == null) {
+      // Sin resultado previo se espera al primer chequeo
+      return probe().cast(HealthInfo.class);
+    }
 
-    return Mono.fromCallable(() -> {
-      try {
-        long totalKeys = redisson.getKeys().count();
+    if (System.currentTimeMillis() - cached.timestamp >= cacheTtl.toMillis()) {
+      probe().subscribe();
+    }
+    return Mono.just(cached);
+  }
+
+  /**
+   * Ejecuta un chequeo o se une al que está en curso; nunca termina con error
+   */
+  private Mono<RedissonHealthInfo> probe() {
+    Mono<RedissonHealthInfo> current = inFlight.get();
+    if (current != null) {
+      return current;
+    }
 
-        return (HealthInfo) new RedissonHealthInfo(totalKeys);
+    AtomicReference<Mono<RedissonHealthInfo>> call = new AtomicReference<>();
+    call.set(ping()
+        // Se publica y se retira antes de emitir, para que quien consulte
+        // después vea el resultado nuevo
+        .doOnNext(info -> {
+          lastProbe.set(info);
+          inFlight.compareAndSet(call.get(), null);
+        })
+        .cache());
+    return inFlight.compareAndSet(null, call.get()) ? call.get() : probe();
+  }
 
-      } catch (Exception e) {
-        log.error("Error getting Redisson health info", e);
-        return (HealthInfo) new RedissonHealthInfo(-1);
-      }
+  private Mono<RedissonHealthInfo> ping() {
+    return Mono.defer(() -> {
+      RedisMaster node = redisson.getRedisNodes(RedisNodes.SINGLE).getInstance();
+      long start = System.nanoTime();
+      return Mono.fromCompletionStage(() -> node.pingAsync(pingTimeout.toMillis(), TimeUnit.MILLISECONDS))
+          // Cota también para los reintentos internos de Redisson
+          .timeout(pingTimeout.multipliedBy(2))
+          .flatMap(pong -> {
+            long latencyMicros = (System.nanoTime() - start) / 1_000;
+            if (!pong) {
+              log.warn("Redisson health check failed - no PING reply in {}", pingTimeout);
+              return Mono.just(new RedissonHealthInfo(false, latencyMicros, null, poolStats()));
+            }
+            log.debug("Redisson health check passed - PING latency: {}µs", latencyMicros);
+            return clientStats(node).map(stats -> new RedissonHealthInfo(true, latencyMicros, null, stats));
+          });
     })
-        .subscribeOn(Schedulers.boundedElastic())
-        .doOnError(error -> log.error("Error getting Redisson health info", error))
-        .onErrorReturn((HealthInfo) new RedissonHealthInfo(-1));
+        .onErrorResume(error -> {
+          log.error("Redisson health check failed", error);
+          return Mono.just(new RedissonHealthInfo(false, -1, String.valueOf(error.getMessage()), poolStats()));
+        });
+  }
+
+  /**
+   * Clientes conectados al servidor según INFO CLIENTS (API pública de
+   * Redisson); si INFO falla se reporta solo el tamaño del pool
+   */
+  private Mono<Map<String, Object>> clientStats(RedisMaster node) {
+    return Mono.fromCompletionStage(() -> node.infoAsync(RedisNode.InfoSection.CLIENTS))
+        .timeout(pingTimeout)
+        .map(info -> {
+          Map<String, Object> stats = poolStats();
+          putCount(stats, "connectedClients", info.get("connected_clients"));
+          putCount(stats, "blockedClients", info.get("blocked_clients"));
+          return stats;
+        })
+        .onErrorResume(error -> {
+          log.debug("Unable to read Redis client stats: {}", error.toString());
+          return Mono.just(poolStats());
+        });
+  }
+
+  private Map<String, Object> poolStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("poolSize", connectionPoolSize);
+    return stats;
+  }
+
+  private static void putCount(Map<String, Object> stats, String name, String value) {
+    if (value == null) {
+      return;
+    }
+    try {
+      stats.put(name, Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      log.debug("Ignoring invalid Redis INFO value for {}: {}", name, value);
+    }
   }
 
   /**
    * Implementación de HealthInfo para Redisson
    */
   private static class RedissonHealthInfo implements HealthInfo {
-    private final long totalKeys;
+    private final boolean healthy;
+    private final long latencyMicros;
+    private final String error;
+    private final Map<String, Object> metrics;
     private final long timestamp;
 
-    public RedissonHealthInfo(long totalKeys) {
-      this.totalKeys = totalKeys;
+    public RedissonHealthInfo(boolean healthy, long latencyMicros, String error, Map<String, Object> poolStats) {
+      this.healthy = healthy;
+      this.latencyMicros = latencyMicros;
+      this.error = error;
       this.timestamp = System.currentTimeMillis();
+
+      Map<String, Object> values = new LinkedHashMap<>();
+      if (latencyMicros >= 0) {
+        values.put("pingLatencyMicros", latencyMicros);
+      }
+      values.putAll(poolStats);
+      this.metrics = Collections.unmodifiableMap(values);
     }
 
     @Override
     public String getStatus() {
-      return totalKeys >= 0 ? "UP" : "DOWN";
+      return healthy ? "UP" : "DOWN";
     }
 
     @Override
     public String getMessage() {
-      if (totalKeys >= 0) {
-        return String.format("Redisson is healthy - Total Keys: %d", totalKeys);
+      if (healthy) {
+        return String.format("Redisson is healthy - PING latency: %dµs", latencyMicros);
+      } else if (error != null) {
+        return "Redisson health check failed: " + error;
       } else {
-        return "Redisson health check failed";
+        return "Redisson health check failed - no PING reply";
       }
     }
 
     @Override
     public String getDetails() {
-      return String.format("Total Keys: %d", totalKeys);
+      return metrics.toString();
     }
 
     @Override
     public long getTimestamp() {
       return timestamp;
     }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+      return metrics;
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package com.miempresa.redis.infrastructure.adapter.out.redisson;
+
+import com.miempresa.redis.application.port.out.DistributedCachePort;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.codec.RateLimitStateCodec;
+import com.miempresa.redis.infrastructure.config.RedissonRateLimitConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.LocalCachedMapOptions;
+import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptador de infraestructura para cache distribuido usando RLocalCachedMap
+ * de Redisson
+ * Las lecturas se sirven desde memoria del nodo; cada escritura publica una
+ * invalidación que Redis envía al resto de nodos. Las copias locales expiran
+ * tras cacheTtl y se limitan a maxCacheSize entradas. RLocalCachedMap no
+ * soporta TTL por entrada ni tamaño máximo en Redis, así que el mapa se vacía
+ * cada cacheTtl y cuando una escritura lo encuentra lleno; las entradas se
+ * vuelven a leer de la persistencia. Los valores se codifican con
+ * RateLimitStateCodec
+ * Implementa el puerto de salida DistributedCachePort
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "redisson.rate-limit.cache-mode", havingValue = "local-cached")
+public class RedissonLocalCachedDistributedCacheAdapter implements DistributedCachePort {
+
+  private static final String CACHE_NAME = "rate-limit:local-cached-cache";
+
+  // Una única instancia: cada llamada a getLocalCachedMap crea otra copia
+  // local y otro listener de invalidación
+  private final RLocalCachedMap<String, Object> cache;
+  private final Duration cacheTtl;
+  private final int maxCacheSize;
+
+  private Disposable expirer;
+
+  public RedissonLocalCachedDistributedCacheAdapter(RedissonClient redisson, RedissonRateLimitConfig cacheConfig,
+      RateLimitStateCodec codec) {
+    LocalCachedMapOptions.EvictionPolicy evictionPolicy = "LFU"
+        .equals(cacheConfig.getEvictionPolicy().toUpperCase(Locale.ROOT))
+            ? LocalCachedMapOptions.EvictionPolicy.LFU
+            : LocalCachedMapOptions.EvictionPolicy.LRU;
+
+    LocalCachedMapOptions<String, Object> options = LocalCachedMapOptions.<String, Object>defaults()
+        .cacheSize(cacheConfig.getMaxCacheSize())
+        .evictionPolicy(evictionPolicy)
+        .timeToLive(cacheConfig.getCacheTtl(), TimeUnit.SECONDS)
+        .syncStrategy(LocalCachedMapOptions.SyncStrategy.INVALIDATE)
+        // Tras una reconexión se descarta la copia local, pudo perder
+        // invalidaciones
+        .reconnectionStrategy(LocalCachedMapOptions.ReconnectionStrategy.CLEAR);
+
+    this.cache = redisson.getLocalCachedMap(CACHE_NAME, codec, options);
+    this.cacheTtl = Duration.ofSeconds(cacheConfig.getCacheTtl());
+    this.maxCacheSize = cacheConfig.getMaxCacheSize();
+    log.info("Distributed cache using RLocalCachedMap '{}' - local TTL: {}s, max size: {}, eviction: {}",
+        CACHE_NAME, cacheConfig.getCacheTtl(), cacheConfig.getMaxCacheSize(), evictionPolicy);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (cacheTtl.isZero() || cacheTtl.isNegative()) {
+      return;
+    }
+
+    // Vencimiento de las entradas en Redis: borrar el mapa publica la
+    // invalidación a todos los nodos
+    expirer = Flux.interval(cacheTtl, cacheTtl)
+        .concatMap(tick -> clear("TTL of " + cacheTtl + " elapsed"))
+        .subscribe(ignored -> { }, error -> log.error("Local cached map expiration stopped", error));
+  }
+
+  @PreDestroy
+  public void destroy() {
+    if (expirer != null) {
+      expirer.dispose();
+    }
+    // Libera el listener de invalidación y la copia local
+    cache.destroy();
+  }
+
+  @Override
+  public <T> Mono<T> get(String key, Class<T> valueType) {
+    log.debug("Getting value from cache: {} with type: {}", key, valueType.getSimpleName());
+
+    return Mono.fromCompletionStage(() -> cache.getAsync(key))
+        .filter(valueType::isInstance)
+        .map(valueType::cast)
+        .doOnNext(value -> log.debug("Cache hit for key: {}", key))
+        .doOnError(error -> log.error("Error getting value from cache: {}", key, error))
+        .onErrorResume(error -> Mono.empty());
+  }
+
+  @Override
+  public <T> Mono<Void> put(String key, T value) {
+    log.debug("Putting value in cache: {}", key);
+
+    return ensureCapacity(key)
+        .then(Mono.fromCompletionStage(() -> cache.fastPutAsync(key, value)))
+        .doOnNext(stored -> log.debug("Value stored in cache successfully: {}", key))
+        .then()
+        .doOnError(error -> log.error("Error storing value in cache: {}", key, error))
+        .onErrorComplete();
+  }
+
+  @Override
+  public <T> Mono<Void> putIfAbsent(String key, T value) {
+    log.debug("Putting value in cache if absent: {}", key);
+
+    return ensureCapacity(key)
+        .then(Mono.fromCompletionStage(() -> cache.fastPutIfAbsentAsync(key, value)))
+        .doOnNext(stored -> log.debug("Value stored in cache if absent: {} - {}", key, stored))
+        .then()
+        .doOnError(error -> log.error("Error storing value in cache if absent: {}", key, error))
+        .onErrorComplete();
+  }
+
+  @Override
+  public <T> Mono<Void> put(String key, T value, long ttl) {
+    log.debug("Putting value in cache: {} (RLocalCachedMap applies the map-wide TTL)", key);
+    return put(key, value);
+  }
+
+  @Override
+  public Mono<Void> remove(String key) {
+    log.debug("Removing value from cache: {}", key);
+
+    return Mono.fromCompletionStage(() -> cache.fastRemoveAsync(key))
+        .doOnNext(removed -> log.debug("{} values removed from cache for key: {}", removed, key))
+        .then()
+        .doOnError(error -> log.error("Error removing value from cache: {}", key, error))
+        .onErrorComplete();
+  }
+
+  @Override
+  public Mono<Void> removeAll(Collection<String> keys) {
+    log.debug("Removing {} values from cache", keys.size());
+
+    if (keys.isEmpty()) {
+      return Mono.empty();
+    }
+
+    return Mono.fromCompletionStage(() -> cache.fastRemoveAsync(keys.toArray(new String[0])))
+        .doOnNext(removed -> log.debug("{} values removed from cache", removed))
+        .then()
+        .doOnError(error -> log.error("Error removing {} values from cache", keys.size(), error))
+        .onErrorComplete();
+  }
+
+  @Override
+  public Mono<Boolean> containsKey(String key) {
+    log.debug("Checking if cache contains key: {}", key);
+
+    return Mono.fromCompletionStage(() -> cache.containsKeyAsync(key))
+        .doOnNext(contains -> log.debug("Cache contains key {}: {}", key, contains))
+        .doOnError(error -> log.error("Error checking if cache contains key: {}", key, error))
+        .onErrorReturn(false);
+  }
+
+  @Override
+  public Mono<Long> getTtl(String key) {
+    log.debug("Getting TTL for cache key: {}", key);
+
+    // Sin TTL por entrada en Redis (vence con el vaciado periódico): -1 si
+    // existe, -2 si no existe
+    return containsKey(key)
+        .map(contains -> contains ? -1L : -2L);
+  }
+
+  @Override
+  public Mono<Void> expire(String key, long ttl) {
+    log.debug("Per-entry TTL not supported by RLocalCachedMap, key {} expires with the map-wide TTL", key);
+    return Mono.empty();
+  }
+
+  /**
+   * Vacía el mapa si una clave nueva superaría maxCacheSize; solo las
+   * escrituras (lecturas sin cache y cambios de configuración) pagan el HLEN
+   */
+  private Mono<Void> ensureCapacity(String key) {
+    return Mono.fromCompletionStage(cache::sizeAsync)
+        .filter(size -> size >= maxCacheSize)
+        .flatMap(size -> Mono.fromCompletionStage(() -> cache.containsKeyAsync(key)))
+        .filter(contains -> !contains)
+        .flatMap(full -> clear("max size of " + maxCacheSize + " reached"));
+  }
+
+  private Mono<Void> clear(String reason) {
+    return Mono.fromCompletionStage(cache::deleteAsync)
+        .doOnNext(deleted -> log.debug("Local cached map cleared - {}", reason))
+        .then()
+        .doOnError(error -> log.warn("Error clearing local cached map ({}): {}", reason, error.toString()))
+        .onErrorComplete();
+  }
+}
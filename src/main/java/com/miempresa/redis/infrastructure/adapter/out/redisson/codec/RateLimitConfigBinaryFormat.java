@@ -0,0 +1,140 @@
+package com.miempresa.redis.infrastructure.adapter.out.redisson.codec;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Formato binario compacto y versionado para RateLimitConfig
+ *
+ * Esquema 1 (en este orden): versión de esquema (1 byte), versión de la
+ * configuración, maxRequests, timeWindowSeconds, flags (bit 0 = enabled),
+ * lockTimeout, maxConcurrentRequests, concurrencyLeaseSeconds, maxDelayMillis,
+ * endpoint, costHeader, costParameter y methodCosts (cantidad seguida de pares
+ * método/costo). Los números usan varints y los textos longitud varint + UTF-8;
+ * un texto nulo se escribe con longitud 0 y el bit de flags correspondiente
+ *
+ * Un cambio de campos debe usar un nuevo número de esquema y mantener la
+ * lectura de los anteriores
+ */
+public final class RateLimitConfigBinaryFormat {
+
+  public static final byte SCHEMA_V1 = 1;
+
+  private static final int FLAG_ENABLED = 1;
+  private static final int FLAG_COST_HEADER = 1 << 1;
+  private static final int FLAG_COST_PARAMETER = 1 << 2;
+
+  private RateLimitConfigBinaryFormat() {
+  }
+
+  public static void write(RateLimitConfig config, ByteBuf out) {
+    int flags = (config.isEnabled() ? FLAG_ENABLED : 0)
+        | (config.getCostHeader() != null ? FLAG_COST_HEADER : 0)
+        | (config.getCostParameter() != null ? FLAG_COST_PARAMETER : 0);
+
+    out.writeByte(SCHEMA_V1);
+    writeVarLong(out, config.getVersion());
+    writeVarLong(out, config.getMaxRequests());
+    writeVarLong(out, config.getTimeWindowSeconds());
+    out.writeByte(flags);
+    writeVarLong(out, config.getLockTimeout());
+    writeVarLong(out, config.getMaxConcurrentRequests());
+    writeVarLong(out, config.getConcurrencyLeaseSeconds());
+    writeVarLong(out, config.getMaxDelayMillis());
+    writeString(out, config.getEndpoint());
+    writeString(out, config.getCostHeader());
+    writeString(out, config.getCostParameter());
+
+    Map<String, Integer> methodCosts = config.getMethodCosts() != null
+        ? config.getMethodCosts()
+        : Collections.emptyMap();
+    writeVarLong(out, methodCosts.size());
+    methodCosts.forEach((method, cost) -> {
+      writeString(out, method);
+      writeVarLong(out, cost);
+    });
+  }
+
+  public static RateLimitConfig read(ByteBuf in) throws IOException {
+    byte schema = in.readByte();
+    if (schema != SCHEMA_V1) {
+      throw new IOException("Unsupported RateLimitConfig schema version: " + schema);
+    }
+
+    RateLimitConfig.RateLimitConfigBuilder builder = RateLimitConfig.builder()
+        .version(readVarLong(in))
+        .maxRequests((int) readVarLong(in))
+        .timeWindowSeconds((int) readVarLong(in));
+    int flags = in.readUnsignedByte();
+    builder.enabled((flags & FLAG_ENABLED) != 0)
+        .lockTimeout((int) readVarLong(in))
+        .maxConcurrentRequests((int) readVarLong(in))
+        .concurrencyLeaseSeconds((int) readVarLong(in))
+        .maxDelayMillis(readVarLong(in))
+        .endpoint(readString(in));
+
+    String costHeader = readString(in);
+    String costParameter = readString(in);
+    builder.costHeader((flags & FLAG_COST_HEADER) != 0 ? costHeader : null)
+        .costParameter((flags & FLAG_COST_PARAMETER) != 0 ? costParameter : null);
+
+    int methodCount = (int) readVarLong(in);
+    if (methodCount > 0) {
+      Map<String, Integer> methodCosts = new LinkedHashMap<>(methodCount * 2);
+      for (int i = 0; i < methodCount; i++) {
+        methodCosts.put(readString(in), (int) readVarLong(in));
+      }
+      builder.methodCosts(methodCosts);
+    }
+    return builder.build();
+  }
+
+  private static void writeVarLong(ByteBuf out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(ByteBuf in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint in RateLimitConfig");
+  }
+
+  private static void writeString(ByteBuf out, String value) {
+    if (value == null || value.isEmpty()) {
+      out.writeByte(0);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarLong(out, bytes.length);
+    out.writeBytes(bytes);
+  }
+
+  private static String readString(ByteBuf in) throws IOException {
+    int length = (int) readVarLong(in);
+    if (length == 0) {
+      return "";
+    }
+    if (length < 0 || length > in.readableBytes()) {
+      throw new IOException("Invalid string length in RateLimitConfig: " + length);
+    }
+    String value = in.toString(in.readerIndex(), length, StandardCharsets.UTF_8);
+    in.skipBytes(length);
+    return value;
+  }
+}
@@ -0,0 +1,97 @@
+package com.miempresa.redis.infrastructure.adapter.out.redisson.codec;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+
+/**
+ * Codec de Redisson para el estado de rate limiting
+ * Las configuraciones se escriben con RateLimitConfigBinaryFormat precedidas
+ * de un byte de tipo que nunca inicia un documento JSON; cualquier otro valor
+ * se delega al codec de respaldo (JSON por defecto), lo que permite leer
+ * entradas escritas antes de usar este codec. Las claves de los mapas se
+ * guardan como texto plano
+ */
+public class RateLimitStateCodec extends BaseCodec {
+
+  static final byte RATE_LIMIT_CONFIG_TAG = (byte) 0xB1;
+
+  private final Codec fallback;
+
+  private final Encoder encoder = this::encode;
+  private final Decoder<Object> decoder = this::decode;
+
+  public RateLimitStateCodec() {
+    this(new JsonJacksonCodec());
+  }
+
+  public RateLimitStateCodec(Codec fallback) {
+    this.fallback = fallback;
+  }
+
+  /**
+   * Constructor usado por Redisson al copiar el codec para otro ClassLoader
+   */
+  public RateLimitStateCodec(ClassLoader classLoader, RateLimitStateCodec codec)
+      throws ReflectiveOperationException {
+    this(BaseCodec.copy(classLoader, codec.fallback));
+  }
+
+  @Override
+  public Decoder<Object> getValueDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public Encoder getValueEncoder() {
+    return encoder;
+  }
+
+  @Override
+  public Decoder<Object> getMapKeyDecoder() {
+    return StringCodec.INSTANCE.getValueDecoder();
+  }
+
+  @Override
+  public Encoder getMapKeyEncoder() {
+    return StringCodec.INSTANCE.getValueEncoder();
+  }
+
+  private ByteBuf encode(Object in) throws IOException {
+    if (!(in instanceof RateLimitConfig config)) {
+      return fallback.getValueEncoder().encode(in);
+    }
+
+    ByteBuf out = ByteBufAllocator.DEFAULT.buffer(64);
+    try {
+      out.writeByte(RATE_LIMIT_CONFIG_TAG);
+      RateLimitConfigBinaryFormat.write(config, out);
+      return out;
+    } catch (RuntimeException e) {
+      out.release();
+      throw e;
+    }
+  }
+
+  private Object decode(ByteBuf buf, State state) throws IOException {
+    if (buf.isReadable() && buf.getByte(buf.readerIndex()) == RATE_LIMIT_CONFIG_TAG) {
+      buf.skipBytes(1);
+      return RateLimitConfigBinaryFormat.read(buf);
+    }
+    return fallback.getValueDecoder().decode(buf, state);
+  }
+
+  @Override
+  public ClassLoader getClassLoader() {
+    return fallback.getClassLoader();
+  }
+}
@@ -0,0 +1,62 @@
+package com.miempresa.redis.infrastructure.config;
+
+import com.miempresa.redis.application.port.out.ExchangeRateProviderPort;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.CachingExchangeRateProvider;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateStore;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.HttpExchangeRateProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuración del proveedor de tasas de cambio
+ * Si se define exchange-rate.remote.base-url las tasas se obtienen del
+ * servicio remoto, decorado con el cache en Redis; si no, se usan las tasas
+ * fijas de DefaultExchangeRateProvider
+ */
+@Slf4j
+@Configuration
+public class ExchangeRateConfig {
+
+  @Value("${exchange-rate.remote.base-url:}")
+  private String remoteBaseUrl;
+
+  @Value("${exchange-rate.remote.timeout:2s}")
+  private Duration remoteTimeout;
+
+  @Value("${exchange-rate.cache.enabled:true}")
+  private boolean cacheEnabled;
+
+  @Value("${exchange-rate.cache.refresh-after:60s}")
+  private Duration refreshAfter;
+
+  @Value("${exchange-rate.cache.expire-after:10m}")
+  private Duration expireAfter;
+
+  @Value("${exchange-rate.cache.max-stale:1h}")
+  private Duration maxStale;
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty(name = "exchange-rate.remote.base-url")
+  public ExchangeRateProviderPort remoteExchangeRateProvider(WebClient.Builder webClientBuilder,
+      ExchangeRateStore exchangeRateStore) {
+    HttpExchangeRateProvider remote = new HttpExchangeRateProvider(
+        webClientBuilder.baseUrl(remoteBaseUrl).build(), remoteTimeout);
+
+    log.info("Remote exchange rate source configured at {} (cache enabled: {})", remoteBaseUrl, cacheEnabled);
+
+    if (!cacheEnabled) {
+      return remote;
+    }
+    return new CachingExchangeRateProvider(remote, exchangeRateStore, refreshAfter, expireAfter, maxStale,
+        Clock.systemUTC());
+  }
+}
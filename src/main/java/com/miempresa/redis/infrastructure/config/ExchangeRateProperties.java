@@ -0,0 +1,29 @@
+package com.miempresa.redis.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tasas iniciales del proveedor de tasas por defecto, declaradas en
+ * application.yml bajo exchange-rate
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "exchange-rate")
+public class ExchangeRateProperties {
+
+  /**
+   * Moneda contra la que se declaran todas las tasas
+   */
+  private String baseCurrency = "USD";
+
+  /**
+   * Unidades de cada moneda por una unidad de la base (ej: PEN: 3.8)
+   */
+  private Map<String, BigDecimal> baseRates = new LinkedHashMap<>(Map.of("PEN", new BigDecimal("3.8")));
+}
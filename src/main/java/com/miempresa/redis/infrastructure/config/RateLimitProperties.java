@@ -0,0 +1,77 @@
+package com.miempresa.redis.infrastructure.config;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Políticas de rate limiting declaradas en application.yml bajo
+ * rate-limit.endpoints
+ * Las claves con '/' deben declararse con notación de corchetes, ej:
+ * "[/api/health]"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+  /**
+   * Políticas por endpoint
+   */
+  private Map<String, EndpointPolicy> endpoints = new LinkedHashMap<>();
+
+  /**
+   * Tiempo máximo que el arranque espera la carga de políticas antes de
+   * continuar en segundo plano
+   */
+  private Duration warmupTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Convierte las políticas declaradas a configuraciones de dominio
+   */
+  public List<RateLimitConfig> toConfigs() {
+    return endpoints.entrySet().stream()
+        .map(entry -> entry.getValue().toConfig(entry.getKey()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Política de rate limiting de un endpoint
+   */
+  @Data
+  public static class EndpointPolicy {
+    private int maxRequests;
+    private int timeWindowSeconds;
+    private boolean enabled = true;
+    private int lockTimeout = 5000;
+    private int maxConcurrentRequests;
+    private int concurrencyLeaseSeconds = 30;
+    private Map<String, Integer> methodCosts = new LinkedHashMap<>();
+    private String costHeader;
+    private String costParameter;
+    private long maxDelayMillis;
+
+    public RateLimitConfig toConfig(String endpoint) {
+      return RateLimitConfig.builder()
+          .endpoint(endpoint)
+          .maxRequests(maxRequests)
+          .timeWindowSeconds(timeWindowSeconds)
+          .enabled(enabled)
+          .lockTimeout(lockTimeout)
+          .maxConcurrentRequests(maxConcurrentRequests)
+          .concurrencyLeaseSeconds(concurrencyLeaseSeconds)
+          .methodCosts(RateLimitConfig.normalizeMethodCosts(methodCosts))
+          .costHeader(costHeader)
+          .costParameter(costParameter)
+          .maxDelayMillis(maxDelayMillis)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.miempresa.redis.infrastructure.config;
+
+import com.miempresa.redis.application.port.out.DistributedCachePort;
+import com.miempresa.redis.application.port.out.RateLimitPersistencePort;
+import com.miempresa.redis.infrastructure.adapter.out.bulkhead.BulkheadDistributedCachePort;
+import com.miempresa.redis.infrastructure.adapter.out.bulkhead.BulkheadRateLimitPersistencePort;
+import com.miempresa.redis.infrastructure.adapter.out.bulkhead.RedisBulkhead;
+import com.miempresa.redis.infrastructure.adapter.out.persistence.redis.RedisRateLimitPersistenceAdapter;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.RedissonDistributedCacheAdapter;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.RedissonLocalCachedDistributedCacheAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuración del bulkhead de operaciones contra Redis
+ * Los puertos de persistencia y de cache distribuido se decoran para que
+ * compartan un mismo límite de operaciones en curso; cuando se rechaza una
+ * operación el rate limiting decide con el limitador local del nodo
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisBulkheadConfig {
+
+  @Value("${rate-limit.bulkhead.max-in-flight:256}")
+  private int maxInFlight;
+
+  @Value("${rate-limit.bulkhead.max-queued:512}")
+  private int maxQueued;
+
+  @Bean
+  public RedisBulkhead redisBulkhead(MeterRegistry meterRegistry) {
+    RedisBulkhead bulkhead = new RedisBulkhead(maxInFlight, maxQueued);
+
+    Gauge.builder("rate.limit.bulkhead.inflight", bulkhead, RedisBulkhead::getInFlight)
+        .description("Redis operations currently holding a bulkhead permit")
+        .register(meterRegistry);
+    Gauge.builder("rate.limit.bulkhead.queued", bulkhead, RedisBulkhead::getQueued)
+        .description("Redis operations waiting for a bulkhead permit")
+        .register(meterRegistry);
+    FunctionCounter.builder("rate.limit.bulkhead.rejected", bulkhead, RedisBulkhead::getRejected)
+        .description("Redis operations rejected because the bulkhead queue was full")
+        .register(meterRegistry);
+
+    log.info("Redis bulkhead configured - max in flight: {}, max queued: {}", maxInFlight, maxQueued);
+    return bulkhead;
+  }
+
+  @Bean
+  @Primary
+  public RateLimitPersistencePort bulkheadRateLimitPersistencePort(RedisRateLimitPersistenceAdapter adapter,
+      RedisBulkhead bulkhead) {
+    return new BulkheadRateLimitPersistencePort(adapter, bulkhead);
+  }
+
+  @Bean
+  @Primary
+  public DistributedCachePort bulkheadDistributedCachePort(
+      ObjectProvider<RedissonDistributedCacheAdapter> mapCacheAdapter,
+      ObjectProvider<RedissonLocalCachedDistributedCacheAdapter> localCachedAdapter, RedisBulkhead bulkhead) {
+    // Solo uno de los dos adaptadores existe según redisson.rate-limit.cache-mode
+    DistributedCachePort adapter = mapCacheAdapter.getIfAvailable();
+    if (adapter == null) {
+      adapter = localCachedAdapter.getObject();
+    }
+    return new BulkheadDistributedCachePort(adapter, bulkhead);
+  }
+}
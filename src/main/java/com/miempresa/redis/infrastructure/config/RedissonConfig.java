@@ -1,5 +1,7 @@
 package com.miempresa.redis.infrastructure.config;
 
+import com.miempresa.redis.infrastructure.adapter.out.redisson.codec.RateLimitStateCodec;
+import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Configuración de Redisson para funcionalidades avanzadas de Redis
  * Incluye configuración optimizada para rate limiting y programación reactiva
+ * El RedissonClient definido aquí es el único cliente Redis de la aplicación:
+ * lo usan directamente los adaptadores (persistencia, cache, locks, health) y
+ * el starter de Redisson lo expone a Spring Data como RedisConnectionFactory
  */
 @Slf4j
 @Configuration
@@ -28,9 +33,27 @@ public class RedissonConfig {
   @Value("${redisson.connection-pool-size:64}")
   private int connectionPoolSize;
 
-  @Value("${redisson.connection-minimum-idle:24}")
+  @Value("${redisson.connection-minimum-idle:8}")
   private int connectionMinimumIdle;
 
+  // 0 = Redisson usa 2 x núcleos disponibles
+  @Value("${redisson.threads:0}")
+  private int threads;
+
+  @Value("${redisson.netty-threads:0}")
+  private int nettyThreads;
+
+  // Cota de cada comando; el rate limiting además aplica su propio presupuesto
+  // (rate-limit.decision.timeout) y no espera los reintentos
+  @Value("${redisson.timeout:1000}")
+  private int timeout;
+
+  @Value("${redisson.retry-attempts:1}")
+  private int retryAttempts;
+
+  @Value("${redisson.retry-interval:200}")
+  private int retryInterval;
+
   @Value("${redisson.lock-watchdog-timeout:30000}")
   private int lockWatchdogTimeout;
 
@@ -40,6 +63,12 @@ public class RedissonConfig {
   @Value("${redisson.rate-limit.cache-ttl:600}")
   private int rateLimitCacheTtl;
 
+  @Value("${redisson.rate-limit.max-cache-size:1000}")
+  private int rateLimitMaxCacheSize;
+
+  @Value("${redisson.rate-limit.eviction-policy:LRU}")
+  private String rateLimitEvictionPolicy;
+
   /**
    * Configuración principal de Redisson
    */
@@ -53,9 +82,9 @@ public class RedissonConfig {
         .setAddress("redis://" + redisHost + ":" + redisPort)
         .setConnectionPoolSize(connectionPoolSize)
         .setConnectionMinimumIdleSize(connectionMinimumIdle)
-        .setRetryAttempts(3)
-        .setRetryInterval(1500)
-        .setTimeout(5000)
+        .setRetryAttempts(retryAttempts)
+        .setRetryInterval(retryInterval)
+        .setTimeout(timeout)
         .setConnectTimeout(10000);
 
     // Configurar password si está presente
@@ -64,18 +93,38 @@ public class RedissonConfig {
     }
 
     // Configuración de threads para operaciones reactivas
-    config.setThreads(16);
-    config.setNettyThreads(32);
+    config.setThreads(threads);
+    config.setNettyThreads(nettyThreads);
 
     // Configuración de codec para mejor rendimiento
     config.setCodec(new org.redisson.codec.JsonJacksonCodec());
 
-    log.info("Redisson configurado para {}:{} con pool size: {}, min idle: {}, lock timeout: {}ms",
-        redisHost, redisPort, connectionPoolSize, connectionMinimumIdle, lockWatchdogTimeout);
+    log.info("Redisson configurado para {}:{} con pool size: {}, min idle: {}, threads: {}, netty threads: {}, "
+        + "timeout: {}ms, retries: {}, lock timeout: {}ms", redisHost, redisPort, connectionPoolSize,
+        connectionMinimumIdle, threads, nettyThreads, timeout, retryAttempts, lockWatchdogTimeout);
 
     return config;
   }
 
+  /**
+   * Cliente Redisson compartido, creado con la configuración anterior
+   * Sin este bean el starter crea su propio cliente desde spring.data.redis e
+   * ignora el pool y los threads configurados
+   */
+  @Bean(destroyMethod = "shutdown")
+  public RedissonClient redisson(Config redissonConfig) {
+    return Redisson.create(redissonConfig);
+  }
+
+  /**
+   * Codec binario compacto para las configuraciones guardadas en el cache
+   * distribuido
+   */
+  @Bean
+  public RateLimitStateCodec rateLimitStateCodec() {
+    return new RateLimitStateCodec();
+  }
+
   /**
    * Configuración específica para rate limiting
    */
@@ -84,6 +133,8 @@ public class RedissonConfig {
     return RedissonRateLimitConfig.builder()
         .lockTimeout(rateLimitLockTimeout)
         .cacheTtl(rateLimitCacheTtl)
+        .maxCacheSize(rateLimitMaxCacheSize)
+        .evictionPolicy(rateLimitEvictionPolicy)
         .build();
   }
 }
\ No newline at end of file
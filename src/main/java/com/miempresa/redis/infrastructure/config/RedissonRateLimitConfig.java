@@ -21,13 +21,14 @@ public class RedissonRateLimitConfig {
   private int cacheTtl;
 
   /**
-   * Tamaño máximo del cache local
+   * Tamaño máximo del cache (entradas en Redis para RMapCache; entradas en
+   * memoria y en Redis para el mapa con cache local, que se vacía al llenarse)
    */
   @Builder.Default
   private int maxCacheSize = 1000;
 
   /**
-   * Política de evicción del cache
+   * Política de evicción del cache (LRU o LFU)
    */
   @Builder.Default
   private String evictionPolicy = "LRU";
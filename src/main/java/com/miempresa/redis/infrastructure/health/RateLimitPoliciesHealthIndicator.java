@@ -0,0 +1,35 @@
+package com.miempresa.redis.infrastructure.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Health indicator de readiness para la carga de políticas de rate limiting
+ * Reporta OUT_OF_SERVICE hasta que las políticas declaradas se escribieron en
+ * Redis y se precargaron en el cache local
+ */
+@Component
+public class RateLimitPoliciesHealthIndicator implements HealthIndicator {
+
+  private final AtomicReference<Health> state = new AtomicReference<>(
+      Health.outOfService().withDetail("policies", "loading").build());
+
+  @Override
+  public Health health() {
+    return state.get();
+  }
+
+  public void markReady(int loadedPolicies) {
+    state.set(Health.up().withDetail("policies", loadedPolicies).build());
+  }
+
+  public void markFailed(Throwable error) {
+    state.set(Health.outOfService()
+        .withDetail("policies", "retrying")
+        .withDetail("error", String.valueOf(error.getMessage()))
+        .build());
+  }
+}
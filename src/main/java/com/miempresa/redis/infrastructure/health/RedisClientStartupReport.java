@@ -0,0 +1,47 @@
+package com.miempresa.redis.infrastructure.health;
+
+import com.miempresa.redis.application.port.out.HealthCheckPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reporta al arrancar los recursos del cliente Redis compartido: clientes
+ * conectados al servidor y threads de Redisson frente al total de la JVM
+ * Sirve para verificar que no quedan otros clientes Redis (ej: threads
+ * lettuce-*) ni pools sobredimensionados
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisClientStartupReport implements CommandLineRunner {
+
+  private final HealthCheckPort healthCheckPort;
+
+  @Override
+  public void run(String... args) {
+    healthCheckPort.getHealthInfo()
+        .subscribe(info -> {
+          Map<String, Object> metrics = info.getMetrics();
+          int redissonThreads = 0;
+          int lettuceThreads = 0;
+          int totalThreads = 0;
+          for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            totalThreads++;
+            if (thread.getName().startsWith("redisson")) {
+              redissonThreads++;
+            } else if (thread.getName().startsWith("lettuce")) {
+              lettuceThreads++;
+            }
+          }
+
+          log.info("Redis client resources - status: {}, Redis connected clients: {}, pool size: {}, "
+              + "Redisson threads: {}, Lettuce threads: {}, JVM threads: {}",
+              info.getStatus(), metrics.get("connectedClients"), metrics.get("poolSize"),
+              redissonThreads, lettuceThreads, totalThreads);
+        }, error -> log.warn("Unable to report Redis client resources", error));
+  }
+}
@@ -1,54 +1,33 @@
 package com.miempresa.redis.infrastructure.health;
 
+import com.miempresa.redis.application.port.out.HealthCheckPort;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RedissonClient;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
 
 /**
- * Health indicator simple para Redisson
- * Monitorea el estado de la conexión de Redisson
+ * Health indicator reactivo para Redisson (componente "redisson" de
+ * /actuator/health)
+ * Reporta el último chequeo cacheado por HealthCheckPort: latencia del PING y
+ * clientes conectados a Redis, sin bloquear el event loop
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class RedissonHealthIndicator {
-
-  private final RedissonClient redisson;
-
-  /**
-   * Verifica el estado de Redisson
-   * 
-   * @return true si está funcionando, false en caso contrario
-   */
-  public boolean isHealthy() {
-    try {
-      // Verificar que Redisson esté funcionando
-      long totalKeys = redisson.getKeys().count();
+public class RedissonHealthIndicator implements ReactiveHealthIndicator {
 
-      // Verificar conexión básica
-      redisson.getKeys().getKeys();
-
-      log.debug("Redisson health check passed - totalKeys: {}", totalKeys);
-      return true;
-
-    } catch (Exception e) {
-      log.error("Redisson health check failed", e);
-      return false;
-    }
-  }
+  private final HealthCheckPort healthCheckPort;
 
-  /**
-   * Obtiene información del estado de Redisson
-   * 
-   * @return String con información del estado
-   */
-  public String getHealthInfo() {
-    try {
-      long totalKeys = redisson.getKeys().count();
-      return String.format("Redisson: OK, Total Keys: %d", totalKeys);
-    } catch (Exception e) {
-      return String.format("Redisson: ERROR, %s", e.getMessage());
-    }
+  @Override
+  public Mono<Health> health() {
+    return healthCheckPort.getHealthInfo()
+        .map(info -> Health.status(new Status(info.getStatus(), info.getMessage()))
+            .withDetails(info.getMetrics())
+            .withDetail("checkedAt", Instant.ofEpochMilli(info.getTimestamp()).toString())
+            .build());
   }
-}
\ No newline at end of file
+}
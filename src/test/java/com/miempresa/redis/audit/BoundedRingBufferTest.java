@@ -0,0 +1,80 @@
+package com.miempresa.redis.audit;
+
+import com.miempresa.redis.infrastructure.adapter.out.audit.BoundedRingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase BoundedRingBuffer
+ */
+@DisplayName("BoundedRingBuffer Tests")
+class BoundedRingBufferTest {
+
+  @Test
+  @DisplayName("Should keep FIFO order and reject offers when full")
+  void shouldRejectWhenFull() {
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(3);
+
+    assertEquals(4, buffer.capacity());
+    for (int i = 0; i < 4; i++) {
+      assertTrue(buffer.offer(i));
+    }
+    assertFalse(buffer.offer(4));
+    assertEquals(4, buffer.size());
+
+    assertEquals(0, buffer.poll());
+    assertTrue(buffer.offer(4));
+    for (int i = 1; i <= 4; i++) {
+      assertEquals(i, buffer.poll());
+    }
+    assertNull(buffer.poll());
+    assertEquals(0, buffer.size());
+  }
+
+  @Test
+  @DisplayName("Should deliver every accepted item exactly once with concurrent producers")
+  void shouldDeliverAcceptedItemsOnce() throws InterruptedException {
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(1024);
+    AtomicInteger accepted = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int thread = 0; thread < 4; thread++) {
+      int base = thread * 100_000;
+      executor.submit(() -> {
+        for (int i = 0; i < 20_000; i++) {
+          if (buffer.offer(base + i)) {
+            accepted.incrementAndGet();
+          } else {
+            rejected.incrementAndGet();
+          }
+        }
+      });
+    }
+
+    Set<Integer> drained = new HashSet<>();
+    executor.shutdown();
+    while (!executor.isTerminated() || buffer.size() > 0) {
+      Integer item = buffer.poll();
+      if (item != null) {
+        assertTrue(drained.add(item));
+      }
+    }
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    Integer item;
+    while ((item = buffer.poll()) != null) {
+      assertTrue(drained.add(item));
+    }
+
+    assertEquals(80_000, accepted.get() + rejected.get());
+    assertEquals(accepted.get(), drained.size());
+  }
+}
@@ -0,0 +1,104 @@
+package com.miempresa.redis.audit;
+
+import com.miempresa.redis.domain.model.DenialEvent;
+import com.miempresa.redis.domain.model.DenialReason;
+import com.miempresa.redis.infrastructure.adapter.out.audit.RedisDenialAuditAdapter;
+import com.miempresa.redis.persistence.FakeRedisBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedisDenialAuditAdapter
+ */
+@DisplayName("RedisDenialAuditAdapter Tests")
+class RedisDenialAuditAdapterTest {
+
+  private final FakeRedisBatch redis = new FakeRedisBatch();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RedisDenialAuditAdapter adapter = new RedisDenialAuditAdapter(redis.client(), meterRegistry);
+
+  private static DenialEvent event(DenialReason reason) {
+    return DenialEvent.builder()
+        .endpoint("/api/currency/convert")
+        .clientIp("10.0.0.1")
+        .reason(reason)
+        .timestamp(System.currentTimeMillis())
+        .build();
+  }
+
+  private void start() {
+    ReflectionTestUtils.setField(adapter, "enabled", true);
+    ReflectionTestUtils.setField(adapter, "streamKey", "rate-limit:audit:denials");
+    ReflectionTestUtils.setField(adapter, "bufferSize", 16);
+    ReflectionTestUtils.setField(adapter, "batchSize", 4);
+    ReflectionTestUtils.setField(adapter, "flushInterval", Duration.ofMillis(20));
+    ReflectionTestUtils.setField(adapter, "maxLen", 1000);
+    adapter.start();
+  }
+
+  private double counter(String name) {
+    return meterRegistry.get(name).functionCounter().count();
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(condition.getAsBoolean());
+  }
+
+  @AfterEach
+  void tearDown() {
+    adapter.stop();
+  }
+
+  @Test
+  @DisplayName("Should write queued events to the stream in a batch")
+  void shouldWriteQueuedEvents() throws InterruptedException {
+    start();
+
+    assertTrue(adapter.record(event(DenialReason.RATE_LIMIT)));
+    assertTrue(adapter.record(event(DenialReason.RATE_LIMIT)));
+
+    await(() -> counter("rate.limit.audit.written") == 2);
+    assertEquals(2, redis.getCommands().stream()
+        .filter(command -> command.equals("addAsync rate-limit:audit:denials"))
+        .count());
+  }
+
+  @Test
+  @DisplayName("Should keep draining after a drain fails while building the batch")
+  void shouldKeepDrainingAfterFailedDrain() throws InterruptedException {
+    start();
+
+    // Un evento sin motivo hace fallar el armado del batch
+    adapter.record(event(null));
+    await(() -> counter("rate.limit.audit.failed") == 1);
+
+    adapter.record(event(DenialReason.RATE_LIMIT));
+
+    await(() -> counter("rate.limit.audit.written") == 1);
+  }
+
+  @Test
+  @DisplayName("Should count the batch as failed when Redis rejects the write")
+  void shouldCountFailedWrites() throws InterruptedException {
+    redis.fail("addAsync", new IllegalStateException("OOM"));
+    start();
+
+    adapter.record(event(DenialReason.RATE_LIMIT));
+    adapter.record(event(DenialReason.RATE_LIMIT));
+
+    await(() -> counter("rate.limit.audit.failed") == 2);
+    assertEquals(0, counter("rate.limit.audit.written"));
+  }
+}
@@ -0,0 +1,114 @@
+package com.miempresa.redis.benchmark;
+
+import com.miempresa.redis.application.port.out.ExchangeRateProviderPort;
+import com.miempresa.redis.application.service.CurrencyConversionService;
+import com.miempresa.redis.domain.model.CurrencyConversion;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.DefaultExchangeRateProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de latencia de una conversión PEN a USD
+ * - legacyDoubleHop: forma anterior del pipeline, con dos subscribeOn en
+ * boundedElastic por conversión
+ * - inline: proveedor no bloqueante, todo en el thread que suscribe
+ * - blockingProvider: proveedor marcado como bloqueante, un solo cambio de
+ * thread para obtener la tasa
+ * Ejecutar con: ./mvnw -P benchmark test -Dbenchmark.include=CurrencyConversionLatency
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyConversionLatencyBenchmark {
+
+  private static final BigDecimal AMOUNT = new BigDecimal("1250.75");
+
+  private final DefaultExchangeRateProvider provider = new DefaultExchangeRateProvider();
+  private final CurrencyConversionService inlineService = new CurrencyConversionService(provider);
+  private final CurrencyConversionService blockingService = new CurrencyConversionService(
+      new BlockingExchangeRateProvider(provider));
+
+  @Benchmark
+  public CurrencyConversion legacyDoubleHop() {
+    return Mono.just(AMOUNT)
+        .flatMap(amount -> provider.getExchangeRate("PEN", "USD")
+            .flatMap(rate -> Mono.fromCallable(() -> convert(amount, rate))
+                .subscribeOn(Schedulers.boundedElastic())))
+        .subscribeOn(Schedulers.boundedElastic())
+        .block();
+  }
+
+  @Benchmark
+  public CurrencyConversion inline() {
+    return inlineService.convertPENtoUSD(AMOUNT).block();
+  }
+
+  @Benchmark
+  public CurrencyConversion blockingProvider() {
+    return blockingService.convertPENtoUSD(AMOUNT).block();
+  }
+
+  private static CurrencyConversion convert(BigDecimal amount, BigDecimal rate) {
+    return CurrencyConversion.builder()
+        .originalAmount(amount)
+        .sourceCurrency("PEN")
+        .targetCurrency("USD")
+        .convertedAmount(amount.divide(rate, 2, RoundingMode.HALF_UP))
+        .exchangeRate(rate)
+        .timestamp(LocalDateTime.now())
+        .build();
+  }
+
+  /**
+   * Mismas tasas que el proveedor por defecto, declarado como bloqueante
+   */
+  private static class BlockingExchangeRateProvider implements ExchangeRateProviderPort {
+    private final ExchangeRateProviderPort delegate;
+
+    BlockingExchangeRateProvider(ExchangeRateProviderPort delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<BigDecimal> getExchangeRate(String sourceCurrency, String targetCurrency) {
+      return delegate.getExchangeRate(sourceCurrency, targetCurrency);
+    }
+
+    @Override
+    public Mono<BigDecimal> getDefaultPENtoUSDRate() {
+      return delegate.getDefaultPENtoUSDRate();
+    }
+
+    @Override
+    public Mono<BigDecimal> getDefaultUSDtoPENRate() {
+      return delegate.getDefaultUSDtoPENRate();
+    }
+
+    @Override
+    public boolean isValidExchangeRate(BigDecimal rate) {
+      return delegate.isValidExchangeRate(rate);
+    }
+
+    @Override
+    public boolean isBlocking() {
+      return true;
+    }
+  }
+}
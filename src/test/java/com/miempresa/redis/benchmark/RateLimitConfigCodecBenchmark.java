@@ -0,0 +1,98 @@
+package com.miempresa.redis.benchmark;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.codec.RateLimitStateCodec;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de serialización de RateLimitConfig: codec binario frente a
+ * JsonJacksonCodec
+ * Ejecutar con: ./mvnw -P benchmark test -Dbenchmark.include=RateLimitConfigCodec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitConfigCodecBenchmark {
+
+  private final Codec binaryCodec = new RateLimitStateCodec();
+  private final Codec jsonCodec = new JsonJacksonCodec();
+
+  private RateLimitConfig config;
+  private ByteBuf binaryEncoded;
+  private ByteBuf jsonEncoded;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    config = RateLimitConfig.builder()
+        .endpoint("/api/currency/convert")
+        .maxRequests(1000)
+        .timeWindowSeconds(60)
+        .enabled(true)
+        .maxConcurrentRequests(50)
+        .methodCosts(Map.of("GET", 1, "POST", 50))
+        .costHeader("X-Batch-Size")
+        .maxDelayMillis(250)
+        .version(42)
+        .build();
+    binaryEncoded = binaryCodec.getValueEncoder().encode(config);
+    jsonEncoded = jsonCodec.getValueEncoder().encode(config);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    binaryEncoded.release();
+    jsonEncoded.release();
+  }
+
+  @Benchmark
+  public int encodeBinary() throws Exception {
+    return encodeAndRelease(binaryCodec);
+  }
+
+  @Benchmark
+  public int encodeJson() throws Exception {
+    return encodeAndRelease(jsonCodec);
+  }
+
+  @Benchmark
+  public Object decodeBinary() throws Exception {
+    return decode(binaryCodec, binaryEncoded);
+  }
+
+  @Benchmark
+  public Object decodeJson() throws Exception {
+    return decode(jsonCodec, jsonEncoded);
+  }
+
+  private int encodeAndRelease(Codec codec) throws Exception {
+    ByteBuf encoded = codec.getValueEncoder().encode(config);
+    int size = encoded.readableBytes();
+    encoded.release();
+    return size;
+  }
+
+  private Object decode(Codec codec, ByteBuf encoded) throws Exception {
+    ByteBuf buf = encoded.duplicate();
+    return codec.getValueDecoder().decode(buf, null);
+  }
+}
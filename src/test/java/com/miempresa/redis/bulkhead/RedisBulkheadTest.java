@@ -0,0 +1,84 @@
+package com.miempresa.redis.bulkhead;
+
+import com.miempresa.redis.domain.exception.BulkheadFullException;
+import com.miempresa.redis.infrastructure.adapter.out.bulkhead.RedisBulkhead;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedisBulkhead
+ */
+@DisplayName("RedisBulkhead Tests")
+class RedisBulkheadTest {
+
+  @Test
+  @DisplayName("Should queue operations beyond the limit and reject when the queue is full")
+  void shouldQueueAndReject() {
+    RedisBulkhead bulkhead = new RedisBulkhead(2, 1);
+    List<Sinks.One<String>> pending = new ArrayList<>();
+    List<String> results = new ArrayList<>();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+
+    for (int i = 0; i < 3; i++) {
+      Sinks.One<String> sink = Sinks.one();
+      pending.add(sink);
+      bulkhead.execute(sink::asMono).subscribe(results::add);
+    }
+    bulkhead.execute(() -> Mono.just("rejected")).subscribe(results::add, error::set);
+
+    assertEquals(2, bulkhead.getInFlight());
+    assertEquals(1, bulkhead.getQueued());
+    assertEquals(1, bulkhead.getRejected());
+    assertInstanceOf(BulkheadFullException.class, error.get());
+
+    pending.get(0).tryEmitValue("first");
+    assertEquals(List.of("first"), results);
+    assertEquals(2, bulkhead.getInFlight());
+    assertEquals(0, bulkhead.getQueued());
+
+    pending.get(1).tryEmitValue("second");
+    pending.get(2).tryEmitValue("third");
+    assertEquals(List.of("first", "second", "third"), results);
+    assertEquals(0, bulkhead.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should free the queue slot and keep permits when a waiting operation is cancelled")
+  void shouldReleaseCancelledWaiters() {
+    RedisBulkhead bulkhead = new RedisBulkhead(1, 1);
+    Sinks.One<String> running = Sinks.one();
+    bulkhead.execute(running::asMono).subscribe();
+
+    Disposable waiting = bulkhead.execute(() -> Mono.just("never")).subscribe();
+    assertEquals(1, bulkhead.getQueued());
+
+    waiting.dispose();
+    assertEquals(0, bulkhead.getQueued());
+
+    running.tryEmitValue("done");
+    assertEquals(0, bulkhead.getInFlight());
+    assertEquals("next", bulkhead.execute(() -> Mono.just("next")).block());
+    assertEquals(0, bulkhead.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should release the permit when the operation fails")
+  void shouldReleaseOnError() {
+    RedisBulkhead bulkhead = new RedisBulkhead(1, 0);
+
+    assertThrows(IllegalStateException.class,
+        () -> bulkhead.execute(() -> Mono.error(new IllegalStateException("boom"))).block());
+
+    assertEquals(0, bulkhead.getInFlight());
+    assertEquals("ok", bulkhead.execute(() -> Mono.just("ok")).block());
+  }
+}
@@ -0,0 +1,110 @@
+package com.miempresa.redis.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.codec.RateLimitConfigBinaryFormat;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.codec.RateLimitStateCodec;
+
+import io.netty.buffer.ByteBuf;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RateLimitStateCodec
+ */
+@DisplayName("RateLimitStateCodec Tests")
+class RateLimitStateCodecTest {
+
+  private final RateLimitStateCodec codec = new RateLimitStateCodec();
+
+  private RateLimitConfig fullConfig() {
+    return RateLimitConfig.builder()
+        .endpoint("/api/currency/convert")
+        .maxRequests(1000)
+        .timeWindowSeconds(60)
+        .enabled(true)
+        .maxConcurrentRequests(50)
+        .concurrencyLeaseSeconds(15)
+        .methodCosts(Map.of("GET", 1, "POST", 50))
+        .costHeader("X-Batch-Size")
+        .maxDelayMillis(250)
+        .version(42)
+        .build();
+  }
+
+  private Object roundTrip(Object value) throws IOException {
+    ByteBuf encoded = codec.getValueEncoder().encode(value);
+    try {
+      return codec.getValueDecoder().decode(encoded, null);
+    } finally {
+      encoded.release();
+    }
+  }
+
+  @Test
+  @DisplayName("Should round-trip every RateLimitConfig field")
+  void shouldRoundTripConfig() throws IOException {
+    RateLimitConfig config = fullConfig();
+
+    assertEquals(config, roundTrip(config));
+  }
+
+  @Test
+  @DisplayName("Should keep null optional fields and defaults")
+  void shouldRoundTripMinimalConfig() throws IOException {
+    RateLimitConfig config = RateLimitConfig.builder()
+        .endpoint("/api/health")
+        .maxRequests(5)
+        .timeWindowSeconds(60)
+        .build();
+
+    RateLimitConfig decoded = (RateLimitConfig) roundTrip(config);
+
+    assertEquals(config, decoded);
+    assertNull(decoded.getCostHeader());
+    assertTrue(decoded.getMethodCosts().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should delegate other types and legacy values to the JSON fallback codec")
+  void shouldDelegateOtherTypes() throws IOException {
+    assertEquals("plain value", roundTrip("plain value"));
+  }
+
+  @Test
+  @DisplayName("Should reject an unknown schema version")
+  void shouldRejectUnknownSchema() throws IOException {
+    ByteBuf encoded = codec.getValueEncoder().encode(fullConfig());
+    try {
+      encoded.setByte(encoded.readerIndex() + 1, RateLimitConfigBinaryFormat.SCHEMA_V1 + 1);
+      assertThrows(IOException.class, () -> codec.getValueDecoder().decode(encoded, null));
+    } finally {
+      encoded.release();
+    }
+  }
+
+  @Test
+  @DisplayName("Should encode configurations in far fewer bytes than JSON")
+  void shouldBeSmallerThanJson() throws IOException {
+    RateLimitConfig config = fullConfig();
+    ByteBuf binary = codec.getValueEncoder().encode(config);
+    ByteBuf json = new JsonJacksonCodec().getValueEncoder().encode(config);
+    try {
+      int binarySize = binary.readableBytes();
+      int jsonSize = json.readableBytes();
+      // El formato binario es determinista; el JSON depende de Jackson
+      assertEquals(61, binarySize);
+      assertTrue(binarySize * 4 < jsonSize,
+          "binary encoding should be at least 4x smaller, was " + binarySize + " vs " + jsonSize);
+    } finally {
+      binary.release();
+      json.release();
+    }
+  }
+}
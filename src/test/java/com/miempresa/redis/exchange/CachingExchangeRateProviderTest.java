@@ -0,0 +1,194 @@
+package com.miempresa.redis.exchange;
+
+import com.miempresa.redis.infrastructure.adapter.out.exchange.CachedExchangeRate;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.CachingExchangeRateProvider;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateStore;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.HttpExchangeRateProvider;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase CachingExchangeRateProvider
+ * Usa un servidor HTTP local como fuente de tasas
+ */
+@DisplayName("CachingExchangeRateProvider Tests")
+class CachingExchangeRateProviderTest {
+
+  private static final Duration REFRESH_AFTER = Duration.ofSeconds(60);
+  private static final Duration EXPIRE_AFTER = Duration.ofMinutes(10);
+  private static final Duration MAX_STALE = Duration.ofHours(1);
+
+  private HttpServer server;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicReference<String> rate = new AtomicReference<>("3.8");
+  private final AtomicInteger status = new AtomicInteger(200);
+  private volatile long delayMillis;
+
+  private final MutableClock clock = new MutableClock();
+  private final InMemoryStore store = new InMemoryStore();
+  private CachingExchangeRateProvider provider;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/rates/", exchange -> {
+      hits.incrementAndGet();
+      try {
+        Thread.sleep(delayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      byte[] body = ("{\"rate\":" + rate.get() + "}").getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status.get(), body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+
+    WebClient webClient = WebClient.create("http://127.0.0.1:" + server.getAddress().getPort());
+    provider = new CachingExchangeRateProvider(new HttpExchangeRateProvider(webClient, Duration.ofSeconds(2)),
+        store, REFRESH_AFTER, EXPIRE_AFTER, MAX_STALE, clock);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("Should collapse concurrent misses for the same pair into one upstream call")
+  void shouldCollapseConcurrentMisses() {
+    delayMillis = 200;
+
+    List<BigDecimal> rates = Flux.range(0, 20)
+        .flatMap(i -> provider.getExchangeRate("PEN", "USD"))
+        .collectList()
+        .block(Duration.ofSeconds(5));
+
+    assertEquals(20, rates.size());
+    assertTrue(rates.stream().allMatch(r -> r.compareTo(new BigDecimal("3.8")) == 0));
+    assertEquals(1, hits.get());
+    assertNotNull(store.get("PEN", "USD").block());
+  }
+
+  @Test
+  @DisplayName("Should serve fresh rates from the local copy and rates shared by other nodes from Redis")
+  void shouldServeCachedRates() {
+    provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5));
+    clock.advance(Duration.ofSeconds(30));
+    provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5));
+    assertEquals(1, hits.get());
+
+    store.put("USD", "PEN", new CachedExchangeRate(new BigDecimal("0.2632"), clock.millis()), EXPIRE_AFTER)
+        .block();
+    assertEquals(new BigDecimal("0.2632"), provider.getExchangeRate("USD", "PEN").block(Duration.ofSeconds(5)));
+    assertEquals(1, hits.get());
+  }
+
+  @Test
+  @DisplayName("Should serve the stale rate while revalidating in the background")
+  void shouldServeStaleWhileRevalidating() throws InterruptedException {
+    provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5));
+    rate.set("3.9");
+    clock.advance(REFRESH_AFTER.plusSeconds(1));
+
+    assertEquals(new BigDecimal("3.8"), provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5)));
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (System.currentTimeMillis() < deadline
+        && provider.getExchangeRate("PEN", "USD").block().compareTo(new BigDecimal("3.9")) != 0) {
+      Thread.sleep(10);
+    }
+    assertEquals(new BigDecimal("3.9"), provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5)));
+    assertEquals(2, hits.get());
+  }
+
+  @Test
+  @DisplayName("Should serve the last known rate when the source fails after expiry")
+  void shouldServeStaleOnError() {
+    provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5));
+    store.clear();
+    status.set(503);
+    clock.advance(EXPIRE_AFTER.plusSeconds(1));
+
+    assertEquals(new BigDecimal("3.8"), provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5)));
+
+    clock.advance(MAX_STALE);
+    assertThrows(RuntimeException.class,
+        () -> provider.getExchangeRate("PEN", "USD").block(Duration.ofSeconds(5)));
+  }
+
+  private static class MutableClock extends Clock {
+    private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+
+    void advance(Duration duration) {
+      millis.addAndGet(duration.toMillis());
+    }
+
+    @Override
+    public long millis() {
+      return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public java.time.ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+  }
+
+  private static class InMemoryStore implements ExchangeRateStore {
+    private final Map<String, CachedExchangeRate> rates = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<CachedExchangeRate> get(String sourceCurrency, String targetCurrency) {
+      return Mono.justOrEmpty(rates.get(sourceCurrency + ":" + targetCurrency));
+    }
+
+    @Override
+    public Mono<Void> put(String sourceCurrency, String targetCurrency, CachedExchangeRate rate, Duration ttl) {
+      return Mono.fromRunnable(() -> rates.put(sourceCurrency + ":" + targetCurrency, rate));
+    }
+
+    void clear() {
+      rates.clear();
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.miempresa.redis.exchange;
+
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateDeltaSequencer;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateDeltaSequencer.Decision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase ExchangeRateDeltaSequencer
+ */
+@DisplayName("ExchangeRateDeltaSequencer Tests")
+class ExchangeRateDeltaSequencerTest {
+
+  private final ExchangeRateDeltaSequencer sequencer = new ExchangeRateDeltaSequencer();
+  private final List<Long> applied = new ArrayList<>();
+
+  @Test
+  @DisplayName("Should require a snapshot before applying deltas")
+  void shouldRequireSnapshotFirst() {
+    assertEquals(Decision.RESYNC_REQUIRED, delta(1));
+    assertTrue(sequencer.isBehind());
+
+    assertTrue(sequencer.onSnapshot(1, () -> applied.add(-1L)));
+    assertFalse(sequencer.isBehind());
+    assertEquals(Decision.APPLIED, delta(2));
+    assertEquals(List.of(-1L, 2L), applied);
+  }
+
+  @Test
+  @DisplayName("Should apply consecutive deltas and ignore duplicates")
+  void shouldApplyInOrder() {
+    sequencer.onSnapshot(10, () -> { });
+
+    assertEquals(Decision.APPLIED, delta(11));
+    assertEquals(Decision.IGNORED, delta(11));
+    assertEquals(Decision.IGNORED, delta(5));
+    assertEquals(Decision.APPLIED, delta(12));
+    assertEquals(List.of(11L, 12L), applied);
+    assertEquals(12, sequencer.getLastSequence());
+  }
+
+  @Test
+  @DisplayName("Should detect gaps and recover from a newer snapshot only")
+  void shouldDetectGaps() {
+    sequencer.onSnapshot(3, () -> { });
+
+    assertEquals(Decision.RESYNC_REQUIRED, delta(5));
+    assertTrue(sequencer.isBehind());
+    assertTrue(applied.isEmpty());
+
+    // Un snapshot anterior a lo aplicado se descarta
+    assertFalse(sequencer.onSnapshot(2, () -> applied.add(-2L)));
+    assertTrue(sequencer.onSnapshot(5, () -> applied.add(-5L)));
+    assertFalse(sequencer.isBehind());
+    assertEquals(Decision.IGNORED, delta(5));
+    assertEquals(Decision.APPLIED, delta(6));
+    assertEquals(List.of(-5L, 6L), applied);
+  }
+
+  private Decision delta(long sequence) {
+    return sequencer.onDelta(sequence, () -> applied.add(sequence));
+  }
+}
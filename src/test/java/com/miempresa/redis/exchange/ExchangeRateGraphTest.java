@@ -0,0 +1,82 @@
+package com.miempresa.redis.exchange;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateGraph;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase ExchangeRateGraph
+ */
+@DisplayName("ExchangeRateGraph Tests")
+class ExchangeRateGraphTest {
+
+  private final ExchangeRateGraph graph = ExchangeRateGraph.withBase("USD")
+      .withBaseRate("PEN", new BigDecimal("3.8"))
+      .withBaseRate("EUR", new BigDecimal("0.92"))
+      .withBaseRate("CLP", new BigDecimal("950"));
+
+  @Test
+  @DisplayName("Should derive every pair from the base rates")
+  void shouldDeriveCrossRates() {
+    ExchangeRateTable table = graph.getTable();
+
+    assertEquals(4, table.currencyCount());
+    assertEquals(16, table.toMap().size());
+    assertEquals(0, new BigDecimal("3.8").compareTo(table.getRate("PEN", "USD")));
+    assertEquals(BigDecimal.ONE, table.getRate("EUR", "EUR"));
+    // 100 EUR a PEN: 100 / (0.92 / 3.8) = 413.04
+    assertEquals(new BigDecimal("413.04"),
+        new BigDecimal("100").divide(table.getRate("EUR", "PEN"), 2, RoundingMode.HALF_UP));
+    // 100 USD a PEN = 380.00, sin la deriva de una inversa redondeada a mano
+    assertEquals(new BigDecimal("380.00"),
+        new BigDecimal("100").divide(table.getRate("USD", "PEN"), 2, RoundingMode.HALF_UP));
+  }
+
+  @Test
+  @DisplayName("Should keep each pair consistent with its inverse and with triangulation")
+  void shouldKeepRatesConsistent() {
+    ExchangeRateTable table = graph.getTable();
+    String[] currencies = { "USD", "PEN", "EUR", "CLP" };
+    BigDecimal tolerance = new BigDecimal("1E-12");
+
+    for (String a : currencies) {
+      for (String b : currencies) {
+        BigDecimal inverseProduct = table.getRate(a, b).multiply(table.getRate(b, a));
+        assertTrue(inverseProduct.subtract(BigDecimal.ONE).abs().compareTo(tolerance) <= 0, a + ":" + b);
+
+        for (String c : currencies) {
+          BigDecimal triangulated = table.getRate(a, b).multiply(table.getRate(b, c));
+          assertTrue(triangulated.subtract(table.getRate(a, c)).abs()
+              .compareTo(table.getRate(a, c).multiply(tolerance)) <= 0, a + ":" + b + ":" + c);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should recompute dependent pairs when a pair rate is updated")
+  void shouldUpdateFromPairRates() {
+    ExchangeRateGraph updated = graph
+        .withPairRate("USD", "PEN", new BigDecimal("0.25"))
+        .withPairRate("BRL", "EUR", new BigDecimal("6"));
+
+    assertEquals(0, new BigDecimal("4").compareTo(updated.getBaseRates().get("PEN")));
+    assertEquals(0, new BigDecimal("4").compareTo(updated.getTable().getRate("PEN", "USD")));
+    assertEquals(0, new BigDecimal("5.52").compareTo(updated.getBaseRates().get("BRL")));
+    assertEquals(0, new BigDecimal("3.8").compareTo(graph.getTable().getRate("PEN", "USD")));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> graph.withPairRate("GBP", "JPY", BigDecimal.ONE));
+    assertThrows(IllegalArgumentException.class,
+        () -> graph.withBaseRate("USD", new BigDecimal("2")));
+    assertThrows(IllegalArgumentException.class,
+        () -> graph.withBaseRate("PEN", BigDecimal.ZERO));
+  }
+}
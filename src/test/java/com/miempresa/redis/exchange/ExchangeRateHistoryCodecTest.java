@@ -0,0 +1,121 @@
+package com.miempresa.redis.exchange;
+
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateHistoryCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase ExchangeRateHistoryCodec
+ */
+@DisplayName("ExchangeRateHistoryCodec Tests")
+class ExchangeRateHistoryCodecTest {
+
+  private static final long BUCKET = 475_000L;
+  private static final long BUCKET_START = BUCKET * ExchangeRateHistoryCodec.BUCKET_MILLIS;
+
+  @Test
+  @DisplayName("Should round trip delta encoded points")
+  void shouldRoundTripPoints() {
+    Random random = new Random(42);
+    int points = 500;
+    long[] timestamps = new long[points];
+    long[] rates = new long[points];
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+    long timestamp = BUCKET_START + 17;
+    long rate = ExchangeRateHistoryCodec.toScaled(new BigDecimal("3.8123"));
+    for (int i = 0; i < points; i++) {
+      timestamps[i] = timestamp;
+      rates[i] = rate;
+      data.writeBytes(i == 0
+          ? ExchangeRateHistoryCodec.encodeAbsolute(timestamp, rate)
+          : ExchangeRateHistoryCodec.encodeDelta(timestamps[i - 1], rates[i - 1], timestamp, rate));
+      timestamp += 1 + random.nextInt(5_000);
+      rate += random.nextInt(2_000_001) - 1_000_000;
+    }
+
+    ExchangeRateHistoryCodec.Bucket decoded = ExchangeRateHistoryCodec.decode(BUCKET, data.toByteArray());
+
+    assertEquals(points, decoded.size());
+    for (int i = 0; i < points; i++) {
+      assertEquals(timestamps[i], decoded.timestampAt(i));
+      assertEquals(rates[i], decoded.rateAt(i));
+    }
+  }
+
+  @Test
+  @DisplayName("Should store unchanged per second updates in three bytes")
+  void shouldStoreCompactDeltas() {
+    long rate = ExchangeRateHistoryCodec.toScaled(new BigDecimal("950"));
+
+    assertEquals(3, ExchangeRateHistoryCodec.encodeDelta(BUCKET_START, rate, BUCKET_START + 1_000, rate).length);
+  }
+
+  @Test
+  @DisplayName("Should restart from absolute records written by other nodes")
+  void shouldDecodeAbsoluteAfterDelta() {
+    long first = ExchangeRateHistoryCodec.toScaled(new BigDecimal("3.8"));
+    long second = ExchangeRateHistoryCodec.toScaled(new BigDecimal("3.9"));
+    long third = ExchangeRateHistoryCodec.toScaled(new BigDecimal("3.75"));
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    data.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(BUCKET_START + 1_000, first));
+    data.writeBytes(ExchangeRateHistoryCodec.encodeDelta(BUCKET_START + 1_000, first, BUCKET_START + 2_000, second));
+    data.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(BUCKET_START + 3_000, third));
+
+    ExchangeRateHistoryCodec.Bucket decoded = ExchangeRateHistoryCodec.decode(BUCKET, data.toByteArray());
+
+    assertEquals(3, decoded.size());
+    assertEquals(BUCKET_START + 2_000, decoded.timestampAt(1));
+    assertEquals(second, decoded.rateAt(1));
+    assertEquals(BUCKET_START + 3_000, decoded.timestampAt(2));
+    assertEquals(new BigDecimal("3.75"), ExchangeRateHistoryCodec.fromScaled(decoded.rateAt(2)));
+  }
+
+  @Test
+  @DisplayName("Should sort points written with skewed clocks")
+  void shouldSortSkewedPoints() {
+    long rate = ExchangeRateHistoryCodec.toScaled(BigDecimal.ONE);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    data.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(BUCKET_START + 5_000, rate));
+    data.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(BUCKET_START + 4_000, rate * 2));
+
+    ExchangeRateHistoryCodec.Bucket decoded = ExchangeRateHistoryCodec.decode(BUCKET, data.toByteArray());
+
+    assertEquals(BUCKET_START + 4_000, decoded.timestampAt(0));
+    assertEquals(rate * 2, decoded.rateAt(0));
+  }
+
+  @Test
+  @DisplayName("Should find the last point at or before a timestamp")
+  void shouldFindPointAtOrBefore() {
+    long rate = ExchangeRateHistoryCodec.toScaled(BigDecimal.TEN);
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    data.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(BUCKET_START + 100, rate));
+    for (int i = 1; i < 10; i++) {
+      data.writeBytes(ExchangeRateHistoryCodec.encodeDelta(BUCKET_START + i * 100L, rate,
+          BUCKET_START + (i + 1) * 100L, rate));
+    }
+
+    ExchangeRateHistoryCodec.Bucket decoded = ExchangeRateHistoryCodec.decode(BUCKET, data.toByteArray());
+
+    assertEquals(-1, decoded.indexAtOrBefore(BUCKET_START + 99));
+    assertEquals(0, decoded.indexAtOrBefore(BUCKET_START + 100));
+    assertEquals(4, decoded.indexAtOrBefore(BUCKET_START + 599));
+    assertEquals(9, decoded.indexAtOrBefore(BUCKET_START + 5_000));
+  }
+
+  @Test
+  @DisplayName("Should convert rates to scaled longs and back")
+  void shouldConvertScaledRates() {
+    assertEquals(38_000_000_000L, ExchangeRateHistoryCodec.toScaled(new BigDecimal("3.8")));
+    assertEquals(new BigDecimal("3.8"), ExchangeRateHistoryCodec.fromScaled(38_000_000_000L));
+    assertEquals(new BigDecimal("950"), ExchangeRateHistoryCodec.fromScaled(9_500_000_000_000L));
+    assertEquals(-1, ExchangeRateHistoryCodec.bucketOf(-1));
+  }
+}
@@ -0,0 +1,68 @@
+package com.miempresa.redis.exchange;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateTable;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase ExchangeRateTable
+ */
+@DisplayName("ExchangeRateTable Tests")
+class ExchangeRateTableTest {
+
+  @Test
+  @DisplayName("Should return the rate of a registered pair and null for unknown pairs")
+  void shouldLookUpRates() {
+    ExchangeRateTable table = ExchangeRateTable.empty()
+        .withRate("PEN", "USD", new BigDecimal("3.8"))
+        .withRate("USD", "PEN", new BigDecimal("0.2632"));
+
+    assertEquals(new BigDecimal("3.8"), table.getRate("PEN", "USD"));
+    assertEquals(new BigDecimal("0.2632"), table.getRate("USD", "PEN"));
+    assertNull(table.getRate("PEN", "PEN"));
+    assertNull(table.getRate("EUR", "USD"));
+    assertNull(table.getRate("US", "PEN"));
+  }
+
+  @Test
+  @DisplayName("Should leave previous snapshots untouched on update")
+  void shouldCopyOnWrite() {
+    ExchangeRateTable original = ExchangeRateTable.empty().withRate("PEN", "USD", new BigDecimal("3.8"));
+    ExchangeRateTable updated = original
+        .withRate("PEN", "USD", new BigDecimal("3.7"))
+        .withRate("EUR", "USD", new BigDecimal("0.92"));
+
+    assertEquals(new BigDecimal("3.8"), original.getRate("PEN", "USD"));
+    assertNull(original.getRate("EUR", "USD"));
+    assertEquals(2, original.currencyCount());
+    assertEquals(new BigDecimal("3.7"), updated.getRate("PEN", "USD"));
+    assertEquals(new BigDecimal("0.92"), updated.getRate("EUR", "USD"));
+    assertEquals(3, updated.currencyCount());
+  }
+
+  @Test
+  @DisplayName("Should pack currency codes into distinct pair ids")
+  void shouldPackPairIds() {
+    assertNotEquals(ExchangeRateTable.pairId("PEN", "USD"), ExchangeRateTable.pairId("USD", "PEN"));
+    assertEquals(ExchangeRateTable.pairId("PEN", "USD"), ExchangeRateTable.pairId("pen", "usd"));
+    assertEquals(-1, ExchangeRateTable.pairId("PE1", "USD"));
+    assertThrows(IllegalArgumentException.class,
+        () -> ExchangeRateTable.empty().withRate("DOLLAR", "PEN", BigDecimal.ONE));
+  }
+
+  @Test
+  @DisplayName("Should export every rate with ORIGEN:DESTINO keys")
+  void shouldExportMap() {
+    ExchangeRateTable table = ExchangeRateTable.empty()
+        .withRate("PEN", "USD", new BigDecimal("3.8"))
+        .withRate("USD", "PEN", new BigDecimal("0.2632"));
+
+    assertEquals(2, table.toMap().size());
+    assertEquals(new BigDecimal("3.8"), table.toMap().get("PEN:USD"));
+  }
+}
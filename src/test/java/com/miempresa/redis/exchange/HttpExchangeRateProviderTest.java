@@ -0,0 +1,33 @@
+package com.miempresa.redis.exchange;
+
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateGraph;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.HttpExchangeRateProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase HttpExchangeRateProvider
+ */
+@DisplayName("HttpExchangeRateProvider Tests")
+class HttpExchangeRateProviderTest {
+
+  @Test
+  @DisplayName("Should derive the default USD to PEN rate as the inverse of PEN to USD")
+  void shouldDeriveDefaultInverseRate() {
+    HttpExchangeRateProvider provider = new HttpExchangeRateProvider(WebClient.create(), Duration.ofSeconds(1));
+
+    BigDecimal penToUsd = provider.getDefaultPENtoUSDRate().block();
+    BigDecimal usdToPen = provider.getDefaultUSDtoPENRate().block();
+
+    assertEquals(BigDecimal.ONE.divide(penToUsd, ExchangeRateGraph.RATE_PRECISION), usdToPen);
+    assertEquals(0, BigDecimal.ONE.compareTo(
+        penToUsd.multiply(usdToPen).setScale(10, RoundingMode.HALF_UP)));
+  }
+}
@@ -0,0 +1,159 @@
+package com.miempresa.redis.exchange;
+
+import com.miempresa.redis.infrastructure.adapter.out.exchange.DefaultExchangeRateProvider;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.RedisExchangeRateSynchronizer;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.RedissonExchangeRateHistoryStore;
+import com.miempresa.redis.infrastructure.config.ExchangeRateProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.api.listener.StatusListener;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedisExchangeRateSynchronizer
+ */
+@DisplayName("RedisExchangeRateSynchronizer Tests")
+class RedisExchangeRateSynchronizerTest {
+
+  private static final Map<String, String> SNAPSHOT = Map.of("_sequence", "7", "PEN", "4.1", "EUR", "0.95");
+
+  private static RedisExchangeRateSynchronizer synchronizer(FakeRedis redis, DefaultExchangeRateProvider provider) {
+    RedissonExchangeRateHistoryStore historyStore = new RedissonExchangeRateHistoryStore(redis.client(),
+        new ExchangeRateProperties());
+    ReflectionTestUtils.setField(historyStore, "retention", Duration.ofDays(400));
+    return new RedisExchangeRateSynchronizer(redis.client(), provider, historyStore);
+  }
+
+  @Test
+  @DisplayName("Should load the Redis snapshot at startup when the channel is already subscribed")
+  void shouldResyncWhenChannelAlreadySubscribed() {
+    FakeRedis redis = new FakeRedis(true);
+    DefaultExchangeRateProvider provider = new DefaultExchangeRateProvider();
+
+    synchronizer(redis, provider).start();
+
+    assertEquals(0, redis.subscribeEvents);
+    assertEquals(0, new BigDecimal("4.1").compareTo(provider.getGraph().getBaseRates().get("PEN")));
+    assertEquals(0, new BigDecimal("0.95").compareTo(provider.getGraph().getBaseRates().get("EUR")));
+  }
+
+  @Test
+  @DisplayName("Should record the synchronized base rates missing from the history")
+  void shouldRecordSnapshotInHistory() {
+    FakeRedis redis = new FakeRedis(true);
+
+    synchronizer(redis, new DefaultExchangeRateProvider()).start();
+
+    assertEquals(List.of("exchange-rate:history:PEN", "exchange-rate:history:EUR"), redis.historyAppends);
+  }
+
+  @Test
+  @DisplayName("Should load the snapshot and apply later deltas on a fresh subscription")
+  void shouldResyncOnFreshSubscription() {
+    FakeRedis redis = new FakeRedis(false);
+    DefaultExchangeRateProvider provider = new DefaultExchangeRateProvider();
+
+    synchronizer(redis, provider).start();
+    redis.publish("8|PEN|4.2");
+
+    assertEquals(1, redis.subscribeEvents);
+    assertEquals(0, new BigDecimal("4.2").compareTo(provider.getGraph().getBaseRates().get("PEN")));
+  }
+
+  /**
+   * Redisson en memoria con el comportamiento de RTopic de 3.24: solo el
+   * primer listener de un canal lo suscribe y notifica onSubscribe a los
+   * listeners de estado ya registrados
+   */
+  private static class FakeRedis {
+
+    private final List<StatusListener> statusListeners = new ArrayList<>();
+    private final List<MessageListener<String>> messageListeners = new ArrayList<>();
+    private final List<String> historyAppends = new ArrayList<>();
+    private boolean subscribed;
+    private int subscribeEvents;
+
+    FakeRedis(boolean alreadySubscribed) {
+      this.subscribed = alreadySubscribed;
+    }
+
+    void publish(String message) {
+      messageListeners.forEach(listener -> listener.onMessage("exchange-rate:updates", message));
+    }
+
+    @SuppressWarnings("unchecked")
+    RedissonClient client() {
+      RTopic topic = proxy(RTopic.class, (method, args) -> {
+        if (method.equals("addListenerAsync") && args.length == 1) {
+          statusListeners.add((StatusListener) args[0]);
+          return new CompletableFutureWrapper<>(statusListeners.size());
+        }
+        if (method.equals("addListenerAsync") && args.length == 2) {
+          messageListeners.add((MessageListener<String>) args[1]);
+          if (!subscribed) {
+            subscribed = true;
+            subscribeEvents++;
+            statusListeners.forEach(listener -> listener.onSubscribe("exchange-rate:updates"));
+          }
+          return new CompletableFutureWrapper<>(100 + messageListeners.size());
+        }
+        throw new UnsupportedOperationException(method);
+      });
+      RMap<String, String> rates = proxy(RMap.class, (method, args) -> {
+        if (method.equals("readAllMapAsync")) {
+          return new CompletableFutureWrapper<>(SNAPSHOT);
+        }
+        throw new UnsupportedOperationException(method);
+      });
+
+      // Historial vacío: cada tasa se agrega con el script de append
+      RScoredSortedSet<String> index = proxy(RScoredSortedSet.class, (method, args) -> {
+        if (method.equals("valueRangeReversedAsync")) {
+          return new CompletableFutureWrapper<>(List.of());
+        }
+        throw new UnsupportedOperationException(method);
+      });
+      RScript script = proxy(RScript.class, (method, args) -> {
+        if (method.equals("evalAsync")) {
+          historyAppends.add((String) ((List<Object>) args[3]).get(1));
+          return new CompletableFutureWrapper<>(-2L);
+        }
+        throw new UnsupportedOperationException(method);
+      });
+
+      return proxy(RedissonClient.class, (method, args) -> switch (method) {
+        case "getTopic" -> topic;
+        case "getMap" -> rates;
+        case "getScoredSortedSet" -> index;
+        case "getScript" -> script;
+        default -> throw new UnsupportedOperationException(method);
+      });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+          (instance, method, args) -> handler.handle(method.getName(), args == null ? new Object[0] : args));
+    }
+  }
+
+  private interface Handler {
+    Object handle(String method, Object[] args);
+  }
+}
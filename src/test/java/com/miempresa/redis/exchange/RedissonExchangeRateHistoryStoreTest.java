@@ -0,0 +1,245 @@
+package com.miempresa.redis.exchange;
+
+import com.miempresa.redis.domain.model.ExchangeRatePoint;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateGraph;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.ExchangeRateHistoryCodec;
+import com.miempresa.redis.infrastructure.adapter.out.exchange.RedissonExchangeRateHistoryStore;
+import com.miempresa.redis.infrastructure.config.ExchangeRateProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedissonExchangeRateHistoryStore
+ */
+@DisplayName("RedissonExchangeRateHistoryStore Tests")
+class RedissonExchangeRateHistoryStoreTest {
+
+  private static final Instant HOUR = Instant.parse("2026-10-18T10:00:00Z");
+  private static final long BUCKET = ExchangeRateHistoryCodec.bucketOf(HOUR.toEpochMilli());
+
+  private final FakeRedis redis = new FakeRedis();
+
+  private RedissonExchangeRateHistoryStore store() {
+    RedissonExchangeRateHistoryStore store = new RedissonExchangeRateHistoryStore(redis.client(),
+        new ExchangeRateProperties());
+    ReflectionTestUtils.setField(store, "retention", Duration.ofDays(400));
+    return store;
+  }
+
+  private static Instant at(int minutes) {
+    return HOUR.plus(Duration.ofMinutes(minutes));
+  }
+
+  private static long millis(int minutes) {
+    return at(minutes).toEpochMilli();
+  }
+
+  private static long scaled(String rate) {
+    return ExchangeRateHistoryCodec.toScaled(new BigDecimal(rate));
+  }
+
+  private static BigDecimal pair(String source, String target) {
+    return new BigDecimal(source).divide(new BigDecimal(target), ExchangeRateGraph.RATE_PRECISION)
+        .stripTrailingZeros();
+  }
+
+  @Test
+  @DisplayName("Should append a delta record while this node was the last writer of the bucket")
+  void shouldAppendDeltaOrAbsolute() {
+    RedissonExchangeRateHistoryStore store = store();
+    RedissonExchangeRateHistoryStore otherNode = store();
+
+    store.recordBaseRate("PEN", new BigDecimal("3.8"), at(10)).block();
+    store.recordBaseRate("PEN", new BigDecimal("3.81"), at(20)).block();
+    // Otro nodo no conoce el último registro: escribe uno absoluto
+    otherNode.recordBaseRate("PEN", new BigDecimal("3.82"), at(30)).block();
+    // El largo cambió desde la última escritura de este nodo: absoluto
+    store.recordBaseRate("PEN", new BigDecimal("3.83"), at(40)).block();
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(millis(10), scaled("3.8")));
+    expected.writeBytes(ExchangeRateHistoryCodec.encodeDelta(millis(10), scaled("3.8"), millis(20),
+        scaled("3.81")));
+    expected.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(millis(30), scaled("3.82")));
+    expected.writeBytes(ExchangeRateHistoryCodec.encodeAbsolute(millis(40), scaled("3.83")));
+    assertArrayEquals(expected.toByteArray(), redis.strings.get("exchange-rate:history:PEN:" + BUCKET));
+    assertEquals(List.of(false, true, false, false), redis.deltas);
+
+    List<BigDecimal> rates = store.getRateHistory("PEN", "USD", at(0), at(59))
+        .map(ExchangeRatePoint::getRate)
+        .collectList()
+        .block();
+    assertEquals(4, rates.size());
+    assertEquals(0, new BigDecimal("3.83").compareTo(rates.get(3)));
+  }
+
+  @Test
+  @DisplayName("Should fall back to the previous hour with data when the hour has no earlier point")
+  void shouldFallBackToPreviousBucket() {
+    RedissonExchangeRateHistoryStore store = store();
+    store.recordBaseRate("PEN", new BigDecimal("3.8"), at(-90)).block();
+    store.recordBaseRate("PEN", new BigDecimal("3.9"), at(40)).block();
+
+    ExchangeRatePoint point = store.getRateAt("PEN", "USD", at(15)).block();
+
+    assertNotNull(point);
+    assertEquals(at(-90), point.getTimestamp());
+    assertEquals(0, new BigDecimal("3.8").compareTo(point.getRate()));
+    assertEquals(0, new BigDecimal("3.9").compareTo(store.getRateAt("PEN", "USD", at(45)).block().getRate()));
+    assertNull(store.getRateAt("PEN", "USD", at(-120)).block());
+  }
+
+  @Test
+  @DisplayName("Should merge both currencies into one point per change, starting with the rate at the start")
+  void shouldMergeRange() {
+    RedissonExchangeRateHistoryStore store = store();
+    store.recordBaseRate("PEN", new BigDecimal("3.8"), at(-30)).block();
+    store.recordBaseRate("EUR", new BigDecimal("0.9"), at(-20)).block();
+    store.recordBaseRate("PEN", new BigDecimal("3.9"), at(10)).block();
+    store.recordBaseRate("EUR", new BigDecimal("0.95"), at(20)).block();
+    // Cambios del mismo instante: un solo punto
+    store.recordBaseRate("PEN", new BigDecimal("4.0"), at(30)).block();
+    store.recordBaseRate("EUR", new BigDecimal("1.0"), at(30)).block();
+    store.recordBaseRate("PEN", new BigDecimal("4.1"), at(70)).block();
+
+    List<ExchangeRatePoint> points = store.getRateHistory("pen", "eur", at(0), at(60)).collectList().block();
+
+    assertEquals(List.of(at(0), at(10), at(20), at(30)),
+        points.stream().map(ExchangeRatePoint::getTimestamp).toList());
+    assertEquals(List.of(pair("3.8", "0.9"), pair("3.9", "0.9"), pair("3.9", "0.95"), pair("4.0", "1.0")),
+        points.stream().map(point -> point.getRate().stripTrailingZeros()).toList());
+  }
+
+  @Test
+  @DisplayName("Should only record base rates that differ from the last history point")
+  void shouldRecordOnlyChangedBaseRates() {
+    RedissonExchangeRateHistoryStore store = store();
+    store.recordBaseRate("PEN", new BigDecimal("3.8"), at(-90)).block();
+    redis.appendedIndexes.clear();
+
+    Map<String, BigDecimal> baseRates = new LinkedHashMap<>();
+    baseRates.put("USD", BigDecimal.ONE);
+    baseRates.put("PEN", new BigDecimal("3.80"));
+    baseRates.put("EUR", new BigDecimal("0.95"));
+    store.recordBaseRatesIfChanged(baseRates, at(0)).block();
+
+    assertEquals(List.of("exchange-rate:history:EUR"), redis.appendedIndexes);
+
+    baseRates.put("PEN", new BigDecimal("3.85"));
+    store.recordBaseRatesIfChanged(baseRates, at(5)).block();
+
+    assertEquals(List.of("exchange-rate:history:EUR", "exchange-rate:history:PEN"), redis.appendedIndexes);
+    assertEquals(0, new BigDecimal("3.85").compareTo(store.getRateAt("PEN", "USD", at(5)).block().getRate()));
+  }
+
+  /**
+   * Redisson en memoria que aplica el script de append del historial
+   * (STRLEN + APPEND + ZADD) sobre strings binarios y sorted sets de buckets
+   */
+  private static class FakeRedis {
+
+    private final Map<String, byte[]> strings = new HashMap<>();
+    private final Map<String, TreeSet<Long>> indexes = new HashMap<>();
+    private final List<Boolean> deltas = new ArrayList<>();
+    private final List<String> appendedIndexes = new ArrayList<>();
+
+    RedissonClient client() {
+      RScript script = proxy(RScript.class, (method, args) -> {
+        if (!method.equals("evalAsync")) {
+          throw new UnsupportedOperationException(method);
+        }
+        return new CompletableFutureWrapper<>(append(castKeys(args[3]), (Object[]) args[4]));
+      });
+
+      return proxy(RedissonClient.class, (method, args) -> switch (method) {
+        case "getScript" -> script;
+        case "getScoredSortedSet" -> index((String) args[0]);
+        case "getBucket" -> bucket((String) args[0]);
+        default -> throw new UnsupportedOperationException(method);
+      });
+    }
+
+    private synchronized long append(List<Object> keys, Object[] args) {
+      String bucketKey = (String) keys.get(0);
+      byte[] current = strings.getOrDefault(bucketKey, new byte[0]);
+      boolean delta = current.length == number(args[0]);
+      byte[] record = (byte[]) (delta ? args[1] : args[2]);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      out.writeBytes(current);
+      out.writeBytes(record);
+      strings.put(bucketKey, out.toByteArray());
+      indexes.computeIfAbsent((String) keys.get(1), key -> new TreeSet<>()).add(number(args[4]));
+      deltas.add(delta);
+      appendedIndexes.add((String) keys.get(1));
+      return delta ? out.size() : -out.size();
+    }
+
+    private RScoredSortedSet<String> index(String key) {
+      return proxy(RScoredSortedSet.class, (method, args) -> {
+        TreeSet<Long> buckets = indexes.getOrDefault(key, new TreeSet<>());
+        return switch (method) {
+          case "valueRangeAsync" -> new CompletableFutureWrapper<>(buckets.stream()
+              .filter(bucket -> bucket >= (double) args[0] && bucket <= (double) args[2])
+              .map(String::valueOf)
+              .toList());
+          case "valueRangeReversedAsync" -> new CompletableFutureWrapper<>(buckets.descendingSet().stream()
+              .filter(bucket -> bucket <= (double) args[2])
+              .limit((int) args[5])
+              .map(String::valueOf)
+              .toList());
+          default -> throw new UnsupportedOperationException(method);
+        };
+      });
+    }
+
+    private RBucket<byte[]> bucket(String key) {
+      return proxy(RBucket.class, (method, args) -> {
+        if (method.equals("getAsync")) {
+          return new CompletableFutureWrapper<>(strings.get(key));
+        }
+        throw new UnsupportedOperationException(method);
+      });
+    }
+
+    private static long number(Object value) {
+      return Long.parseLong(new String((byte[]) value, StandardCharsets.US_ASCII));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> castKeys(Object keys) {
+      return (List<Object>) keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Handler handler) {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+          (instance, method, args) -> handler.handle(method.getName(), args == null ? new Object[0] : args));
+    }
+  }
+
+  private interface Handler {
+    Object handle(String method, Object[] args);
+  }
+}
@@ -0,0 +1,40 @@
+package com.miempresa.redis.health;
+
+import com.miempresa.redis.infrastructure.adapter.in.web.controller.HealthController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase HealthController
+ */
+@DisplayName("HealthController Tests")
+class HealthControllerTest {
+
+  @Test
+  @DisplayName("Should report UP when Redisson is healthy")
+  void shouldReportUp() {
+    ResponseEntity<Map<String, Object>> response = new HealthController(StubHealthCheckPort.up()).health().block();
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("UP", response.getBody().get("status"));
+    assertEquals("UP", response.getBody().get("redisson"));
+    assertEquals(Map.of("poolSize", 64), response.getBody().get("redissonMetrics"));
+  }
+
+  @Test
+  @DisplayName("Should report DEGRADED when Redisson is down")
+  void shouldReportDegraded() {
+    ResponseEntity<Map<String, Object>> response = new HealthController(StubHealthCheckPort.down()).health().block();
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("DEGRADED", response.getBody().get("status"));
+    assertEquals("DOWN", response.getBody().get("redisson"));
+    assertEquals("Redisson health check failed: connection refused", response.getBody().get("redissonInfo"));
+  }
+}
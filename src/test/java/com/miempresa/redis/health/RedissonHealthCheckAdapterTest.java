@@ -0,0 +1,119 @@
+package com.miempresa.redis.health;
+
+import com.miempresa.redis.application.port.out.HealthCheckPort;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.RedissonHealthCheckAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisMaster;
+import org.redisson.api.redisnode.RedisSingle;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedissonHealthCheckAdapter
+ */
+@DisplayName("RedissonHealthCheckAdapter Tests")
+class RedissonHealthCheckAdapterTest {
+
+  private RedissonHealthCheckAdapter adapter(Object pingResult, Object infoResult) {
+    RedisMaster node = proxy(RedisMaster.class, method -> switch (method) {
+      case "pingAsync" -> reply(pingResult);
+      case "infoAsync" -> reply(infoResult);
+      default -> throw new UnsupportedOperationException(method);
+    });
+    RedisSingle single = proxy(RedisSingle.class, method -> {
+      if (method.equals("getInstance")) {
+        return node;
+      }
+      throw new UnsupportedOperationException(method);
+    });
+    RedissonClient redisson = proxy(RedissonClient.class, method -> {
+      if (method.equals("getRedisNodes")) {
+        return single;
+      }
+      throw new UnsupportedOperationException(method);
+    });
+
+    RedissonHealthCheckAdapter adapter = new RedissonHealthCheckAdapter(redisson);
+    ReflectionTestUtils.setField(adapter, "cacheTtl", Duration.ofSeconds(5));
+    ReflectionTestUtils.setField(adapter, "pingTimeout", Duration.ofSeconds(1));
+    ReflectionTestUtils.setField(adapter, "connectionPoolSize", 64);
+    return adapter;
+  }
+
+  @Test
+  @DisplayName("Should report UP with the connected clients from INFO CLIENTS")
+  void shouldReportUp() {
+    RedissonHealthCheckAdapter adapter = adapter(true,
+        Map.of("connected_clients", "25", "blocked_clients", "0", "maxclients", "10000"));
+
+    HealthCheckPort.HealthInfo info = adapter.getHealthInfo().block();
+
+    assertEquals("UP", info.getStatus());
+    assertTrue(info.getMessage().startsWith("Redisson is healthy"));
+    assertEquals(64, info.getMetrics().get("poolSize"));
+    assertEquals(25L, info.getMetrics().get("connectedClients"));
+    assertEquals(0L, info.getMetrics().get("blockedClients"));
+    assertTrue(adapter.isHealthy().block());
+  }
+
+  @Test
+  @DisplayName("Should stay UP without client stats when INFO fails")
+  void shouldReportUpWhenInfoFails() {
+    RedissonHealthCheckAdapter adapter = adapter(true, new IllegalStateException("NOPERM"));
+
+    HealthCheckPort.HealthInfo info = adapter.getHealthInfo().block();
+
+    assertEquals("UP", info.getStatus());
+    assertEquals(64, info.getMetrics().get("poolSize"));
+    assertFalse(info.getMetrics().containsKey("connectedClients"));
+  }
+
+  @Test
+  @DisplayName("Should report DOWN when PING gets no reply")
+  void shouldReportDownWithoutPong() {
+    RedissonHealthCheckAdapter adapter = adapter(false, Map.of());
+
+    HealthCheckPort.HealthInfo info = adapter.getHealthInfo().block();
+
+    assertEquals("DOWN", info.getStatus());
+    assertEquals("Redisson health check failed - no PING reply", info.getMessage());
+    assertFalse(adapter.isHealthy().block());
+  }
+
+  @Test
+  @DisplayName("Should report DOWN with the error when Redis is unreachable")
+  void shouldReportDownOnError() {
+    RedissonHealthCheckAdapter adapter = adapter(new RedisConnectionException("connection refused"), Map.of());
+
+    HealthCheckPort.HealthInfo info = adapter.getHealthInfo().block();
+
+    assertEquals("DOWN", info.getStatus());
+    assertEquals("Redisson health check failed: connection refused", info.getMessage());
+    assertFalse(info.getMetrics().containsKey("pingLatencyMicros"));
+  }
+
+  private static Object reply(Object result) {
+    return result instanceof RuntimeException error
+        ? new CompletableFutureWrapper<>(error)
+        : new CompletableFutureWrapper<>(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, Handler handler) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+        (instance, method, args) -> handler.handle(method.getName()));
+  }
+
+  private interface Handler {
+    Object handle(String method);
+  }
+}
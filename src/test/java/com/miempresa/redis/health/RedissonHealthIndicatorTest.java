@@ -0,0 +1,35 @@
+package com.miempresa.redis.health;
+
+import com.miempresa.redis.infrastructure.health.RedissonHealthIndicator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedissonHealthIndicator
+ */
+@DisplayName("RedissonHealthIndicator Tests")
+class RedissonHealthIndicatorTest {
+
+  @Test
+  @DisplayName("Should report UP with the check metrics")
+  void shouldReportUp() {
+    Health health = new RedissonHealthIndicator(StubHealthCheckPort.up()).health().block();
+
+    assertEquals(Status.UP, health.getStatus());
+    assertEquals(64, health.getDetails().get("poolSize"));
+    assertEquals("1970-01-01T00:00:00Z", health.getDetails().get("checkedAt"));
+  }
+
+  @Test
+  @DisplayName("Should report DOWN with the failure message")
+  void shouldReportDown() {
+    Health health = new RedissonHealthIndicator(StubHealthCheckPort.down()).health().block();
+
+    assertEquals(Status.DOWN, health.getStatus());
+    assertEquals("Redisson health check failed: connection refused", health.getStatus().getDescription());
+  }
+}
@@ -0,0 +1,65 @@
+package com.miempresa.redis.health;
+
+import com.miempresa.redis.application.port.out.HealthCheckPort;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * HealthCheckPort con un resultado fijo para probar los adaptadores de entrada
+ */
+final class StubHealthCheckPort implements HealthCheckPort {
+
+  private final HealthInfo info;
+
+  private StubHealthCheckPort(HealthInfo info) {
+    this.info = info;
+  }
+
+  static StubHealthCheckPort up() {
+    return new StubHealthCheckPort(info("UP", "Redisson is healthy - PING latency: 412µs"));
+  }
+
+  static StubHealthCheckPort down() {
+    return new StubHealthCheckPort(info("DOWN", "Redisson health check failed: connection refused"));
+  }
+
+  @Override
+  public Mono<Boolean> isHealthy() {
+    return Mono.just("UP".equals(info.getStatus()));
+  }
+
+  @Override
+  public Mono<HealthInfo> getHealthInfo() {
+    return Mono.just(info);
+  }
+
+  private static HealthInfo info(String status, String message) {
+    return new HealthInfo() {
+      @Override
+      public String getStatus() {
+        return status;
+      }
+
+      @Override
+      public String getMessage() {
+        return message;
+      }
+
+      @Override
+      public String getDetails() {
+        return getMetrics().toString();
+      }
+
+      @Override
+      public long getTimestamp() {
+        return 0;
+      }
+
+      @Override
+      public Map<String, Object> getMetrics() {
+        return Map.of("poolSize", 64);
+      }
+    };
+  }
+}
@@ -0,0 +1,96 @@
+package com.miempresa.redis.heavyhitter;
+
+import com.miempresa.redis.domain.model.HeavyHitter;
+import com.miempresa.redis.infrastructure.adapter.out.heavyhitter.CountMinSketch;
+import com.miempresa.redis.infrastructure.adapter.out.heavyhitter.HeavyHitterSketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase HeavyHitterSketch
+ */
+@DisplayName("HeavyHitterSketch Tests")
+class HeavyHitterSketchTest {
+
+  @Test
+  @DisplayName("Should never underestimate a key frequency")
+  void shouldNotUnderestimate() {
+    CountMinSketch sketch = new CountMinSketch(256, 4);
+    int[] counts = new int[2_000];
+    Random random = new Random(7);
+    for (int i = 0; i < 50_000; i++) {
+      int key = random.nextInt(counts.length);
+      counts[key]++;
+      sketch.add("10.0.0." + key, 1);
+    }
+
+    for (int key = 0; key < counts.length; key++) {
+      assertTrue(sketch.estimate("10.0.0." + key) >= counts[key]);
+    }
+    assertEquals(256, sketch.getWidth());
+    assertEquals(512, new CountMinSketch(300, 1).getWidth());
+  }
+
+  @Test
+  @DisplayName("Should find the heaviest clients among background traffic")
+  void shouldFindHeavyHitters() throws InterruptedException {
+    HeavyHitterSketch sketch = new HeavyHitterSketch(2048, 4, 5, 4);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int thread = 0; thread < 4; thread++) {
+      int seed = thread;
+      executor.submit(() -> {
+        Random random = new Random(seed);
+        for (int i = 0; i < 20_000; i++) {
+          sketch.record("192.168.0." + random.nextInt(1_000));
+          if (i % 10 == 0) {
+            sketch.record("attacker-1");
+          }
+          if (i % 20 == 0) {
+            sketch.record("attacker-2");
+          }
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+    List<HeavyHitter> top = sketch.top(2);
+
+    assertEquals("attacker-1", top.get(0).getClientIp());
+    assertTrue(top.get(0).getEstimatedRequests() >= 8_000);
+    assertEquals("attacker-2", top.get(1).getClientIp());
+    assertEquals(92_000, sketch.getTotal());
+  }
+
+  @Test
+  @DisplayName("Should merge encoded sketches from several nodes")
+  void shouldMergeEncodedSketches() {
+    HeavyHitterSketch first = new HeavyHitterSketch(1024, 4, 3, 2);
+    HeavyHitterSketch second = new HeavyHitterSketch(1024, 4, 3, 2);
+    for (int i = 0; i < 100; i++) {
+      first.record("10.0.0.1");
+      second.record("10.0.0.2");
+    }
+    for (int i = 0; i < 60; i++) {
+      first.record("10.0.0.2");
+      second.record("10.0.0.3");
+    }
+
+    List<HeavyHitter> merged = HeavyHitterSketch.merge(List.of(
+        HeavyHitterSketch.decode(HeavyHitterSketch.encode(first.snapshot())),
+        HeavyHitterSketch.decode(HeavyHitterSketch.encode(second.snapshot()))), 3);
+
+    assertEquals("10.0.0.2", merged.get(0).getClientIp());
+    assertEquals(160, merged.get(0).getEstimatedRequests());
+    assertEquals("10.0.0.1", merged.get(1).getClientIp());
+    assertEquals("10.0.0.3", merged.get(2).getClientIp());
+  }
+}
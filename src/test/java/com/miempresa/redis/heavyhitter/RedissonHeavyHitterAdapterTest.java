@@ -0,0 +1,120 @@
+package com.miempresa.redis.heavyhitter;
+
+import com.miempresa.redis.infrastructure.adapter.out.heavyhitter.RedissonHeavyHitterAdapter;
+import com.miempresa.redis.persistence.FakeRedisBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedissonHeavyHitterAdapter
+ */
+@DisplayName("RedissonHeavyHitterAdapter Tests")
+class RedissonHeavyHitterAdapterTest {
+
+  private static final Duration WINDOW = Duration.ofMinutes(1);
+
+  private final FakeRedisBatch redis = new FakeRedisBatch();
+
+  private RedissonHeavyHitterAdapter adapter(int maxEndpoints) {
+    RedissonHeavyHitterAdapter adapter = new RedissonHeavyHitterAdapter(redis.client());
+    ReflectionTestUtils.setField(adapter, "enabled", true);
+    ReflectionTestUtils.setField(adapter, "topK", 5);
+    ReflectionTestUtils.setField(adapter, "sketchWidth", 256);
+    ReflectionTestUtils.setField(adapter, "sketchDepth", 4);
+    ReflectionTestUtils.setField(adapter, "stripes", 4);
+    ReflectionTestUtils.setField(adapter, "window", WINDOW);
+    ReflectionTestUtils.setField(adapter, "retentionWindows", 60);
+    ReflectionTestUtils.setField(adapter, "maxEndpoints", maxEndpoints);
+    return adapter;
+  }
+
+  private static Mono<Void> publish(RedissonHeavyHitterAdapter adapter) {
+    return ReflectionTestUtils.invokeMethod(adapter, "publish");
+  }
+
+  private List<String> published() {
+    return redis.getCommands().stream()
+        .filter(command -> command.startsWith("fastPutAsync"))
+        .toList();
+  }
+
+  @Test
+  @DisplayName("Should publish the closed window again when the batch fails")
+  void shouldRetryClosedWindowAfterFailure() {
+    RedissonHeavyHitterAdapter adapter = adapter(10);
+    long closedId = System.currentTimeMillis() / WINDOW.toMillis();
+    adapter.record("/api/convert", "10.0.0.1");
+    // Abre la ventana siguiente; la actual queda cerrada y sin publicar
+    ReflectionTestUtils.invokeMethod(adapter, "window", System.currentTimeMillis() + 2 * WINDOW.toMillis());
+
+    redis.fail("fastPutAsync", new IllegalStateException("READONLY"));
+    assertThrows(IllegalStateException.class, () -> publish(adapter).block());
+
+    redis.getCommands().clear();
+    redis.recover("fastPutAsync");
+    publish(adapter).block();
+
+    assertEquals(List.of("fastPutAsync rate-limit:heavy-hitters:/api/convert:" + closedId + " node-1"), published());
+
+    redis.getCommands().clear();
+    publish(adapter).block();
+
+    assertTrue(published().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should publish the current window again when the batch fails")
+  void shouldRetryCurrentWindowAfterFailure() {
+    RedissonHeavyHitterAdapter adapter = adapter(10);
+    adapter.record("/api/convert", "10.0.0.1");
+
+    redis.fail("fastPutAsync", new IllegalStateException("READONLY"));
+    assertThrows(IllegalStateException.class, () -> publish(adapter).block());
+
+    redis.getCommands().clear();
+    redis.recover("fastPutAsync");
+    publish(adapter).block();
+
+    assertEquals(1, published().size());
+  }
+
+  @Test
+  @DisplayName("Should never track more endpoints than max-endpoints under concurrency")
+  void shouldCapEndpointsUnderConcurrency() throws InterruptedException {
+    RedissonHeavyHitterAdapter adapter = adapter(16);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int thread = 0; thread < 8; thread++) {
+      int offset = thread;
+      executor.execute(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int i = 0; i < 100; i++) {
+          adapter.record("/api/endpoint-" + (i * 8 + offset), "10.0.0.1");
+        }
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    publish(adapter).block();
+
+    assertEquals(16, published().size());
+  }
+}
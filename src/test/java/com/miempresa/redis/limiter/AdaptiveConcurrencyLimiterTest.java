@@ -0,0 +1,82 @@
+package com.miempresa.redis.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.miempresa.redis.infrastructure.adapter.in.web.limiter.AdaptiveConcurrencyLimiter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase AdaptiveConcurrencyLimiter
+ */
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long BASE_RTT = 10_000_000L;
+
+  private AdaptiveConcurrencyLimiter newLimiter(int initialLimit) {
+    return new AdaptiveConcurrencyLimiter(initialLimit, 1, 100, 1.5, 0.5, 0.9, 1000);
+  }
+
+  @Test
+  @DisplayName("Should reject requests beyond the current limit")
+  void shouldRejectRequestsBeyondLimit() {
+    AdaptiveConcurrencyLimiter limiter = newLimiter(2);
+
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+
+    limiter.release();
+    assertTrue(limiter.tryAcquire());
+    assertEquals(2, limiter.getInFlight());
+  }
+
+  @Test
+  @DisplayName("Should grow the limit while latency stays at baseline and the limit is used")
+  void shouldGrowLimitWhenLatencyIsStable() {
+    AdaptiveConcurrencyLimiter limiter = newLimiter(10);
+
+    for (int i = 0; i < 20; i++) {
+      while (limiter.tryAcquire()) {
+        // Saturar el límite actual
+      }
+      limiter.onComplete(BASE_RTT, false);
+      while (limiter.getInFlight() > 0) {
+        limiter.release();
+      }
+    }
+
+    assertTrue(limiter.getLimit() > 10, "limit should grow, was " + limiter.getLimit());
+  }
+
+  @Test
+  @DisplayName("Should shrink the limit when latency rises above the baseline")
+  void shouldShrinkLimitWhenLatencyRises() {
+    AdaptiveConcurrencyLimiter limiter = newLimiter(50);
+
+    limiter.tryAcquire();
+    limiter.onComplete(BASE_RTT, false);
+    for (int i = 0; i < 20; i++) {
+      limiter.tryAcquire();
+      limiter.onComplete(BASE_RTT * 5, false);
+    }
+
+    assertTrue(limiter.getLimit() < 50, "limit should shrink, was " + limiter.getLimit());
+  }
+
+  @Test
+  @DisplayName("Should back off multiplicatively on errors but never below the minimum")
+  void shouldBackOffOnErrors() {
+    AdaptiveConcurrencyLimiter limiter = newLimiter(20);
+
+    for (int i = 0; i < 100; i++) {
+      limiter.tryAcquire();
+      limiter.onComplete(BASE_RTT, true);
+    }
+
+    assertEquals(1, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+}
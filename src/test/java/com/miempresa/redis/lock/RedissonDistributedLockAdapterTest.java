@@ -0,0 +1,231 @@
+package com.miempresa.redis.lock;
+
+import com.miempresa.redis.application.port.out.DistributedLockPort;
+import com.miempresa.redis.domain.model.LockLease;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.RedissonDistributedLockAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.misc.CompletableFutureWrapper;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedissonDistributedLockAdapter
+ */
+@DisplayName("RedissonDistributedLockAdapter Tests")
+class RedissonDistributedLockAdapterTest {
+
+  private static final Duration WAIT = Duration.ofMillis(50);
+  private static final Duration LEASE = Duration.ofSeconds(30);
+
+  private final FakeRedis redis = new FakeRedis();
+  private final RedissonDistributedLockAdapter adapter = new RedissonDistributedLockAdapter(redis.client());
+
+  @Test
+  @DisplayName("Should acquire a free lock with an increasing fencing token")
+  void shouldAcquireWithFencingToken() {
+    LockLease first = adapter.tryLock("lock:a", WAIT, LEASE).block();
+    assertNotNull(first);
+    assertEquals(1, first.getFencingToken());
+    assertTrue(adapter.unlock(first).block());
+
+    LockLease second = adapter.tryLock("lock:a", WAIT, LEASE).block();
+    assertNotNull(second);
+    assertEquals(2, second.getFencingToken());
+    assertNotEquals(first.getOwnerToken(), second.getOwnerToken());
+  }
+
+  @Test
+  @DisplayName("Should complete empty when another holder keeps the lock until the deadline")
+  void shouldTimeOutWhenLockHeld() {
+    LockLease holder = adapter.tryLock("lock:a", WAIT, LEASE).block();
+    assertNotNull(holder);
+
+    StepVerifier.create(adapter.tryLock("lock:a", WAIT, LEASE))
+        .verifyComplete();
+    assertTrue(redis.acquireAttempts > 2);
+  }
+
+  @Test
+  @DisplayName("Should acquire the lock once the holder releases it while waiting")
+  void shouldAcquireAfterRelease() {
+    LockLease holder = adapter.tryLock("lock:a", WAIT, LEASE).block();
+    assertNotNull(holder);
+
+    Mono<LockLease> waiter = adapter.tryLock("lock:a", Duration.ofSeconds(1), LEASE);
+    Mono.delay(Duration.ofMillis(20)).then(adapter.unlock(holder)).subscribe();
+
+    LockLease lease = waiter.block(Duration.ofSeconds(2));
+    assertNotNull(lease);
+    assertEquals(2, lease.getFencingToken());
+  }
+
+  @Test
+  @DisplayName("Should only release the lock for its own owner token")
+  void shouldReleaseOnlyOwnLock() {
+    LockLease holder = adapter.tryLock("lock:a", WAIT, LEASE).block();
+    assertNotNull(holder);
+    LockLease stranger = LockLease.builder()
+        .lockKey("lock:a")
+        .ownerToken("other-owner")
+        .fencingToken(holder.getFencingToken())
+        .build();
+
+    assertFalse(adapter.unlock(stranger).block());
+    assertTrue(adapter.isLocked("lock:a").block());
+    assertTrue(adapter.unlock(holder).block());
+    assertFalse(adapter.isLocked("lock:a").block());
+  }
+
+  @Test
+  @DisplayName("Should only extend the lock for its own owner token")
+  void shouldExtendOnlyOwnLock() {
+    LockLease holder = adapter.tryLock("lock:a", WAIT, LEASE).block();
+    assertNotNull(holder);
+    adapter.unlock(holder).block();
+    LockLease current = adapter.tryLock("lock:a", WAIT, LEASE).block();
+
+    assertFalse(adapter.extend(holder, LEASE).block());
+    assertTrue(adapter.extend(current, LEASE).block());
+  }
+
+  @Test
+  @DisplayName("Should reject a fencing token older than the last one seen")
+  void shouldRejectStaleFencingToken() {
+    assertTrue(adapter.fence("resource", 2).block());
+    assertTrue(adapter.fence("resource", 2).block());
+    assertFalse(adapter.fence("resource", 1).block());
+  }
+
+  @Test
+  @DisplayName("Should propagate Redis errors instead of reporting the lock as taken")
+  void shouldPropagateRedisErrors() {
+    redis.failure = new RedisException("connection lost");
+
+    StepVerifier.create(adapter.tryLock("lock:a", WAIT, LEASE))
+        .expectError(RedisException.class)
+        .verify(Duration.ofSeconds(1));
+    assertEquals(1, redis.calls);
+    StepVerifier.create(adapter.getLockInfo("lock:a"))
+        .expectError(RedisException.class)
+        .verify(Duration.ofSeconds(1));
+    StepVerifier.create(adapter.isLocked("lock:a"))
+        .expectError(RedisException.class)
+        .verify(Duration.ofSeconds(1));
+  }
+
+  @Test
+  @DisplayName("Should report lock info from the remaining time to live")
+  void shouldReportLockInfo() {
+    adapter.tryLock("lock:a", WAIT, LEASE).block();
+
+    DistributedLockPort.LockInfo held = adapter.getLockInfo("lock:a").block();
+    DistributedLockPort.LockInfo free = adapter.getLockInfo("lock:b").block();
+
+    assertTrue(held.isLocked());
+    assertEquals(1, held.getHoldCount());
+    assertFalse(free.isLocked());
+    assertEquals(-2, free.getRemainingTime());
+  }
+
+  /**
+   * Redisson en memoria que aplica a un mapa de claves el mismo efecto que
+   * los scripts Lua del adaptador (SET NX PX + INCR, GET + DEL, GET + PEXPIRE
+   * y el registro del fencing token)
+   */
+  private static class FakeRedis {
+
+    private final Map<String, String> values = new HashMap<>();
+    private int acquireAttempts;
+    private int calls;
+    private RuntimeException failure;
+
+    RedissonClient client() {
+      RScript script = proxy(RScript.class, (method, args) -> {
+        if (!method.equals("evalAsync")) {
+          throw new UnsupportedOperationException(method);
+        }
+        return reply(() -> eval((String) args[1], castKeys(args[3]), (Object[]) args[4]));
+      });
+
+      return proxy(RedissonClient.class, (method, args) -> switch (method) {
+        case "getScript" -> script;
+        case "getBucket" -> bucket((String) args[0]);
+        default -> throw new UnsupportedOperationException(method);
+      });
+    }
+
+    private RBucket<String> bucket(String key) {
+      return proxy(RBucket.class, (method, args) -> {
+        if (method.equals("remainTimeToLiveAsync")) {
+          return reply(() -> values.containsKey(key) ? LEASE.toMillis() : -2L);
+        }
+        throw new UnsupportedOperationException(method);
+      });
+    }
+
+    private synchronized long eval(String script, List<Object> keys, Object[] args) {
+      String key = (String) keys.get(0);
+      if (script.contains("'NX'")) {
+        acquireAttempts++;
+        if (values.containsKey(key)) {
+          return -1;
+        }
+        values.put(key, (String) args[0]);
+        String fencingKey = (String) keys.get(1);
+        long token = Long.parseLong(values.getOrDefault(fencingKey, "0")) + 1;
+        values.put(fencingKey, String.valueOf(token));
+        return token;
+      }
+      if (script.contains("'DEL'")) {
+        return args[0].equals(values.get(key)) && values.remove(key) != null ? 1 : 0;
+      }
+      if (script.contains("'PEXPIRE'")) {
+        return args[0].equals(values.get(key)) ? 1 : 0;
+      }
+      long last = Long.parseLong(values.getOrDefault(key, "-1"));
+      long token = Long.parseLong((String) args[0]);
+      if (token < last) {
+        return 0;
+      }
+      values.put(key, (String) args[0]);
+      return 1;
+    }
+
+    private Object reply(Supplier<Object> command) {
+      calls++;
+      if (failure != null) {
+        return new CompletableFutureWrapper<>(failure);
+      }
+      return new CompletableFutureWrapper<>(command.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> castKeys(Object keys) {
+      return (List<Object>) keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Handler handler) {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+          (instance, method, args) -> handler.handle(method.getName(), args == null ? new Object[0] : args));
+    }
+  }
+
+  private interface Handler {
+    Object handle(String method, Object[] args);
+  }
+}
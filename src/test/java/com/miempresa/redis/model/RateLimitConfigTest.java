@@ -0,0 +1,92 @@
+package com.miempresa.redis.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RequestInfo;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para el cálculo de costo de RateLimitConfig
+ */
+@DisplayName("RateLimitConfig Cost Tests")
+class RateLimitConfigTest {
+
+  private final RateLimitConfig config = RateLimitConfig.builder()
+      .endpoint("/api/bulk")
+      .maxRequests(500)
+      .timeWindowSeconds(60)
+      .enabled(true)
+      .methodCosts(RateLimitConfig.parseMethodCosts("post=50, PUT=10"))
+      .costHeader("X-Batch-Size")
+      .costParameter("batchSize")
+      .build();
+
+  private RequestInfo request(String method, Map<String, String> headers) {
+    return request(method, headers, Map.of());
+  }
+
+  private RequestInfo request(String method, Map<String, String> headers, Map<String, String> queryParameters) {
+    return RequestInfo.builder()
+        .endpoint("/api/bulk")
+        .method(method)
+        .headers(headers)
+        .queryParameters(queryParameters)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should cost 1 for methods without configured cost")
+  void shouldDefaultToOne() {
+    assertEquals(1, config.resolveCost(request("GET", Map.of())));
+  }
+
+  @Test
+  @DisplayName("Should use the configured cost per method")
+  void shouldUseMethodCost() {
+    assertEquals(50, config.resolveCost(request("POST", Map.of())));
+    assertEquals(10, config.resolveCost(request("put", Map.of())));
+  }
+
+  @Test
+  @DisplayName("Should multiply by the header or query parameter value")
+  void shouldMultiplyByBatchSize() {
+    assertEquals(4, config.resolveCost(request("GET", Map.of("X-Batch-Size", "4"))));
+    assertEquals(30, config.resolveCost(request("PUT", Map.of(), Map.of("batchSize", "3"))));
+    assertEquals(1, config.resolveCost(request("GET", Map.of(), Map.of("batchSize", "abc"))));
+  }
+
+  @Test
+  @DisplayName("Should not read the cost header from query parameters")
+  void shouldKeepHeadersAndParametersApart() {
+    assertEquals(1, config.resolveCost(request("GET", Map.of(), Map.of("X-Batch-Size", "4"))));
+    assertEquals(1, config.resolveCost(request("GET", Map.of("batchSize", "3"))));
+  }
+
+  @Test
+  @DisplayName("Should not expose request headers in toString")
+  void shouldNotPrintHeaders() {
+    RequestInfo request = request("GET", Map.of("Authorization", "Bearer secret"));
+
+    assertFalse(request.toString().contains("secret"));
+  }
+
+  @Test
+  @DisplayName("Should cap the cost at maxRequests")
+  void shouldCapCostAtLimit() {
+    assertEquals(500, config.resolveCost(request("POST", Map.of("X-Batch-Size", "1000"))));
+  }
+
+  @Test
+  @DisplayName("Should format and parse method costs symmetrically")
+  void shouldRoundTripMethodCosts() {
+    String formatted = RateLimitConfig.formatMethodCosts(config.getMethodCosts());
+    assertEquals("POST=50,PUT=10", formatted);
+    assertEquals(config.getMethodCosts(), RateLimitConfig.parseMethodCosts(formatted));
+    assertThrows(IllegalArgumentException.class, () -> RateLimitConfig.parseMethodCosts("POST=0"));
+  }
+}
@@ -0,0 +1,33 @@
+package com.miempresa.redis.model;
+
+import com.miempresa.redis.domain.model.TimeGranularity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase TimeGranularity
+ */
+@DisplayName("TimeGranularity Tests")
+class TimeGranularityTest {
+
+  @Test
+  @DisplayName("Should map timestamps to minute and hour windows")
+  void shouldComputeWindows() {
+    long timestamp = 3 * 3_600_000L + 59_999L;
+
+    assertEquals(180, TimeGranularity.MINUTE.windowOf(timestamp));
+    assertEquals(3, TimeGranularity.HOUR.windowOf(timestamp));
+    assertEquals(-1, TimeGranularity.MINUTE.windowOf(-1));
+  }
+
+  @Test
+  @DisplayName("Should parse granularity names ignoring case")
+  void shouldParseNames() {
+    assertEquals(TimeGranularity.MINUTE, TimeGranularity.fromName("minute"));
+    assertEquals(TimeGranularity.HOUR, TimeGranularity.fromName("HOUR"));
+    assertThrows(IllegalArgumentException.class, () -> TimeGranularity.fromName("day"));
+    assertThrows(IllegalArgumentException.class, () -> TimeGranularity.fromName(null));
+  }
+}
@@ -0,0 +1,122 @@
+package com.miempresa.redis.persistence;
+
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redisson en memoria para los adaptadores que usan RBatch
+ * Registra cada comando encolado como "operación clave argumentos" y responde
+ * los resultados configurados por operación; executeAsync falla si algún
+ * comando falló, igual que Redisson
+ */
+public final class FakeRedisBatch {
+
+  private final List<String> commands = new ArrayList<>();
+  private final Map<String, Object> results = new HashMap<>();
+  private final Map<String, RuntimeException> failures = new HashMap<>();
+
+  /**
+   * Respuesta de una operación (ej: "evalAsync", "countAsync")
+   */
+  public FakeRedisBatch respond(String operation, Object result) {
+    results.put(operation, result);
+    return this;
+  }
+
+  /**
+   * Hace fallar una operación (ej: "addAsync")
+   */
+  public FakeRedisBatch fail(String operation, RuntimeException error) {
+    failures.put(operation, error);
+    return this;
+  }
+
+  /**
+   * Vuelve a responder una operación que se hizo fallar
+   */
+  public FakeRedisBatch recover(String operation) {
+    failures.remove(operation);
+    return this;
+  }
+
+  public List<String> getCommands() {
+    return commands;
+  }
+
+  public RedissonClient client() {
+    return proxy(RedissonClient.class, (method, args) -> switch (method.getName()) {
+      case "createBatch" -> batch();
+      case "getId" -> "node-1";
+      default -> throw new UnsupportedOperationException(method.getName());
+    });
+  }
+
+  private RBatch batch() {
+    List<Object> responses = new ArrayList<>();
+    List<RuntimeException> batchFailures = new ArrayList<>();
+    return proxy(RBatch.class, (method, args) -> {
+      if (method.getName().equals("executeAsync")) {
+        return !batchFailures.isEmpty()
+            ? new CompletableFutureWrapper<>(batchFailures.get(0))
+            : new CompletableFutureWrapper<>(new BatchResult<>(new ArrayList<>(responses), 0));
+      }
+      // getScript, getHyperLogLog...: objeto que encola comandos sobre la clave
+      String key = args.length > 0 && args[0] instanceof String name ? name : "";
+      return proxy(method.getReturnType(), (operation, operationArgs) -> {
+        Object result = command(operation.getName(), key, operationArgs);
+        if (result instanceof RuntimeException failure) {
+          batchFailures.add(failure);
+          return new CompletableFutureWrapper<>(failure);
+        }
+        responses.add(result);
+        return new CompletableFutureWrapper<>(result);
+      });
+    });
+  }
+
+  /**
+   * Registra el comando y devuelve su resultado o el error configurado
+   */
+  private Object command(String operation, String key, Object[] args) {
+    commands.add((operation + (key.isEmpty() ? "" : " " + key) + " " + describe(args)).trim());
+    RuntimeException failure = failures.get(operation);
+    return failure != null ? failure : results.get(operation);
+  }
+
+  private static String describe(Object[] args) {
+    StringBuilder description = new StringBuilder();
+    for (Object arg : args) {
+      if (arg instanceof Object[] values) {
+        description.append(Arrays.toString(values)).append(' ');
+      } else if (arg instanceof String text && text.contains(" ")) {
+        // Scripts Lua
+        continue;
+      } else if (arg instanceof String || arg instanceof Number || arg instanceof List
+          || arg instanceof Duration) {
+        description.append(arg).append(' ');
+      }
+    }
+    return description.toString().trim();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, Handler handler) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+        (instance, method, args) -> handler.handle(method, args == null ? new Object[0] : args));
+  }
+
+  private interface Handler {
+    Object handle(Method method, Object[] args);
+  }
+}
@@ -0,0 +1,72 @@
+package com.miempresa.redis.persistence;
+
+import com.miempresa.redis.domain.model.TimeGranularity;
+import com.miempresa.redis.domain.model.UniqueClientReport;
+import com.miempresa.redis.infrastructure.adapter.out.persistence.redis.RedisClientCardinalityAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedisClientCardinalityAdapter
+ */
+@DisplayName("RedisClientCardinalityAdapter Tests")
+class RedisClientCardinalityAdapterTest {
+
+  static RedisClientCardinalityAdapter adapter(FakeRedisBatch redis) {
+    RedisClientCardinalityAdapter adapter = new RedisClientCardinalityAdapter(redis.client(),
+        new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(adapter, "enabled", true);
+    ReflectionTestUtils.setField(adapter, "minuteRetention", Duration.ofHours(3));
+    ReflectionTestUtils.setField(adapter, "hourRetention", Duration.ofDays(30));
+    adapter.registerMetrics();
+    return adapter;
+  }
+
+  @Test
+  @DisplayName("Should add the client to the minute and hour HyperLogLogs with their retention")
+  void shouldAddClientToCurrentWindows() {
+    FakeRedisBatch redis = new FakeRedisBatch();
+    long minute = TimeGranularity.MINUTE.windowOf(System.currentTimeMillis());
+
+    adapter(redis).addClient(redis.client().createBatch(), "/api/currency/convert", "10.0.0.1");
+
+    List<String> commands = redis.getCommands();
+    assertEquals(4, commands.size());
+    assertTrue(commands.get(0).matches("addAsync rate-limit:clients:/api/currency/convert:m:\\d+ 10\\.0\\.0\\.1"));
+    assertTrue(commands.get(1).matches("expireAsync rate-limit:clients:/api/currency/convert:m:\\d+ PT3H"));
+    assertTrue(commands.get(2).matches("addAsync rate-limit:clients:/api/currency/convert:h:\\d+ 10\\.0\\.0\\.1"));
+    assertTrue(commands.get(3).matches("expireAsync rate-limit:clients:/api/currency/convert:h:\\d+ PT720H"));
+    String minuteKey = commands.get(0).split(" ")[1];
+    long written = Long.parseLong(minuteKey.substring(minuteKey.lastIndexOf(':') + 1));
+    // El minuto puede cambiar durante el test
+    assertTrue(written == minute || written == minute + 1);
+  }
+
+  @Test
+  @DisplayName("Should count each window and the union of all windows in one pipeline")
+  void shouldCountUniqueClients() {
+    FakeRedisBatch redis = new FakeRedisBatch()
+        .respond("countAsync", 5L)
+        .respond("countWithAsync", 9L);
+
+    UniqueClientReport report = adapter(redis)
+        .countUniqueClients("/api/currency/convert", TimeGranularity.HOUR, 3)
+        .block();
+
+    assertEquals(3, report.getWindows().size());
+    assertTrue(report.getWindows().stream().allMatch(window -> window.getUniqueClients() == 5L));
+    assertEquals(9L, report.getTotalUniqueClients());
+    assertTrue(report.getWindows().get(0).getWindowStart().isBefore(report.getWindows().get(2).getWindowStart()));
+
+    List<String> commands = redis.getCommands();
+    assertEquals(4, commands.size());
+    assertTrue(commands.get(3).startsWith("countWithAsync " + commands.get(0).substring("countAsync ".length())));
+  }
+}
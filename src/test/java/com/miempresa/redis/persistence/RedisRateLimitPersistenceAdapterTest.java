@@ -0,0 +1,61 @@
+package com.miempresa.redis.persistence;
+
+import com.miempresa.redis.domain.model.RequestInfo;
+import com.miempresa.redis.infrastructure.adapter.out.persistence.redis.RedisClientCardinalityAdapter;
+import com.miempresa.redis.infrastructure.adapter.out.persistence.redis.RedisRateLimitPersistenceAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedisRateLimitPersistenceAdapter
+ */
+@DisplayName("RedisRateLimitPersistenceAdapter Tests")
+class RedisRateLimitPersistenceAdapterTest {
+
+  private final RequestInfo request = RequestInfo.builder()
+      .endpoint("/api/currency/convert")
+      .clientIp("10.0.0.1")
+      .build();
+
+  @Test
+  @DisplayName("Should pipeline the quota script with the unique client registration")
+  void shouldPipelineClientTracking() {
+    FakeRedisBatch redis = new FakeRedisBatch().respond("evalAsync", 3L);
+    RedisClientCardinalityAdapter cardinality = RedisClientCardinalityAdapterTest.adapter(redis);
+    RedisRateLimitPersistenceAdapter adapter = new RedisRateLimitPersistenceAdapter(redis.client(), cardinality);
+
+    assertTrue(adapter.tryConsume(request, 10, 60, 1).block());
+
+    assertEquals(5, redis.getCommands().size());
+    assertTrue(redis.getCommands().get(0)
+        .startsWith("evalAsync [rate-limit:/api/currency/convert:10.0.0.1] [10, 1, 60]"));
+    assertTrue(redis.getCommands().get(1).startsWith("addAsync rate-limit:clients:/api/currency/convert:m:"));
+  }
+
+  @Test
+  @DisplayName("Should decide from the script result when the HyperLogLog commands fail")
+  void shouldIgnoreTrackingErrors() {
+    FakeRedisBatch redis = new FakeRedisBatch()
+        .respond("evalAsync", -1L)
+        .fail("addAsync", new IllegalStateException("WRONGTYPE"));
+    RedisClientCardinalityAdapter cardinality = RedisClientCardinalityAdapterTest.adapter(redis);
+    RedisRateLimitPersistenceAdapter adapter = new RedisRateLimitPersistenceAdapter(redis.client(), cardinality);
+
+    assertFalse(adapter.tryConsume(request, 10, 60, 1).block());
+    assertEquals(1, cardinality.getTrackingErrors());
+  }
+
+  @Test
+  @DisplayName("Should propagate a quota script error without counting it as a tracking error")
+  void shouldPropagateScriptErrors() {
+    FakeRedisBatch redis = new FakeRedisBatch()
+        .fail("evalAsync", new IllegalStateException("NOSCRIPT"));
+    RedisClientCardinalityAdapter cardinality = RedisClientCardinalityAdapterTest.adapter(redis);
+    RedisRateLimitPersistenceAdapter adapter = new RedisRateLimitPersistenceAdapter(redis.client(), cardinality);
+
+    assertThrows(IllegalStateException.class, () -> adapter.tryConsume(request, 10, 60, 1).block());
+    assertEquals(0, cardinality.getTrackingErrors());
+  }
+}
@@ -0,0 +1,102 @@
+package com.miempresa.redis.persistence;
+
+import com.miempresa.redis.infrastructure.adapter.out.redisson.RedissonLocalCachedDistributedCacheAdapter;
+import com.miempresa.redis.infrastructure.adapter.out.redisson.codec.RateLimitStateCodec;
+import com.miempresa.redis.infrastructure.config.RedissonRateLimitConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedissonLocalCachedDistributedCacheAdapter
+ */
+@DisplayName("RedissonLocalCachedDistributedCacheAdapter Tests")
+class RedissonLocalCachedDistributedCacheAdapterTest {
+
+  private final Map<String, Object> values = new ConcurrentHashMap<>();
+  private final AtomicInteger deletes = new AtomicInteger();
+  private RedissonLocalCachedDistributedCacheAdapter adapter;
+
+  private RedissonLocalCachedDistributedCacheAdapter adapter(int cacheTtlSeconds, int maxCacheSize) {
+    RedissonRateLimitConfig config = RedissonRateLimitConfig.builder()
+        .cacheTtl(cacheTtlSeconds)
+        .maxCacheSize(maxCacheSize)
+        .build();
+    adapter = new RedissonLocalCachedDistributedCacheAdapter(client(), config, new RateLimitStateCodec());
+    adapter.start();
+    return adapter;
+  }
+
+  @AfterEach
+  void tearDown() {
+    adapter.destroy();
+  }
+
+  @Test
+  @DisplayName("Should clear the map before adding a key beyond max-cache-size")
+  void shouldClearWhenFull() {
+    RedissonLocalCachedDistributedCacheAdapter adapter = adapter(600, 2);
+
+    adapter.put("/api/a", "a").block();
+    adapter.putIfAbsent("/api/b", "b").block();
+    adapter.put("/api/a", "a2").block();
+    assertEquals(0, deletes.get());
+
+    adapter.putIfAbsent("/api/c", "c").block();
+
+    assertEquals(1, deletes.get());
+    assertEquals(Map.of("/api/c", "c"), values);
+  }
+
+  @Test
+  @DisplayName("Should clear the map every cache-ttl")
+  void shouldExpireEntriesAfterTtl() throws InterruptedException {
+    RedissonLocalCachedDistributedCacheAdapter adapter = adapter(1, 100);
+    adapter.put("/api/a", "a").block();
+
+    Thread.sleep(1_500);
+
+    assertTrue(deletes.get() >= 1);
+    assertNull(adapter.get("/api/a", String.class).block());
+  }
+
+  @SuppressWarnings("unchecked")
+  private RedissonClient client() {
+    RLocalCachedMap<String, Object> map = (RLocalCachedMap<String, Object>) Proxy.newProxyInstance(
+        RLocalCachedMap.class.getClassLoader(), new Class<?>[] { RLocalCachedMap.class },
+        (instance, method, args) -> switch (method.getName()) {
+          case "getAsync" -> new CompletableFutureWrapper<>(values.get((String) args[0]));
+          case "fastPutAsync" -> new CompletableFutureWrapper<>(values.put((String) args[0], args[1]) == null);
+          case "fastPutIfAbsentAsync" -> new CompletableFutureWrapper<>(
+              values.putIfAbsent((String) args[0], args[1]) == null);
+          case "containsKeyAsync" -> new CompletableFutureWrapper<>(values.containsKey((String) args[0]));
+          case "sizeAsync" -> new CompletableFutureWrapper<>(values.size());
+          case "deleteAsync" -> {
+            deletes.incrementAndGet();
+            boolean deleted = !values.isEmpty();
+            values.clear();
+            yield new CompletableFutureWrapper<>(deleted);
+          }
+          case "destroy" -> null;
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+
+    return (RedissonClient) Proxy.newProxyInstance(RedissonClient.class.getClassLoader(),
+        new Class<?>[] { RedissonClient.class }, (instance, method, args) -> {
+          if (method.getName().equals("getLocalCachedMap")) {
+            return map;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+}
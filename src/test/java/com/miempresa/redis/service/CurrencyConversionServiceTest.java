@@ -0,0 +1,137 @@
+package com.miempresa.redis.service;
+
+import com.miempresa.redis.application.port.out.ExchangeRateProviderPort;
+import com.miempresa.redis.application.service.CurrencyConversionService;
+import com.miempresa.redis.domain.model.CurrencyConversion;
+import com.miempresa.redis.domain.model.CurrencyConversionRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase CurrencyConversionService
+ */
+@DisplayName("CurrencyConversionService Tests")
+class CurrencyConversionServiceTest {
+
+  private final CountingRateProvider rateProvider = new CountingRateProvider();
+  private final CurrencyConversionService service = new CurrencyConversionService(rateProvider);
+
+  @Test
+  @DisplayName("Should resolve each distinct pair once per batch and keep the input order")
+  void shouldResolveEachPairOncePerBatch() {
+    Flux<CurrencyConversionRequest> requests = Flux.range(0, 1000)
+        .map(i -> i % 2 == 0
+            ? request("100", "PEN", "USD")
+            : request("100", "usd", "pen"));
+
+    List<CurrencyConversion> conversions = service.convertBatch(requests).collectList().block();
+
+    assertEquals(1000, conversions.size());
+    assertEquals(new BigDecimal("26.32"), conversions.get(0).getConvertedAmount());
+    assertEquals(new BigDecimal("379.94"), conversions.get(1).getConvertedAmount());
+    assertEquals("USD", conversions.get(1).getSourceCurrency());
+    assertEquals(1, rateProvider.calls.get("PEN:USD").get());
+    assertEquals(1, rateProvider.calls.get("USD:PEN").get());
+  }
+
+  @Test
+  @DisplayName("Should report invalid items without interrupting the batch")
+  void shouldReportInvalidItems() {
+    Flux<CurrencyConversionRequest> requests = Flux.just(
+        request("-5", "PEN", "USD"),
+        request("100", "PEN", "EUR"),
+        request("100", "PEN", null),
+        request("38", "PEN", "USD"));
+
+    List<CurrencyConversion> conversions = service.convertBatch(requests).collectList().block();
+
+    assertEquals(4, conversions.size());
+    assertEquals("El monto debe ser mayor a 0", conversions.get(0).getError());
+    assertNotNull(conversions.get(1).getError());
+    assertNotNull(conversions.get(2).getError());
+    assertNull(conversions.get(3).getError());
+    assertEquals(new BigDecimal("10.00"), conversions.get(3).getConvertedAmount());
+  }
+
+  @Test
+  @DisplayName("Should call a blocking provider outside the calling thread")
+  void shouldCallBlockingProviderOnBoundedElastic() {
+    CountingRateProvider blockingProvider = new CountingRateProvider(true);
+    CurrencyConversionService blockingService = new CurrencyConversionService(blockingProvider);
+
+    Mono<CurrencyConversion> conversion = blockingService.convertCurrency(new BigDecimal("100"), "PEN", "USD", null);
+    assertNull(blockingProvider.callerThread);
+
+    assertEquals(new BigDecimal("26.32"), conversion.block().getConvertedAmount());
+    assertTrue(blockingProvider.callerThread.startsWith("boundedElastic"));
+
+    blockingService.getExchangeRate("USD", "PEN").block();
+    assertTrue(blockingProvider.callerThread.startsWith("boundedElastic"));
+  }
+
+  private static CurrencyConversionRequest request(String amount, String source, String target) {
+    return CurrencyConversionRequest.builder()
+        .amount(new BigDecimal(amount))
+        .sourceCurrency(source)
+        .targetCurrency(target)
+        .build();
+  }
+
+  private static class CountingRateProvider implements ExchangeRateProviderPort {
+    private final Map<String, BigDecimal> rates = Map.of(
+        "PEN:USD", new BigDecimal("3.8"),
+        "USD:PEN", new BigDecimal("0.2632"));
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final boolean blocking;
+    private volatile String callerThread;
+
+    CountingRateProvider() {
+      this(false);
+    }
+
+    CountingRateProvider(boolean blocking) {
+      this.blocking = blocking;
+    }
+
+    @Override
+    public boolean isBlocking() {
+      return blocking;
+    }
+
+    @Override
+    public Mono<BigDecimal> getExchangeRate(String sourceCurrency, String targetCurrency) {
+      callerThread = Thread.currentThread().getName();
+      String pair = sourceCurrency + ":" + targetCurrency;
+      calls.computeIfAbsent(pair, key -> new AtomicInteger()).incrementAndGet();
+      BigDecimal rate = rates.get(pair);
+      return rate != null
+          ? Mono.just(rate)
+          : Mono.error(new IllegalArgumentException("Tasa de cambio no disponible para " + pair));
+    }
+
+    @Override
+    public Mono<BigDecimal> getDefaultPENtoUSDRate() {
+      return Mono.just(rates.get("PEN:USD"));
+    }
+
+    @Override
+    public Mono<BigDecimal> getDefaultUSDtoPENRate() {
+      return Mono.just(rates.get("USD:PEN"));
+    }
+
+    @Override
+    public boolean isValidExchangeRate(BigDecimal rate) {
+      return rate != null && rate.compareTo(BigDecimal.ZERO) > 0;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.miempresa.redis.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.miempresa.redis.application.service.LocalRateLimiter;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RequestInfo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase LocalRateLimiter
+ */
+@DisplayName("LocalRateLimiter Tests")
+class LocalRateLimiterTest {
+
+  private final RateLimitConfig config = RateLimitConfig.builder()
+      .endpoint("/api/currency/convert")
+      .maxRequests(5)
+      .timeWindowSeconds(3600)
+      .enabled(true)
+      .build();
+
+  private RequestInfo request(String clientIp) {
+    return RequestInfo.builder()
+        .endpoint("/api/currency/convert")
+        .clientIp(clientIp)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should allow requests until the cost reaches the limit")
+  void shouldRejectOverLimit() {
+    LocalRateLimiter limiter = new LocalRateLimiter();
+
+    assertTrue(limiter.tryConsume(request("10.0.0.1"), config, 3).isAllowed());
+    assertTrue(limiter.tryConsume(request("10.0.0.1"), config, 2).isAllowed());
+    assertFalse(limiter.tryConsume(request("10.0.0.1"), config, 1).isAllowed());
+  }
+
+  @Test
+  @DisplayName("Should not consume units when the request is rejected")
+  void shouldNotConsumeRejectedCost() {
+    LocalRateLimiter limiter = new LocalRateLimiter();
+
+    assertTrue(limiter.tryConsume(request("10.0.0.1"), config, 4).isAllowed());
+    assertFalse(limiter.tryConsume(request("10.0.0.1"), config, 2).isAllowed());
+    assertTrue(limiter.tryConsume(request("10.0.0.1"), config, 1).isAllowed());
+  }
+
+  @Test
+  @DisplayName("Should admit the released units again")
+  void shouldReleaseUnits() {
+    LocalRateLimiter limiter = new LocalRateLimiter();
+
+    assertTrue(limiter.tryConsume(request("10.0.0.1"), config, 5).isAllowed());
+    limiter.release(request("10.0.0.1"), config, 2);
+    assertTrue(limiter.tryConsume(request("10.0.0.1"), config, 2).isAllowed());
+    assertFalse(limiter.tryConsume(request("10.0.0.1"), config, 1).isAllowed());
+    assertEquals(1.0, limiter.getLimitRatio());
+  }
+
+  @Test
+  @DisplayName("Should keep separate windows per client")
+  void shouldTrackClientsSeparately() {
+    LocalRateLimiter limiter = new LocalRateLimiter();
+
+    assertTrue(limiter.tryConsume(request("10.0.0.1"), config, 5).isAllowed());
+    assertTrue(limiter.tryConsume(request("10.0.0.2"), config, 5).isAllowed());
+    assertEquals(2, limiter.size());
+  }
+}
@@ -0,0 +1,64 @@
+package com.miempresa.redis.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.miempresa.redis.application.service.RateLimitConfigLocalCache;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RateLimitConfigLocalCache
+ */
+@DisplayName("RateLimitConfigLocalCache Tests")
+class RateLimitConfigLocalCacheTest {
+
+  private RateLimitConfig config(int maxRequests, long version) {
+    return RateLimitConfig.builder()
+        .endpoint("/api/health")
+        .maxRequests(maxRequests)
+        .timeWindowSeconds(60)
+        .enabled(true)
+        .version(version)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should replace an entry with a newer version")
+  void shouldReplaceWithNewerVersion() {
+    RateLimitConfigLocalCache cache = new RateLimitConfigLocalCache();
+
+    cache.put(config(5, 1));
+    RateLimitConfig current = cache.put(config(10, 2));
+
+    assertEquals(10, current.getMaxRequests());
+    assertEquals(2, current.getVersion());
+  }
+
+  @Test
+  @DisplayName("Should keep the newer entry when a stale version arrives")
+  void shouldIgnoreStaleVersion() {
+    RateLimitConfigLocalCache cache = new RateLimitConfigLocalCache();
+
+    cache.put(config(10, 3));
+    RateLimitConfig current = cache.put(config(5, 2));
+
+    assertEquals(10, current.getMaxRequests());
+    assertEquals(3, current.getVersion());
+  }
+
+  @Test
+  @DisplayName("Should apply the version check to bulk preloads")
+  void shouldIgnoreStaleVersionOnPutAll() {
+    RateLimitConfigLocalCache cache = new RateLimitConfigLocalCache();
+
+    cache.put(config(10, 4));
+    cache.putAll(List.of(config(5, 1)));
+
+    assertEquals(10, cache.put(config(1, 0)).getMaxRequests());
+    assertEquals(1, cache.size());
+  }
+}
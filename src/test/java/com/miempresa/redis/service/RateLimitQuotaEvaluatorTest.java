@@ -0,0 +1,171 @@
+package com.miempresa.redis.service;
+
+import com.miempresa.redis.application.port.out.RateLimitPersistencePort;
+import com.miempresa.redis.application.service.LocalRateLimiter;
+import com.miempresa.redis.application.service.RateLimitQuotaEvaluator;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RateLimitDecision;
+import com.miempresa.redis.domain.model.RequestInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RateLimitQuotaEvaluator
+ */
+@DisplayName("RateLimitQuotaEvaluator Tests")
+class RateLimitQuotaEvaluatorTest {
+
+  private final RateLimitConfig config = RateLimitConfig.builder()
+      .endpoint("/api/currency/convert")
+      .maxRequests(2)
+      .timeWindowSeconds(3600)
+      .enabled(true)
+      .build();
+
+  private final RequestInfo request = RequestInfo.builder()
+      .endpoint("/api/currency/convert")
+      .clientIp("10.0.0.1")
+      .build();
+
+  private final SlowPersistencePort persistencePort = new SlowPersistencePort();
+  private final LocalRateLimiter localRateLimiter = new LocalRateLimiter();
+  private final RateLimitQuotaEvaluator evaluator = new RateLimitQuotaEvaluator(persistencePort, localRateLimiter);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(evaluator, "decisionTimeout", Duration.ofMillis(20));
+  }
+
+  @Test
+  @DisplayName("Should decide locally on timeout without cancelling the Redis operation")
+  void shouldKeepRedisOperationRunning() {
+    RateLimitDecision decision = evaluator.consume(request, config).block(Duration.ofSeconds(1));
+
+    assertTrue(decision.isAllowed());
+    assertFalse(persistencePort.cancelled.get());
+  }
+
+  @Test
+  @DisplayName("Should release the local units when Redis counts the request late")
+  void shouldReleaseLocalUnitsWhenRedisCounts() {
+    evaluator.consume(request, config).block(Duration.ofSeconds(1));
+    evaluator.consume(request, config).block(Duration.ofSeconds(1));
+    assertFalse(localRateLimiter.tryConsume(request, config, 1).isAllowed());
+
+    persistencePort.reply(true);
+
+    assertTrue(localRateLimiter.tryConsume(request, config, 2).isAllowed());
+  }
+
+  @Test
+  @DisplayName("Should keep the local units when Redis rejects the request late")
+  void shouldKeepLocalUnitsWhenRedisRejects() {
+    evaluator.consume(request, config).block(Duration.ofSeconds(1));
+    evaluator.consume(request, config).block(Duration.ofSeconds(1));
+
+    persistencePort.reply(false);
+
+    assertFalse(localRateLimiter.tryConsume(request, config, 1).isAllowed());
+  }
+
+  @Test
+  @DisplayName("Should use the Redis decision when it arrives within the budget")
+  void shouldUseRedisDecision() {
+    persistencePort.reply(false);
+
+    RateLimitDecision decision = evaluator.consume(request, config).block(Duration.ofSeconds(1));
+
+    assertFalse(decision.isAllowed());
+    assertTrue(localRateLimiter.tryConsume(request, config, 2).isAllowed());
+  }
+
+  @Test
+  @DisplayName("Should not reserve a delay when the local delay queue is full")
+  void shouldNotReserveDelayWithoutQueueSlot() {
+    RateLimitConfig delayConfig = config.toBuilder().maxDelayMillis(1000).build();
+
+    evaluator.consume(request, delayConfig).block(Duration.ofSeconds(1));
+    assertEquals(1000, persistencePort.lastMaxDelayMillis.get());
+
+    evaluator.consume(request.toBuilder().delayAllowed(false).build(), delayConfig).block(Duration.ofSeconds(1));
+    assertEquals(0, persistencePort.lastMaxDelayMillis.get());
+  }
+
+  /**
+   * Persistencia que responde tryConsume solo cuando el test lo indica
+   */
+  private static class SlowPersistencePort implements RateLimitPersistencePort {
+
+    private final Sinks.One<Boolean> result = Sinks.one();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicLong lastMaxDelayMillis = new AtomicLong(-1);
+
+    void reply(boolean allowed) {
+      result.tryEmitValue(allowed);
+    }
+
+    @Override
+    public Mono<Boolean> tryConsume(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost) {
+      return result.asMono().doOnCancel(() -> cancelled.set(true));
+    }
+
+    @Override
+    public Mono<Integer> getCurrentRequestCount(RequestInfo requestInfo) {
+      return Mono.just(0);
+    }
+
+    @Override
+    public Mono<Void> incrementRequestCount(RequestInfo requestInfo, int timeWindowSeconds) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<Long> reserve(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost,
+        long maxDelayMillis) {
+      lastMaxDelayMillis.set(maxDelayMillis);
+      return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<RateLimitConfig> getConfiguration(String endpoint) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<RateLimitConfig> saveConfiguration(RateLimitConfig config) {
+      return Mono.just(config);
+    }
+
+    @Override
+    public Mono<RateLimitConfig> compareAndSetConfiguration(RateLimitConfig config, long expectedVersion) {
+      return Mono.just(config);
+    }
+
+    @Override
+    public Mono<List<RateLimitConfig>> saveConfigurations(List<RateLimitConfig> configs) {
+      return Mono.just(configs);
+    }
+
+    @Override
+    public Flux<RateLimitConfig> findAllConfigurations() {
+      return Flux.empty();
+    }
+
+    @Override
+    public Mono<Void> clearRateLimitData(String endpoint) {
+      return Mono.empty();
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.miempresa.redis.service;
+
+import com.miempresa.redis.application.port.out.DistributedCachePort;
+import com.miempresa.redis.application.port.out.RateLimitPersistencePort;
+import com.miempresa.redis.application.service.LocalRateLimiter;
+import com.miempresa.redis.application.service.RateLimitConfigLocalCache;
+import com.miempresa.redis.application.service.RateLimitQuotaEvaluator;
+import com.miempresa.redis.application.service.RedissonRateLimitService;
+import com.miempresa.redis.domain.model.RateLimitConfig;
+import com.miempresa.redis.domain.model.RequestInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitarios para la clase RedissonRateLimitService
+ */
+@DisplayName("RedissonRateLimitService Tests")
+class RedissonRateLimitServiceTest {
+
+  private static final String ENDPOINT = "/api/health";
+
+  private final ControlledPersistencePort persistencePort = new ControlledPersistencePort();
+  private final InMemoryCachePort distributedCache = new InMemoryCachePort();
+
+  private RedissonRateLimitService node() {
+    RateLimitConfigLocalCache localCache = new RateLimitConfigLocalCache();
+    ReflectionTestUtils.setField(localCache, "refreshMillis", 5000L);
+    RateLimitQuotaEvaluator evaluator = new RateLimitQuotaEvaluator(persistencePort, new LocalRateLimiter());
+    RedissonRateLimitService service = new RedissonRateLimitService(persistencePort, endpoint -> endpoint,
+        distributedCache, evaluator, localCache);
+    ReflectionTestUtils.setField(service, "decisionTimeout", Duration.ofSeconds(1));
+    return service;
+  }
+
+  @Test
+  @DisplayName("Should not leave an older version in the distributed cache when two writes interleave")
+  void shouldNotCacheStaleVersionOnInterleavedWrites() {
+    RedissonRateLimitService writer = node();
+
+    // A guarda primero (v5) pero termina después que B (v6)
+    Mono<Void> slowWrite = writer.updateConfiguration(ENDPOINT, 5, 60, true).cache();
+    slowWrite.subscribe();
+    Mono<Void> fastWrite = writer.updateConfiguration(ENDPOINT, 6, 60, true).cache();
+    fastWrite.subscribe();
+
+    persistencePort.completeSave(1);
+    fastWrite.block(Duration.ofSeconds(1));
+    persistencePort.completeSave(0);
+    slowWrite.block(Duration.ofSeconds(1));
+
+    assertNull(distributedCache.values.get(ENDPOINT));
+    assertEquals(6, writer.getConfiguration(ENDPOINT).block().getVersion());
+    // Otro nodo sin cache local lee la versión vigente
+    assertEquals(6, node().getConfiguration(ENDPOINT).block().getVersion());
+    assertEquals(6, ((RateLimitConfig) distributedCache.values.get(ENDPOINT)).getVersion());
+  }
+
+  /**
+   * Persistencia en memoria cuyas escrituras se confirman cuando el test lo
+   * indica; cada escritura recibe la versión siguiente al llegar
+   */
+  private static class ControlledPersistencePort implements RateLimitPersistencePort {
+
+    private final List<Sinks.One<RateLimitConfig>> pendingSaves = new ArrayList<>();
+    private final List<RateLimitConfig> saved = new ArrayList<>();
+    private RateLimitConfig stored;
+
+    void completeSave(int index) {
+      RateLimitConfig config = saved.get(index);
+      // Redis conserva la versión mayor
+      if (stored == null || config.getVersion() > stored.getVersion()) {
+        stored = config;
+      }
+      pendingSaves.get(index).tryEmitValue(config);
+    }
+
+    @Override
+    public Mono<RateLimitConfig> saveConfiguration(RateLimitConfig config) {
+      Sinks.One<RateLimitConfig> sink = Sinks.one();
+      pendingSaves.add(sink);
+      saved.add(config.toBuilder().version(saved.size() + 5L).build());
+      return sink.asMono();
+    }
+
+    @Override
+    public Mono<RateLimitConfig> getConfiguration(String endpoint) {
+      return Mono.justOrEmpty(stored);
+    }
+
+    @Override
+    public Mono<Boolean> tryConsume(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost) {
+      return Mono.just(true);
+    }
+
+    @Override
+    public Mono<Integer> getCurrentRequestCount(RequestInfo requestInfo) {
+      return Mono.just(0);
+    }
+
+    @Override
+    public Mono<Void> incrementRequestCount(RequestInfo requestInfo, int timeWindowSeconds) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<Long> reserve(RequestInfo requestInfo, int maxRequests, int timeWindowSeconds, int cost,
+        long maxDelayMillis) {
+      return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<RateLimitConfig> compareAndSetConfiguration(RateLimitConfig config, long expectedVersion) {
+      return Mono.empty();
+    }
+
+    @Override
+    public Mono<List<RateLimitConfig>> saveConfigurations(List<RateLimitConfig> configs) {
+      return Mono.just(configs);
+    }
+
+    @Override
+    public Flux<RateLimitConfig> findAllConfigurations() {
+      return Flux.fromIterable(saved);
+    }
+
+    @Override
+    public Mono<Void> clearRateLimitData(String endpoint) {
+      return Mono.empty();
+    }
+  }
+
+  /**
+   * Cache distribuido en memoria sin expiración
+   */
+  private static class InMemoryCachePort implements DistributedCachePort {
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> Mono<T> get(String key, Class<T> valueType) {
+      return Mono.justOrEmpty(valueType.cast(values.get(key)));
+    }
+
+    @Override
+    public <T> Mono<Void> put(String key, T value) {
+      return Mono.fromRunnable(() -> values.put(key, value));
+    }
+
+    @Override
+    public <T> Mono<Void> putIfAbsent(String key, T value) {
+      return Mono.fromRunnable(() -> values.putIfAbsent(key, value));
+    }
+
+    @Override
+    public <T> Mono<Void> put(String key, T value, long ttl) {
+      return put(key, value);
+    }
+
+    @Override
+    public Mono<Void> remove(String key) {
+      return Mono.fromRunnable(() -> values.remove(key));
+    }
+
+    @Override
+    public Mono<Void> removeAll(Collection<String> keys) {
+      return Mono.fromRunnable(() -> keys.forEach(values::remove));
+    }
+
+    @Override
+    public Mono<Boolean> containsKey(String key) {
+      return Mono.just(values.containsKey(key));
+    }
+
+    @Override
+    public Mono<Long> getTtl(String key) {
+      return Mono.just(-1L);
+    }
+
+    @Override
+    public Mono<Void> expire(String key, long ttl) {
+      return Mono.empty();
+    }
+  }
+}